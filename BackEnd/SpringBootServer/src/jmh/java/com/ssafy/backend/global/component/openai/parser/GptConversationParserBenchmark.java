@@ -0,0 +1,65 @@
+package com.ssafy.backend.global.component.openai.parser;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.backend.global.component.openai.dto.Conversation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GPT 대화 응답 파싱 방식을 비교하는 벤치마크입니다.
+ * 요청마다 ObjectMapper를 만들고 JsonNode 트리를 거치던 이전 방식과 {@link GptConversationParser}를 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GptConversationParserBenchmark {
+
+    private static final String RESPONSE = "{\"conversation\":{" +
+            "\"gpt_japanese\":\"いらっしゃいませ。ご予約のお名前を伺ってもよろしいですか？\"," +
+            "\"gpt_korean\":\"어서 오세요. 예약하신 분의 성함을 여쭤봐도 될까요?\"," +
+            "\"user_tip_japanese\":\"はい、キムと申します。二名で予約しています。\"," +
+            "\"user_tip_korean\":\"네, 김이라고 합니다. 두 명으로 예약했습니다.\"}}";
+
+    private static final String RESPONSE_IN_CODE_BLOCK = "다음은 응답입니다.\n```json\n" + RESPONSE + "\n```";
+
+    private static final String BROKEN_RESPONSE = RESPONSE.substring(0, RESPONSE.length() - 2) + ",}}";
+
+    private GptConversationParser parser;
+
+    @Setup
+    public void setUp() {
+        parser = new GptConversationParser(new ObjectMapper(), new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public Conversation treePerCall() throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode root = mapper.readTree(RESPONSE);
+        return mapper.treeToValue(root.path("conversation"), Conversation.class);
+    }
+
+    @Benchmark
+    public Conversation sharedReader() throws IOException {
+        return parser.parse(RESPONSE, false);
+    }
+
+    @Benchmark
+    public Conversation sharedReaderInCodeBlock() throws IOException {
+        return parser.parse(RESPONSE_IN_CODE_BLOCK, false);
+    }
+
+    @Benchmark
+    public Conversation sharedReaderRepaired() throws IOException {
+        return parser.parse(BROKEN_RESPONSE, false);
+    }
+}
@@ -0,0 +1,112 @@
+package com.ssafy.backend.global.component.openai.repository;
+
+import com.ssafy.backend.domain.aichat.entity.enums.AiChatCategory;
+import com.ssafy.backend.global.component.openai.codec.GptConversationSummaryCodec;
+import com.ssafy.backend.global.component.openai.codec.GptDialogueMessageCodec;
+import com.ssafy.backend.global.component.openai.codec.GptSetupReferenceCodec;
+import com.ssafy.backend.global.component.openai.dto.GptChatSession;
+import com.ssafy.backend.global.component.openai.dto.GptConversationSummary;
+import com.ssafy.backend.global.component.openai.dto.GptDialogueMessage;
+import com.ssafy.backend.global.component.openai.dto.GptSetupReference;
+import com.ssafy.backend.global.component.redis.CompactRedisSerializer;
+import com.ssafy.backend.global.component.redis.RedisValueCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple3;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅방 대화 상태 조회의 Redis 왕복 비용을 비교하는 벤치마크입니다.
+ * 대화 내역 스크립트와 설정 참조, 요약 GET을 따로 보내던 이전 방식과, 스크립트 하나로 모두 조회하는 {@link OpenAiRepository}를 비교합니다.
+ * 실행 중인 Redis가 필요하며, 주소는 {@code -Dredis.host}, {@code -Dredis.port}로 지정합니다. (기본값 localhost:6379)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OpenAiRepositorySessionBenchmark {
+
+    private static final long ROOM_ID = -1L; // 실제 채팅방과 겹치지 않는 ID
+    private static final int HISTORY_MESSAGES = 20;
+
+    // 이전 방식의 대화 내역 스크립트 ([삭제된 메시지 수, 메시지...])
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> HISTORY_ONLY_SCRIPT = new DefaultRedisScript<>(
+            "local result = {tonumber(redis.call('GET', KEYS[4]) or '0')}\n"
+                    + "for _, message in ipairs(redis.call('LRANGE', KEYS[1], 0, -1)) do table.insert(result, message) end\n"
+                    + "return result", List.class);
+
+    private LettuceConnectionFactory connectionFactory;
+    private ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
+    private OpenAiRepository openAiRepository;
+    private List<String> sessionKeys;
+
+    @Setup
+    public void setUp() {
+        connectionFactory = new LettuceConnectionFactory(System.getProperty("redis.host", "localhost"),
+                Integer.getInteger("redis.port", 6379));
+        connectionFactory.afterPropertiesSet();
+
+        List<RedisValueCodec<?>> codecs = List.of(new GptDialogueMessageCodec(), new GptSetupReferenceCodec(), new GptConversationSummaryCodec());
+        CompactRedisSerializer serializer = new CompactRedisSerializer(new GenericJackson2JsonRedisSerializer(), codecs, true);
+        RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(serializer);
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+        reactiveRedisTemplate = new ReactiveRedisTemplate<>(connectionFactory, RedisSerializationContext
+                .<String, Object>newSerializationContext(serializer)
+                .key(new StringRedisSerializer())
+                .build());
+        openAiRepository = new OpenAiRepository(redisTemplate, reactiveRedisTemplate);
+        sessionKeys = List.of("aiChatHistory::" + ROOM_ID, "openAiSetup::" + ROOM_ID,
+                "aiChatSummary::" + ROOM_ID, "aiChatHistoryTrimmed::" + ROOM_ID);
+
+        openAiRepository.deleteAiChatSetupAndHistory(ROOM_ID).block();
+        openAiRepository.saveOpenAiSetup(ROOM_ID, new GptSetupReference(AiChatCategory.values()[0], 1, false)).block();
+        openAiRepository.saveAiChatSummary(ROOM_ID, new GptConversationSummary("이전 대화 요약", 10)).block();
+        List<GptDialogueMessage> messages = new ArrayList<>();
+        for (int i = 0; i < HISTORY_MESSAGES; i++) {
+            messages.add(new GptDialogueMessage(i % 2 == 0 ? "user" : "assistant", "メッセージ " + i));
+        }
+        openAiRepository.appendAiChatHistory(ROOM_ID, messages).block();
+    }
+
+    @TearDown
+    public void tearDown() {
+        openAiRepository.deleteAiChatSetupAndHistory(ROOM_ID).block();
+        connectionFactory.destroy();
+    }
+
+    @Benchmark
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Tuple3<List<Object>, Object, Object> scriptAndTwoGets() {
+        Mono<List<Object>> history = ((Flux) reactiveRedisTemplate.execute(HISTORY_ONLY_SCRIPT, sessionKeys, List.of())).collectList();
+        Mono<Object> setup = reactiveRedisTemplate.opsForValue().get(sessionKeys.get(1)).defaultIfEmpty("");
+        Mono<Object> summary = reactiveRedisTemplate.opsForValue().get(sessionKeys.get(2)).defaultIfEmpty("");
+        return Mono.zip(history, setup, summary).block();
+    }
+
+    @Benchmark
+    public GptChatSession singleScript() {
+        return openAiRepository.findAiChatSession(ROOM_ID).block();
+    }
+}
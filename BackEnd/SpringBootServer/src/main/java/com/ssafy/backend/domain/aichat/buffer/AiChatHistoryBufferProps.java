@@ -0,0 +1,25 @@
+package com.ssafy.backend.domain.aichat.buffer;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 대화 내역 쓰기 버퍼({@link AiChatHistoryWriteBuffer}) 설정 값을 관리하는 레코드입니다.
+ *
+ * @param capacity 버퍼에 보관할 수 있는 최대 대화 내역 수 (가득 차면 저장이 지연됨)
+ * @param batchSize 한 번의 INSERT로 저장할 최대 대화 내역 수 (버퍼에 이만큼 쌓이면 바로 저장)
+ * @param flushInterval 버퍼를 주기적으로 비우는 간격
+ * @param recoveryInterval 중단된 서버가 남긴 대화 내역을 확인하는 간격
+ * @param recoveryAge 이 시간이 지나도록 Redis에 남아있는 대화 내역은 중단된 서버의 것으로 보고 저장
+ */
+@ConfigurationProperties(prefix = "aichat.history-buffer")
+public record AiChatHistoryBufferProps(
+        @DefaultValue("10000") int capacity,
+        @DefaultValue("100") int batchSize,
+        @DefaultValue("100ms") Duration flushInterval,
+        @DefaultValue("1m") Duration recoveryInterval,
+        @DefaultValue("2m") Duration recoveryAge
+) {
+}
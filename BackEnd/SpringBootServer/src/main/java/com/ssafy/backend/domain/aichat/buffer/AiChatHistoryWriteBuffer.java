@@ -0,0 +1,258 @@
+package com.ssafy.backend.domain.aichat.buffer;
+
+import com.ssafy.backend.domain.aichat.dto.PendingAiChatHistory;
+import com.ssafy.backend.domain.aichat.entity.AiChatHistory;
+import com.ssafy.backend.domain.aichat.entity.enums.AiChatSender;
+import com.ssafy.backend.domain.aichat.repository.AiChatHistoryBatchRepository;
+import com.ssafy.backend.global.component.jpa.EntityIdGenerator;
+import com.ssafy.backend.global.component.openai.repository.OpenAiRepository;
+import com.ssafy.backend.global.component.scheduler.BlockingSchedulers;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 대화 내역(AiChatHistory) INSERT를 모아서 저장하는 쓰기 버퍼입니다.
+ * 대화 내역은 Redis에 먼저 보관한 뒤 메모리 버퍼에 넣고, 버퍼에 {@link AiChatHistoryBufferProps#batchSize()}만큼 쌓이거나
+ * {@link AiChatHistoryBufferProps#flushInterval()}이 지나면 하나의 배치 INSERT로 저장한 뒤 Redis 보관본을 삭제합니다.
+ * 대화 내역 ID는 버퍼에 넣기 전에 엔티티의 ID 생성기에서 미리 할당받으므로, 호출자는 DB 저장을 기다리지 않고 ID를 사용할 수 있습니다.
+ * 서버가 중단되어 저장되지 못한 대화 내역은 {@link AiChatHistoryBufferProps#recoveryAge()}가 지난 뒤 다른 서버(또는 재시작한 서버)가
+ * Redis 보관본에서 꺼내 같은 ID로 저장하므로, Redis 보관본을 삭제하기 전에 중단되어 다시 저장하더라도 중복되지 않습니다.
+ * 저장 시간, 버퍼 크기, 저장 건수는 {@code aichat.history.buffer.*} 메트릭으로 확인합니다.
+ * Redis 보관본은 리액티브 클라이언트로 접근하며, 저장과 복구는 전용 스레드에서 실행되므로 보관본 삭제와 복구 조회는 완료를 기다립니다.
+ */
+@Slf4j
+@Component
+public class AiChatHistoryWriteBuffer {
+
+    private static final int MAX_OFFER_ATTEMPTS = 50; // 버퍼가 가득 찼을 때 저장 주기마다 다시 시도할 횟수
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final AiChatHistoryBufferProps props;
+    private final AiChatHistoryBatchRepository aiChatHistoryBatchRepository;
+    private final OpenAiRepository openAiRepository;
+    private final EntityIdGenerator entityIdGenerator;
+    private final BlockingSchedulers blockingSchedulers;
+    private final BlockingQueue<PendingAiChatHistory> queue;
+    private final Set<String> ownedIds = ConcurrentHashMap.newKeySet(); // 이 서버가 저장할 대화 내역의 보관용 ID (복구 대상에서 제외)
+    private final ScheduledExecutorService flushExecutor;
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Timer flushTimer;
+    private final Counter flushedCounter;
+    private final Counter failedCounter;
+    private final Counter recoveredCounter;
+
+    public AiChatHistoryWriteBuffer(AiChatHistoryBufferProps props,
+                                    AiChatHistoryBatchRepository aiChatHistoryBatchRepository,
+                                    OpenAiRepository openAiRepository,
+                                    EntityIdGenerator entityIdGenerator,
+                                    BlockingSchedulers blockingSchedulers,
+                                    MeterRegistry meterRegistry) {
+        this.props = props;
+        this.aiChatHistoryBatchRepository = aiChatHistoryBatchRepository;
+        this.openAiRepository = openAiRepository;
+        this.entityIdGenerator = entityIdGenerator;
+        this.blockingSchedulers = blockingSchedulers;
+        this.queue = new ArrayBlockingQueue<>(props.capacity());
+        this.flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "AiChatHistoryFlush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.flushTimer = meterRegistry.timer("aichat.history.buffer.flush.time");
+        this.flushedCounter = meterRegistry.counter("aichat.history.buffer.rows", "result", "flushed");
+        this.failedCounter = meterRegistry.counter("aichat.history.buffer.rows", "result", "failed");
+        this.recoveredCounter = meterRegistry.counter("aichat.history.buffer.rows", "result", "recovered");
+        Gauge.builder("aichat.history.buffer.depth", queue, BlockingQueue::size).register(meterRegistry);
+    }
+
+    /**
+     * 주기적인 저장과 중단된 서버의 대화 내역 복구를 시작합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        long flushInterval = props.flushInterval().toMillis();
+        flushExecutor.scheduleWithFixedDelay(this::flushSafely, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+        flushExecutor.scheduleWithFixedDelay(this::recoverSafely, 0, props.recoveryInterval().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 대화 내역을 버퍼에 넣습니다. Redis에 보관된 뒤 완료되며, DB 저장은 기다리지 않습니다.
+     *
+     * @param roomId 채팅방 ID
+     * @param sender 메시지 발신자
+     * @param content 메시지 내용
+     * @return 미리 할당받은 대화 내역 ID
+     */
+    public Mono<Long> write(Long roomId, AiChatSender sender, String content) {
+        // 대화 내역 ID는 저장 순서를 지키기 위해 하나씩 시퀀스 테이블에서 할당받으므로 JPA 전용 스케줄러에서 할당받습니다.
+        return Mono.fromCallable(() -> entityIdGenerator.nextId(AiChatHistory.class))
+                .subscribeOn(blockingSchedulers.jpa())
+                .flatMap(historyId -> enqueue(historyId, roomId, sender, content))
+                .publishOn(Schedulers.parallel()); // 이후 처리가 JPA 전용 스케줄러를 점유하지 않도록 합니다.
+    }
+
+    /**
+     * 버퍼의 대화 내역을 모두 저장할 때까지 기다립니다. 레포트 생성처럼 DB의 대화 내역을 읽기 전에 호출하며, 블로킹 호출입니다.
+     */
+    public void flushAndWait() {
+        try {
+            flushExecutor.submit(this::flushSafely).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.warn("대화 내역 버퍼를 비우지 못했습니다.", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        flushExecutor.execute(this::flushSafely); // 종료 전에 남은 대화 내역을 저장합니다.
+        flushExecutor.shutdown();
+        if (!flushExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            log.warn("대화 내역 버퍼를 모두 비우지 못하고 종료합니다. 남은 대화 내역은 Redis 보관본에서 복구됩니다. depth : {}", queue.size());
+        }
+    }
+
+    // Redis에 먼저 보관한 뒤 버퍼에 넣습니다. 버퍼가 가득 차 있으면 저장 주기마다 다시 시도합니다.
+    private Mono<Long> enqueue(Long historyId, Long roomId, AiChatSender sender, String content) {
+        PendingAiChatHistory history = new PendingAiChatHistory(UUID.randomUUID().toString(), historyId, roomId, sender, content,
+                System.currentTimeMillis(), sequence.incrementAndGet());
+        ownedIds.add(history.id());
+
+        Mono<Long> offer = Mono.fromCallable(() -> offer(history) ? historyId : null)
+                .repeatWhenEmpty(MAX_OFFER_ATTEMPTS, attempts -> attempts.delayElements(props.flushInterval()));
+        return openAiRepository.savePendingAiChatHistory(history)
+                .then(offer)
+                .doOnError(e -> ownedIds.remove(history.id())); // 버퍼에 넣지 못한 대화 내역은 복구 대상으로 남깁니다.
+    }
+
+    private boolean offer(PendingAiChatHistory history) {
+        boolean offered = queue.offer(history);
+        if (!offered || queue.size() >= props.batchSize()) {
+            requestFlush();
+        }
+        return offered;
+    }
+
+    private void requestFlush() {
+        if (flushRequested.compareAndSet(false, true)) {
+            flushExecutor.execute(this::flushSafely);
+        }
+    }
+
+    private void flushSafely() {
+        flushRequested.set(false);
+        try {
+            List<PendingAiChatHistory> batch = new ArrayList<>(props.batchSize());
+            while (queue.drainTo(batch, props.batchSize()) > 0) {
+                insert(batch);
+                batch.clear();
+            }
+        } catch (RuntimeException e) {
+            log.error("대화 내역 버퍼를 비우는 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    // DB 저장에 실패한 대화 내역은 Redis 보관본을 남겨두어 복구 시 다시 저장합니다.
+    private void insert(List<PendingAiChatHistory> batch) {
+        List<String> pendingIds = batch.stream().map(PendingAiChatHistory::id).toList();
+
+        long startedAt = System.nanoTime();
+        try {
+            aiChatHistoryBatchRepository.insertAll(batch);
+        } catch (RuntimeException e) {
+            log.error("대화 내역 {}건을 저장하지 못했습니다. Redis 보관본에서 복구됩니다.", batch.size(), e);
+            failedCounter.increment(batch.size());
+            pendingIds.forEach(ownedIds::remove);
+            return;
+        }
+        flushTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        flushedCounter.increment(batch.size());
+        deletePending(pendingIds);
+    }
+
+    // ID를 미리 할당받기 전에 보관된 대화 내역은 복구할 때 ID를 할당받습니다.
+    private PendingAiChatHistory withHistoryId(PendingAiChatHistory history) {
+        if (history.historyId() != null) {
+            return history;
+        }
+        return new PendingAiChatHistory(history.id(), entityIdGenerator.nextId(AiChatHistory.class), history.roomId(),
+                history.sender(), history.content(), history.createdAt(), history.sequence());
+    }
+
+    private void deletePending(List<String> pendingIds) {
+        try {
+            openAiRepository.deletePendingAiChatHistories(pendingIds).block();
+        } catch (RuntimeException e) {
+            log.warn("저장된 대화 내역의 Redis 보관본을 삭제하지 못했습니다. count : {}", pendingIds.size(), e);
+        } finally {
+            pendingIds.forEach(ownedIds::remove);
+        }
+    }
+
+    private void recoverSafely() {
+        try {
+            recover();
+        } catch (RuntimeException e) {
+            log.error("저장되지 않은 대화 내역을 복구하지 못했습니다.", e);
+        }
+    }
+
+    // 다른 서버와 동시에 복구하지 않도록 Redis 잠금을 획득한 서버만 복구합니다.
+    private void recover() {
+        if (!Boolean.TRUE.equals(openAiRepository.acquireAiChatHistoryRecoveryLock(props.recoveryInterval()).block())) {
+            return;
+        }
+        try {
+            long threshold = System.currentTimeMillis() - props.recoveryAge().toMillis();
+            List<PendingAiChatHistory> orphans = openAiRepository.findPendingAiChatHistories()
+                    .collectList()
+                    .blockOptional()
+                    .orElse(List.of())
+                    .stream()
+                    .filter(history -> history.createdAt() < threshold && !ownedIds.contains(history.id()))
+                    .sorted(Comparator.comparingLong(PendingAiChatHistory::createdAt)
+                            .thenComparingLong(PendingAiChatHistory::sequence))
+                    .map(this::withHistoryId)
+                    .toList();
+            if (orphans.isEmpty()) {
+                return;
+            }
+
+            log.warn("저장되지 않은 대화 내역 {}건을 Redis 보관본에서 복구합니다.", orphans.size());
+            for (int from = 0; from < orphans.size(); from += props.batchSize()) {
+                List<PendingAiChatHistory> chunk = orphans.subList(from, Math.min(from + props.batchSize(), orphans.size()));
+                aiChatHistoryBatchRepository.insertAll(chunk);
+                openAiRepository.deletePendingAiChatHistories(chunk.stream().map(PendingAiChatHistory::id).toList()).block();
+                recoveredCounter.increment(chunk.size());
+            }
+        } finally {
+            openAiRepository.releaseAiChatHistoryRecoveryLock().block();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.ssafy.backend.domain.aichat.cache;
+
+import com.ssafy.backend.domain.aichat.dto.AiChatRoomMetadata;
+import com.ssafy.backend.domain.aichat.exception.AiChatErrorCode;
+import com.ssafy.backend.domain.aichat.exception.AiChatException;
+import com.ssafy.backend.domain.aichat.repository.AiChatRoomRepository;
+import com.ssafy.backend.global.component.openai.repository.OpenAiRepository;
+import com.ssafy.backend.global.component.scheduler.BlockingSchedulers;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 채팅방 정보({@link AiChatRoomMetadata})를 캐시하는 컴포넌트입니다.
+ * 채팅방 정보는 생성 후 변경되지 않으므로 만료 외의 무효화 없이 서버 메모리의 LRU 캐시, Redis 순서로 조회하며,
+ * 둘 다 없을 때만(캐시 도입 전에 생성되었거나 만료된 채팅방) DB에서 조회하여 다시 채웁니다.
+ * 채팅방 생성 시 바로 캐시하므로 대화 중에는 채팅방과 회원을 DB에서 조회하지 않습니다.
+ * Redis는 리액티브 클라이언트로 조회하고, DB 조회만 JPA 전용 스케줄러에서 실행합니다.
+ */
+@Slf4j
+@Component
+public class AiChatRoomMetadataCache {
+
+    private static final int LOCAL_MAX_ENTRIES = 10_000;
+
+    private final OpenAiRepository openAiRepository;
+    private final AiChatRoomRepository aiChatRoomRepository;
+    private final BlockingSchedulers blockingSchedulers;
+    private final Map<Long, AiChatRoomMetadata> localCache;
+
+    public AiChatRoomMetadataCache(OpenAiRepository openAiRepository, AiChatRoomRepository aiChatRoomRepository,
+                                   BlockingSchedulers blockingSchedulers) {
+        this.openAiRepository = openAiRepository;
+        this.aiChatRoomRepository = aiChatRoomRepository;
+        this.blockingSchedulers = blockingSchedulers;
+        this.localCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, AiChatRoomMetadata> eldest) {
+                return size() > LOCAL_MAX_ENTRIES;
+            }
+        });
+    }
+
+    /**
+     * 채팅방 정보를 조회합니다. 캐시에 없을 때만 JPA 전용 스케줄러에서 DB를 조회합니다.
+     *
+     * @param roomId 채팅방 ID
+     * @return 채팅방 정보, 채팅방이 존재하지 않으면 AiChatException
+     */
+    public Mono<AiChatRoomMetadata> find(Long roomId) {
+        return Mono.defer(() -> {
+            AiChatRoomMetadata metadata = localCache.get(roomId);
+            if (metadata != null) {
+                return Mono.just(metadata);
+            }
+            return findInRedis(roomId)
+                    .switchIfEmpty(Mono.fromCallable(() -> load(roomId))
+                            .subscribeOn(blockingSchedulers.jpa()))
+                    .doOnNext(found -> localCache.put(roomId, found));
+        });
+    }
+
+    /**
+     * 채팅방 정보를 조회합니다. 블로킹 호출이므로 JPA 작업 중인 스레드처럼 블로킹이 허용된 스레드에서만 호출해야 합니다.
+     *
+     * @param roomId 채팅방 ID
+     * @return 채팅방 정보
+     * @throws AiChatException 채팅방이 존재하지 않는 경우
+     */
+    public AiChatRoomMetadata get(Long roomId) {
+        AiChatRoomMetadata metadata = localCache.get(roomId);
+        if (metadata != null) {
+            return metadata;
+        }
+
+        metadata = findInRedis(roomId).blockOptional().orElseGet(() -> load(roomId));
+        localCache.put(roomId, metadata);
+        return metadata;
+    }
+
+    /**
+     * 새로 생성한 채팅방 정보를 캐시합니다.
+     *
+     * @param metadata 채팅방 정보
+     */
+    public void put(AiChatRoomMetadata metadata) {
+        localCache.put(metadata.roomId(), metadata);
+        saveInRedis(metadata);
+    }
+
+    // 캐시에 없는 채팅방 정보를 DB에서 조회하여 Redis에 다시 채웁니다.
+    private AiChatRoomMetadata load(Long roomId) {
+        AiChatRoomMetadata metadata = aiChatRoomRepository.findById(roomId)
+                .map(AiChatRoomMetadata::from)
+                .orElseThrow(() -> new AiChatException(AiChatErrorCode.NOT_FOUND_AI_CHAT_ROOM));
+        saveInRedis(metadata);
+        return metadata;
+    }
+
+    // Redis 장애 시에도 DB 조회로 동작하도록 Redis 오류는 캐시 미스로 처리합니다.
+    private Mono<AiChatRoomMetadata> findInRedis(Long roomId) {
+        return openAiRepository.findAiChatRoomMetadata(roomId)
+                .onErrorResume(e -> {
+                    log.warn("채팅방 정보 캐시 조회에 실패했습니다. roomId : {}", roomId, e);
+                    return Mono.empty();
+                });
+    }
+
+    private void saveInRedis(AiChatRoomMetadata metadata) {
+        openAiRepository.saveAiChatRoomMetadata(metadata)
+                .subscribe(
+                        saved -> {
+                        },
+                        e -> log.warn("채팅방 정보 캐시 저장에 실패했습니다. roomId : {}", metadata.roomId(), e)
+                );
+    }
+}
@@ -7,12 +7,14 @@ import com.ssafy.backend.domain.aichat.service.AiChatService;
 import com.ssafy.backend.global.common.dto.Message;
 import com.ssafy.backend.global.component.jwt.security.MemberLoginActive;
 import com.ssafy.backend.global.component.openai.dto.Conversation;
+import com.ssafy.backend.global.component.openai.dto.GptSessionMemoryReport;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -20,6 +22,7 @@ import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Mono;
 
 import java.security.Principal;
+import java.util.Map;
 
 @Tag(name = "Ai 회화 채팅", description = "AI 회화 채팅 관련 API 입니다.")
 @Slf4j
@@ -41,10 +44,47 @@ public class AiChatController {
         return ResponseEntity.ok().body(Message.success(createResponse));
     }
 
+    /**
+     * 클라이언트는 재전송 시 같은 값을 보내는 messageId 헤더를 선택적으로 포함할 수 있으며, 이미 받은 메시지는 다시 처리하지 않습니다.
+     */
     @MessageMapping("/ai/chat/user/{roomId}")
     public void sendAiChatMessageByUser(Principal principal, AiChatMessage aiChatMessage,
-                                        @DestinationVariable Long roomId) {
-        aiChatService.sendAiChatMessageByUser(Long.valueOf(principal.getName()), roomId, aiChatMessage);
+                                        @DestinationVariable Long roomId,
+                                        @Header(name = "messageId", required = false) String messageId) {
+        aiChatService.sendAiChatMessageByUser(Long.valueOf(principal.getName()), roomId, messageId, aiChatMessage);
+    }
+
+    @Operation(
+            summary = "채팅방별 처리 대기 메시지 수 조회",
+            description = "처리 대기 중인 메시지가 있는 AI 회화 채팅방별 대기 메시지 수를 조회하는 기능입니다."
+    )
+    @GetMapping("/admin/queue-depth")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<Message<Map<Long, Integer>>> getRoomMessageQueueDepths() {
+        return ResponseEntity.ok().body(Message.success(aiChatService.getRoomMessageQueueDepths()));
+    }
+
+    @Operation(
+            summary = "AI 회화 메시지 번역 조회",
+            description = "GPT 메시지의 한국어 번역과 모범 답변을 조회하는 기능입니다. 간소화 모드의 채팅방에서는 처음 요청할 때 생성됩니다."
+    )
+    @GetMapping("/history/{historyId}/translation")
+    @PreAuthorize("hasAuthority('USER') or hasAuthority('ADMIN')")
+    public Mono<ResponseEntity<Message<AiChatTranslationResponse>>> getAiChatTranslation(@AuthenticationPrincipal MemberLoginActive loginActive,
+                                                                                         @PathVariable Long historyId) {
+        return aiChatService.getAiChatTranslation(loginActive.id(), historyId)
+                .map(translation -> ResponseEntity.ok().body(Message.success(translation)));
+    }
+
+    @Operation(
+            summary = "채팅방 대화 상태 메모리 사용량 조회",
+            description = "AI 회화 채팅방의 Redis 대화 상태 메모리 사용량과 바이너리 코덱 적용 전후의 크기를 조회하는 기능입니다."
+    )
+    @GetMapping("/admin/redis-memory/{roomId}")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public Mono<ResponseEntity<Message<GptSessionMemoryReport>>> getAiChatSessionMemoryReport(@PathVariable Long roomId) {
+        return aiChatService.getAiChatSessionMemoryReport(roomId)
+                .map(report -> ResponseEntity.ok().body(Message.success(report)));
     }
 
     @PostMapping("/gpt/setup/{roomId}/{category}")
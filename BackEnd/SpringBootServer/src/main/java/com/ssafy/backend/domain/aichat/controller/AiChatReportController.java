@@ -1,11 +1,11 @@
 package com.ssafy.backend.domain.aichat.controller;
 
 import com.ssafy.backend.domain.aichat.dto.AiChatReportInfo;
+import com.ssafy.backend.domain.aichat.dto.AiChatReportJobResponse;
 import com.ssafy.backend.domain.aichat.dto.FullReportInfo;
 import com.ssafy.backend.domain.aichat.service.AiChatReportService;
 import com.ssafy.backend.global.common.dto.Message;
 import com.ssafy.backend.global.component.jwt.security.MemberLoginActive;
-import com.ssafy.backend.domain.aichat.dto.AiChatReportCreateResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -28,15 +28,31 @@ public class AiChatReportController {
 
     @Operation(
             summary = "OpenAI api를 호출해 레포트 생성",
-            description = "해당 {roomId}의 aiChatRoom의 모든 채팅 기록들을 조회 후 OpenAi api에 분석을 요청하여 레포트와 피드백을 생성합니다. "
+            description = "해당 {roomId}의 aiChatRoom의 레포트 생성 작업을 등록하고 바로 202와 작업 ID를 반환합니다. "
+                    + "레포트는 작업 대기열에서 모든 채팅 기록들을 OpenAi api에 분석 요청하여 생성되며, "
+                    + "진행 상태(QUEUED, RUNNING, COMPLETED, FAILED)와 완성된 레포트 ID는 /topic/report.{roomId}로 전송됩니다. "
+                    + "같은 채팅방에 다시 요청하면 기존 작업을 반환합니다."
     )
     @PreAuthorize("hasAuthority('USER') or hasAuthority('ADMIN')")
     @PostMapping("/create/{roomId}")
-    public Mono<ResponseEntity<Message<AiChatReportCreateResponse>>> createReportByGPT(
+    public Mono<ResponseEntity<Message<AiChatReportJobResponse>>> createReportByGPT(
             @AuthenticationPrincipal MemberLoginActive loginActive,
             @PathVariable Long roomId) {
-        return aiChatReportService.createReport(loginActive.id(), roomId)
-                .map(reportId -> ResponseEntity.ok().body(Message.success(new AiChatReportCreateResponse(reportId))));
+        return aiChatReportService.submitReportJob(loginActive.id(), roomId)
+                .map(job -> ResponseEntity.accepted().body(Message.success(job)));
+    }
+
+    @Operation(
+            summary = "레포트 생성 작업 상태 조회",
+            description = "해당 {roomId}의 레포트 생성 작업 상태와 완성된 레포트 ID를 조회합니다. 웹소켓으로 상태를 받지 못한 경우에 사용합니다."
+    )
+    @PreAuthorize("hasAuthority('USER') or hasAuthority('ADMIN')")
+    @GetMapping("/job/{roomId}")
+    public Mono<ResponseEntity<Message<AiChatReportJobResponse>>> getReportJob(
+            @AuthenticationPrincipal MemberLoginActive loginActive,
+            @PathVariable Long roomId) {
+        return aiChatReportService.getReportJob(loginActive.id(), roomId)
+                .map(job -> ResponseEntity.ok().body(Message.success(job)));
     }
 
     @Operation(
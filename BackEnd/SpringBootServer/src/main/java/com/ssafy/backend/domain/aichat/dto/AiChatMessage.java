@@ -8,6 +8,7 @@ import lombok.Builder;
 public record AiChatMessage(
     AiChatSender sender,
     String japanese,
-    String korean
+    String korean,
+    Long historyId // GPT 메시지의 대화 내역 ID (번역 요청 시 사용)
 ) {
 }
@@ -1,6 +0,0 @@
-package com.ssafy.backend.domain.aichat.dto;
-
-public record AiChatReportCreateResponse(
-        Long reportId
-) {
-}
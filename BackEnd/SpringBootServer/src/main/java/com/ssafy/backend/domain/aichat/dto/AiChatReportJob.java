@@ -0,0 +1,39 @@
+package com.ssafy.backend.domain.aichat.dto;
+
+import com.ssafy.backend.domain.aichat.entity.enums.AiChatReportJobStatus;
+
+import java.util.UUID;
+
+/**
+ * 레포트 생성 작업을 나타내는 레코드입니다.
+ * RabbitMQ 작업 대기열의 메시지이자, 채팅방별 작업 상태로 Redis에 보관되는 값입니다.
+ *
+ * @param jobId    작업 ID
+ * @param roomId   채팅방 ID
+ * @param memberId 채팅방을 만든 회원 ID
+ * @param status   작업 상태
+ * @param reportId 생성된 레포트 ID (완료 전에는 null)
+ */
+public record AiChatReportJob(
+        String jobId,
+        Long roomId,
+        Long memberId,
+        AiChatReportJobStatus status,
+        Long reportId
+) {
+    public static AiChatReportJob queued(Long roomId, Long memberId) {
+        return new AiChatReportJob(UUID.randomUUID().toString(), roomId, memberId, AiChatReportJobStatus.QUEUED, null);
+    }
+
+    public AiChatReportJob running() {
+        return new AiChatReportJob(jobId, roomId, memberId, AiChatReportJobStatus.RUNNING, null);
+    }
+
+    public AiChatReportJob completed(Long reportId) {
+        return new AiChatReportJob(jobId, roomId, memberId, AiChatReportJobStatus.COMPLETED, reportId);
+    }
+
+    public AiChatReportJob failed() {
+        return new AiChatReportJob(jobId, roomId, memberId, AiChatReportJobStatus.FAILED, null);
+    }
+}
@@ -0,0 +1,23 @@
+package com.ssafy.backend.domain.aichat.dto;
+
+import com.ssafy.backend.domain.aichat.entity.enums.AiChatReportJobStatus;
+
+/**
+ * 레포트 생성 작업의 상태를 클라이언트에 전달하는 레코드입니다.
+ * 작업 등록 API의 응답이자, 작업 상태가 바뀔 때 {@code /topic/report.{roomId}}로 전송되는 메시지입니다.
+ *
+ * @param jobId    작업 ID
+ * @param roomId   채팅방 ID
+ * @param status   작업 상태
+ * @param reportId 생성된 레포트 ID (완료 전에는 null)
+ */
+public record AiChatReportJobResponse(
+        String jobId,
+        Long roomId,
+        AiChatReportJobStatus status,
+        Long reportId
+) {
+    public static AiChatReportJobResponse from(AiChatReportJob job) {
+        return new AiChatReportJobResponse(job.jobId(), job.roomId(), job.status(), job.reportId());
+    }
+}
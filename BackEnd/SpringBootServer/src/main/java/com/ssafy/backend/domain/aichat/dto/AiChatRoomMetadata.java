@@ -0,0 +1,22 @@
+package com.ssafy.backend.domain.aichat.dto;
+
+import com.ssafy.backend.domain.aichat.entity.AiChatRoom;
+import com.ssafy.backend.domain.aichat.entity.enums.AiChatCategory;
+
+/**
+ * 채팅방 생성 후 변경되지 않는 채팅방 정보를 나타내는 레코드입니다.
+ * 대화마다 채팅방과 회원을 DB에서 다시 조회하지 않도록 캐시에 보관합니다.
+ *
+ * @param roomId   채팅방 ID
+ * @param memberId 채팅방을 만든 회원 ID
+ * @param category 채팅방 카테고리
+ */
+public record AiChatRoomMetadata(
+        Long roomId,
+        Long memberId,
+        AiChatCategory category
+) {
+    public static AiChatRoomMetadata from(AiChatRoom aiChatRoom) {
+        return new AiChatRoomMetadata(aiChatRoom.getId(), aiChatRoom.getMember().getId(), aiChatRoom.getCategory());
+    }
+}
@@ -0,0 +1,12 @@
+package com.ssafy.backend.domain.aichat.dto;
+
+import lombok.Builder;
+
+@Builder
+public record AiChatTranslationResponse(
+        Long historyId,
+        String korean,
+        String userTipJapanese,
+        String userTipKorean
+) {
+}
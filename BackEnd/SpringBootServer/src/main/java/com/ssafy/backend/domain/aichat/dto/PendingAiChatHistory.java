@@ -0,0 +1,26 @@
+package com.ssafy.backend.domain.aichat.dto;
+
+import com.ssafy.backend.domain.aichat.entity.enums.AiChatSender;
+
+/**
+ * DB에 아직 저장되지 않은 대화 내역을 나타내는 레코드입니다.
+ * 쓰기 버퍼에 넣기 전에 Redis에 먼저 보관하므로, 서버가 중단되어도 다른 서버가 Redis에서 꺼내 저장할 수 있습니다.
+ *
+ * @param id        보관용 ID (UUID)
+ * @param historyId 미리 할당받은 대화 내역 ID (복구 시에도 같은 ID로 저장하므로 중복 저장되지 않음)
+ * @param roomId    채팅방 ID
+ * @param sender    메시지 발신자
+ * @param content   메시지 내용
+ * @param createdAt 버퍼에 넣은 시각 (epoch millis)
+ * @param sequence  같은 시각에 넣은 대화 내역의 순서
+ */
+public record PendingAiChatHistory(
+        String id,
+        Long historyId,
+        Long roomId,
+        AiChatSender sender,
+        String content,
+        long createdAt,
+        long sequence
+) {
+}
@@ -1,5 +1,6 @@
 package com.ssafy.backend.domain.aichat.entity;
 
+import com.ssafy.backend.global.common.entity.IdSequence;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -13,7 +14,9 @@ import lombok.*;
 public class AiChatFeedback {
     @Id
     @Column(columnDefinition = "INT UNSIGNED")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "ai_chat_feedback_id")
+    @TableGenerator(name = "ai_chat_feedback_id", table = IdSequence.TABLE, pkColumnName = IdSequence.PK_COLUMN,
+            valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = "ai_chat_feedback", allocationSize = IdSequence.ALLOCATION_SIZE)
     private Integer id;
 
     @OneToOne
@@ -1,6 +1,7 @@
 package com.ssafy.backend.domain.aichat.entity;
 
 import com.ssafy.backend.domain.aichat.entity.enums.AiChatSender;
+import com.ssafy.backend.global.common.entity.IdSequence;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -12,9 +13,12 @@ import lombok.*;
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 public class AiChatHistory {
 
+    // 채팅방의 대화 순서를 ID 순서로 판단하므로(피드백 조회, 메시지 평가) 여러 서버에서 저장해도 ID가 저장 순서대로 증가하도록 하나씩 할당받습니다.
     @Id
     @Column(columnDefinition = "INT UNSIGNED")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "ai_chat_history_id")
+    @TableGenerator(name = "ai_chat_history_id", table = IdSequence.TABLE, pkColumnName = IdSequence.PK_COLUMN,
+            valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = "ai_chat_history", allocationSize = IdSequence.ORDERED_ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -2,6 +2,7 @@ package com.ssafy.backend.domain.aichat.entity;
 
 import com.ssafy.backend.domain.aichat.dto.AiChatReportInfo;
 import com.ssafy.backend.global.common.entity.BaseEntity;
+import com.ssafy.backend.global.common.entity.IdSequence;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -14,7 +15,9 @@ import lombok.*;
 public class AiChatReport extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "ai_chat_report_id")
+    @TableGenerator(name = "ai_chat_report_id", table = IdSequence.TABLE, pkColumnName = IdSequence.PK_COLUMN,
+            valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = "ai_chat_report", allocationSize = IdSequence.ALLOCATION_SIZE)
     @Column(columnDefinition = "INT UNSIGNED")
     private Long id;
 
@@ -2,6 +2,7 @@ package com.ssafy.backend.domain.aichat.entity;
 
 import com.ssafy.backend.domain.aichat.entity.enums.AiChatCategory;
 import com.ssafy.backend.domain.member.entity.Member;
+import com.ssafy.backend.global.common.entity.IdSequence;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -17,7 +18,9 @@ import java.util.List;
 public class AiChatRoom {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "ai_chat_room_id")
+    @TableGenerator(name = "ai_chat_room_id", table = IdSequence.TABLE, pkColumnName = IdSequence.PK_COLUMN,
+            valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = "ai_chat_room", allocationSize = IdSequence.ALLOCATION_SIZE)
     @Column(columnDefinition = "INT UNSIGNED")
     private Long id;
 
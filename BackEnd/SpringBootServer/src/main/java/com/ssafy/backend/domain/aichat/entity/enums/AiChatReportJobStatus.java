@@ -0,0 +1,11 @@
+package com.ssafy.backend.domain.aichat.entity.enums;
+
+/**
+ * 레포트 생성 작업의 진행 상태입니다.
+ */
+public enum AiChatReportJobStatus {
+    QUEUED,    // 작업 대기열에 등록됨
+    RUNNING,   // 워커가 레포트를 생성하는 중
+    COMPLETED, // 레포트가 저장됨
+    FAILED     // 재시도 후에도 실패함 (다시 요청할 수 있음)
+}
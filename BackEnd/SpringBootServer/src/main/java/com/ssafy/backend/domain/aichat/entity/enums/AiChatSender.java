@@ -3,7 +3,8 @@ package com.ssafy.backend.domain.aichat.entity.enums;
 import com.fasterxml.jackson.annotation.JsonValue;
 
 public enum AiChatSender {
-    USER, GPT, USER_TIP;
+    USER, GPT, USER_TIP,
+    GPT_STREAM; // 스트리밍 중인 GPT 응답 조각 (DB에 저장하지 않고 채팅방 전송에만 사용)
 
     @JsonValue
     public String getValue() {
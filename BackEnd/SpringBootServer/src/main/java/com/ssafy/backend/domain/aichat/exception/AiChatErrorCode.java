@@ -9,7 +9,12 @@ import org.springframework.http.HttpStatus;
 public enum AiChatErrorCode {
     NOT_FOUND_AI_CHAT_ROOM(HttpStatus.NOT_FOUND, "해당 AI 회화 채팅방을 찾을 수 없습니다."),
     NOT_FOUNT_AI_CHAT_ROOM_SETUP(HttpStatus.NOT_FOUND, "AI 회화 채팅방 세팅을 찾을 수 없습니다."),
-    DUPLICATE_CONVERSATION_TOPIC(HttpStatus.BAD_REQUEST, "대화가 종료되었습니다. 새로고침해서 다시 시작하거나 레포트를 작성해주세요.");
+    NOT_FOUND_AI_CHAT_HISTORY(HttpStatus.NOT_FOUND, "해당 AI 회화 메시지를 찾을 수 없습니다."),
+    NOT_FOUND_AI_CHAT_REPORT_JOB(HttpStatus.NOT_FOUND, "해당 AI 회화 채팅방의 레포트 생성 요청을 찾을 수 없습니다."),
+    DUPLICATE_CONVERSATION_TOPIC(HttpStatus.BAD_REQUEST, "대화가 종료되었습니다. 새로고침해서 다시 시작하거나 레포트를 작성해주세요."),
+    DUPLICATE_USER_MESSAGE(HttpStatus.BAD_REQUEST, "이전에 대화한 내용과 중복됩니다. 대화를 종료하거나 다시 보내주세요."),
+    TOO_MANY_AI_CHAT_MESSAGES(HttpStatus.TOO_MANY_REQUESTS, "메시지를 너무 빠르게 보내고 있습니다. 답변을 받은 후 다시 보내주세요."),
+    AI_CHAT_SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "지금은 대화 요청이 많아 답변하지 못했습니다. 잠시 후 다시 보내주세요.");
 
     private final HttpStatus httpStatus;
     private final String errorMessage;
@@ -0,0 +1,33 @@
+package com.ssafy.backend.domain.aichat.job;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 레포트 생성 작업 대기열({@link AiChatReportJobWorker}) 설정 값을 관리하는 레코드입니다.
+ *
+ * @param queue 작업 대기열(RabbitMQ 큐) 이름
+ * @param concurrency 서버마다 작업을 처리하는 최소 워커 수
+ * @param maxConcurrency 대기열이 쌓였을 때 늘릴 수 있는 최대 워커 수
+ * @param maxAttempts 작업마다 최대 시도 횟수 (첫 시도 포함)
+ * @param initialBackoff 첫 재시도 전 대기 시간
+ * @param backoffMultiplier 재시도마다 대기 시간을 늘리는 배수
+ * @param maxBackoff 재시도 전 최대 대기 시간
+ * @param timeout 한 번의 시도에서 레포트 생성을 기다리는 최대 시간
+ * @param ttl 작업 상태 보관 시간 (이 시간 동안 같은 채팅방의 작업 요청은 기존 작업을 반환)
+ */
+@ConfigurationProperties(prefix = "aichat.report-job")
+public record AiChatReportJobProps(
+        @DefaultValue("aichat.report.jobs") String queue,
+        @DefaultValue("2") int concurrency,
+        @DefaultValue("4") int maxConcurrency,
+        @DefaultValue("3") int maxAttempts,
+        @DefaultValue("2s") Duration initialBackoff,
+        @DefaultValue("2.0") double backoffMultiplier,
+        @DefaultValue("30s") Duration maxBackoff,
+        @DefaultValue("2m") Duration timeout,
+        @DefaultValue("1d") Duration ttl
+) {
+}
@@ -0,0 +1,89 @@
+package com.ssafy.backend.domain.aichat.job;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.backend.domain.aichat.dto.AiChatReportJob;
+import com.ssafy.backend.domain.aichat.dto.AiChatReportJobResponse;
+import com.ssafy.backend.domain.aichat.entity.AiChatReport;
+import com.ssafy.backend.domain.aichat.entity.enums.AiChatReportJobStatus;
+import com.ssafy.backend.domain.aichat.repository.AiChatReportRepository;
+import com.ssafy.backend.domain.aichat.service.AiChatReportService;
+import com.ssafy.backend.global.component.openai.repository.OpenAiRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * RabbitMQ 작업 대기열에서 레포트 생성 작업을 꺼내 처리하는 워커입니다.
+ * 워커 수와 재시도 간격은 {@link AiChatReportJobProps}로 설정하며, 실패한 작업은 같은 워커에서 간격을 늘려가며 다시 시도합니다.
+ * 작업 상태가 바뀔 때마다 {@code /topic/report.{roomId}}로 상태를 전송합니다.
+ * 같은 작업이 다시 전달되거나(서버 중단 등) 이미 레포트가 있는 채팅방의 작업은 레포트를 새로 만들지 않고 완료 처리합니다.
+ * 모든 시도가 실패하면 {@link #recover}에서 작업을 실패로 기록하며, 사용자는 레포트 생성을 다시 요청할 수 있습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AiChatReportJobWorker implements MessageRecoverer {
+
+    private final AiChatReportJobProps props;
+    private final AiChatReportService aiChatReportService;
+    private final AiChatReportRepository aiChatReportRepository;
+    private final OpenAiRepository openAiRepository;
+    private final RabbitTemplate rabbitTemplate;
+    private final TopicExchange topicExchange;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 레포트 생성 작업을 처리합니다. 예외가 발생하면 재시도 정책에 따라 다시 호출됩니다.
+     *
+     * @param job 레포트 생성 작업
+     */
+    @RabbitListener(queues = "${aichat.report-job.queue:aichat.report.jobs}", containerFactory = "aiChatReportListenerContainerFactory")
+    public void handle(AiChatReportJob job) {
+        AiChatReportJob current = openAiRepository.findAiChatReportJob(job.roomId()).block();
+        if (current != null && (!current.jobId().equals(job.jobId()) || current.status() == AiChatReportJobStatus.COMPLETED)) {
+            log.info("이미 처리되었거나 다른 작업으로 대체된 레포트 작업을 건너뜁니다. roomId : {}, jobId : {}", job.roomId(), job.jobId());
+            return;
+        }
+
+        Optional<AiChatReport> existingReport = aiChatReportRepository.findByAiChatRoomId(job.roomId());
+        if (existingReport.isPresent()) {
+            update(job.completed(existingReport.get().getId()));
+            return;
+        }
+
+        update(job.running());
+        Long reportId = aiChatReportService.createReport(job.memberId(), job.roomId()).block(props.timeout());
+        if (reportId == null) {
+            throw new IllegalStateException("레포트가 생성되지 않았습니다. roomId : " + job.roomId());
+        }
+        update(job.completed(reportId));
+    }
+
+    /**
+     * 모든 시도가 실패한 작업을 실패로 기록합니다. 메시지는 다시 대기열에 넣지 않습니다.
+     */
+    @Override
+    public void recover(Message message, Throwable cause) {
+        try {
+            AiChatReportJob job = objectMapper.readValue(message.getBody(), AiChatReportJob.class);
+            log.error("레포트 생성 작업이 실패했습니다. roomId : {}, jobId : {}", job.roomId(), job.jobId(), cause);
+            update(job.failed());
+        } catch (IOException | RuntimeException e) {
+            log.error("실패한 레포트 생성 작업을 기록하지 못했습니다.", e);
+        }
+    }
+
+    // 작업 상태를 보관하고 채팅방의 레포트 구독자에게 전송합니다.
+    private void update(AiChatReportJob job) {
+        openAiRepository.saveAiChatReportJob(job, props.ttl()).block();
+        rabbitTemplate.convertAndSend(topicExchange.getName(), "report." + job.roomId(), AiChatReportJobResponse.from(job));
+    }
+}
@@ -0,0 +1,49 @@
+package com.ssafy.backend.domain.aichat.repository;
+
+import com.ssafy.backend.domain.aichat.dto.PendingAiChatHistory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * 대화 내역을 JDBC 배치로 한 번에 저장하는 레포지토리입니다.
+ * 쓰기 버퍼가 엔티티의 ID 생성기에서 미리 할당받은 ID로 저장하며, 이미 저장된 ID는 무시하므로 같은 대화 내역을 다시 저장해도 중복되지 않습니다.
+ * 데이터소스 URL의 {@code rewriteBatchedStatements=true} 설정으로 배치가 여러 행을 넣는 INSERT 하나로 전송됩니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AiChatHistoryBatchRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO ai_chat_history (id, ai_chat_room_id, sender, content) VALUES (?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE id = id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 대화 내역을 주어진 순서대로 저장합니다. 이미 저장된 대화 내역은 건너뜁니다.
+     *
+     * @param histories 저장할 대화 내역
+     */
+    public void insertAll(List<PendingAiChatHistory> histories) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                PendingAiChatHistory history = histories.get(i);
+                ps.setLong(1, history.historyId());
+                ps.setLong(2, history.roomId());
+                ps.setString(3, history.sender().name());
+                ps.setString(4, history.content());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return histories.size();
+            }
+        });
+    }
+}
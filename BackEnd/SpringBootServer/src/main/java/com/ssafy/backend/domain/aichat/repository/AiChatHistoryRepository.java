@@ -2,9 +2,11 @@ package com.ssafy.backend.domain.aichat.repository;
 
 import com.ssafy.backend.domain.aichat.entity.AiChatHistory;
 import com.ssafy.backend.domain.aichat.entity.AiChatRoom;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -12,4 +14,8 @@ public interface AiChatHistoryRepository extends JpaRepository<AiChatHistory,Lon
     List<AiChatHistory> findByAiChatRoomId(Long roomId);
 
     List<AiChatHistory> findByAiChatRoom(AiChatRoom aiChatRoom);
+
+    // 피드백(일대일 양방향, 지연 로딩 불가)을 함께 조회하여 대화 내역마다 피드백 조회 쿼리가 실행되지 않도록 합니다.
+    @EntityGraph(attributePaths = "aiChatFeedback")
+    List<AiChatHistory> findByAiChatRoomIdAndIdIn(Long roomId, Collection<Long> ids);
 }
@@ -2,6 +2,7 @@ package com.ssafy.backend.domain.aichat.service;
 
 import com.ssafy.backend.domain.aichat.dto.AiChatReportCreateRequest;
 import com.ssafy.backend.domain.aichat.dto.AiChatReportInfo;
+import com.ssafy.backend.domain.aichat.dto.AiChatReportJobResponse;
 import com.ssafy.backend.domain.aichat.dto.FullReportInfo;
 import jakarta.transaction.Transactional;
 import reactor.core.publisher.Mono;
@@ -12,6 +13,25 @@ public interface AiChatReportService {
     @Transactional
     Mono<Long> createReport(Long memberId, Long roomId);
 
+    /**
+     * 레포트 생성 작업을 작업 대기열에 등록합니다.
+     * 같은 채팅방의 작업이 이미 있으면 새로 등록하지 않고 기존 작업을 반환하며, 실패한 작업만 다시 등록합니다.
+     *
+     * @param memberId 사용자 ID
+     * @param roomId 채팅방 ID
+     * @return 등록된(또는 기존) 작업의 상태
+     */
+    Mono<AiChatReportJobResponse> submitReportJob(Long memberId, Long roomId);
+
+    /**
+     * 채팅방의 레포트 생성 작업 상태를 조회합니다.
+     *
+     * @param memberId 사용자 ID
+     * @param roomId 채팅방 ID
+     * @return 작업 상태, 작업이 없으면 AiChatException
+     */
+    Mono<AiChatReportJobResponse> getReportJob(Long memberId, Long roomId);
+
     FullReportInfo getReportDetail(Long reportId);
 
     List<AiChatReportInfo> getUserReports(Long memberId);
@@ -1,11 +1,20 @@
 package com.ssafy.backend.domain.aichat.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.backend.domain.aichat.buffer.AiChatHistoryWriteBuffer;
 import com.ssafy.backend.domain.aichat.dto.AiChatAndFeedbackInfo;
+import com.ssafy.backend.domain.aichat.dto.AiChatFeedbackCreateRequest;
 import com.ssafy.backend.domain.aichat.dto.AiChatReportCreateRequest;
 import com.ssafy.backend.domain.aichat.dto.AiChatReportInfo;
+import com.ssafy.backend.domain.aichat.dto.AiChatReportJob;
+import com.ssafy.backend.domain.aichat.dto.AiChatReportJobResponse;
 import com.ssafy.backend.domain.aichat.dto.FullReportInfo;
+import com.ssafy.backend.domain.aichat.cache.AiChatRoomMetadataCache;
 import com.ssafy.backend.domain.aichat.entity.*;
+import com.ssafy.backend.domain.aichat.entity.enums.AiChatSender;
+import com.ssafy.backend.domain.aichat.exception.AiChatErrorCode;
+import com.ssafy.backend.domain.aichat.exception.AiChatException;
+import com.ssafy.backend.domain.aichat.job.AiChatReportJobProps;
 import com.ssafy.backend.domain.aichat.repository.AiChatFeedbackRepository;
 import com.ssafy.backend.domain.aichat.repository.AiChatHistoryRepository;
 import com.ssafy.backend.domain.aichat.repository.AiChatReportRepository;
@@ -14,15 +23,21 @@ import com.ssafy.backend.domain.attendance.entity.enums.AttendanceType;
 import com.ssafy.backend.domain.attendance.service.AttendanceService;
 import com.ssafy.backend.global.component.openai.OpenAiCommunicationProvider;
 import com.ssafy.backend.global.component.openai.dto.GptReportRequest;
+import com.ssafy.backend.global.component.openai.dto.GptTurnEvaluation;
+import com.ssafy.backend.global.component.openai.evaluation.GptTurnEvaluator;
+import com.ssafy.backend.global.component.openai.report.GptChunkedReportGenerator;
+import com.ssafy.backend.global.component.openai.repository.OpenAiRepository;
+import com.ssafy.backend.global.component.scheduler.BlockingSchedulers;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.stereotype.Service;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -31,37 +46,171 @@ import java.util.stream.Collectors;
 public class AiChatReportServiceImpl implements AiChatReportService {
     private final AiChatRoomRepository aiChatRoomRepository;
     private final AiChatHistoryRepository aiChatHistoryRepository;
+    private final AiChatHistoryWriteBuffer aiChatHistoryWriteBuffer;
     private final AiChatReportRepository aiChatReportRepository;
     private final AiChatFeedbackRepository aiChatFeedbackRepository;
+    private final AiChatReportWriter aiChatReportWriter;
+    private final BlockingSchedulers blockingSchedulers;
+    private final AiChatRoomMetadataCache aiChatRoomMetadataCache;
+    private final OpenAiRepository openAiRepository;
+    private final RabbitTemplate rabbitTemplate;
+    private final AiChatReportJobProps aiChatReportJobProps;
     private final ObjectMapper objectMapper;
     private final OpenAiCommunicationProvider openAiCommunicationProvider;
+    private final GptTurnEvaluator gptTurnEvaluator;
+    private final GptChunkedReportGenerator gptChunkedReportGenerator;
 
     private final AttendanceService attendanceService;
 
     @Override
     public Mono<Long> createReport(Long memberId, Long roomId) {
-        // aiChatHistoryRepository에서 roomId에 해당하는 히스토리(대화내역)를 조회
-        return Mono.fromCallable(() -> aiChatHistoryRepository.findByAiChatRoomId(roomId))
+        // 쓰기 버퍼에 남은 대화 내역을 저장한 뒤, aiChatHistoryRepository에서 roomId에 해당하는 히스토리(대화내역)를 조회
+        return Mono.fromCallable(() -> {
+                    aiChatHistoryWriteBuffer.flushAndWait();
+                    return aiChatHistoryRepository.findByAiChatRoomId(roomId);
+                })
                 .subscribeOn(Schedulers.boundedElastic())
-                // 조회된 히스토리를 기반으로 GptChatRequest 생성
-                .map(GptReportRequest::fromAiChatHistories)
-                // GptChatRequest를 사용해 GPT와 통신
-                .flatMap(openAiCommunicationProvider::sendReportPromptToGPT)
-                // GPT 응답을 AiChatReportCreateRequest 객체로 변환
-                .flatMap(response -> {
-                    log.info("GPT 레포트 결과!!!!: {}", response);
-                    return Mono.fromCallable(() -> objectMapper.readValue(response, AiChatReportCreateRequest.class))
-                            .flatMap(reportRequest -> {
-                                // 여기서 보고서 저장 후, 생성된 보고서의 ID를 반환합니다.
-                                Mono<Long> reportIdMono = saveReport(roomId, reportRequest);
-                                // 보고서가 저장되면 출석을 생성합니다.
-                                return reportIdMono.doOnSuccess(reportId -> {
-                                    attendanceService.createAttendance(memberId, AttendanceType.AI_CHAT);
-                                });
-                            });
+                // 메시지별 평가를 사용하면 평가를 모아 레포트를 만들고, 아니면 전체 대화를 GPT에 평가 요청 (긴 대화는 구간별로 평가)
+                .flatMap(histories -> gptTurnEvaluator.isEnabled()
+                        ? createReportFromTurnEvaluations(roomId, histories)
+                        : createReportFromConversation(histories))
+                .flatMap(reportRequest -> {
+                    // 여기서 보고서 저장 후, 생성된 보고서의 ID를 반환합니다.
+                    Mono<Long> reportIdMono = saveReport(roomId, reportRequest);
+                    // 보고서가 저장되면 출석을 생성합니다.
+                    return reportIdMono.doOnSuccess(reportId -> {
+                        attendanceService.createAttendance(memberId, AttendanceType.AI_CHAT);
+                    });
                 });
     }
 
+    /**
+     * 전체 대화를 GPT에 보내 점수, 요약, 피드백을 생성합니다. 긴 대화는 구간으로 나누어 동시에 평가한 뒤 합칩니다.
+     *
+     * @param histories 채팅방의 대화 내역
+     * @return GPT가 생성한 레포트
+     */
+    private Mono<AiChatReportCreateRequest> createReportFromConversation(List<AiChatHistory> histories) {
+        return gptChunkedReportGenerator.generate(histories);
+    }
+
+    /**
+     * 대화 중 미리 평가한 사용자 메시지별 점수와 피드백을 모아 레포트를 만듭니다.
+     * 점수는 메시지별 점수의 평균이며, GPT에는 짧은 대화 요약만 요청하므로 대화 길이와 관계없이 생성 시간이 거의 일정합니다.
+     * 평가에 실패한 메시지는 한 번 더 평가하고 그래도 실패하면 레포트에서 제외하며, 평가된 메시지가 하나도 없으면 전체 대화를 구간별로 평가합니다.
+     *
+     * @param roomId 채팅방 ID
+     * @param histories 채팅방의 대화 내역
+     * @return 메시지별 평가로 만든 레포트
+     */
+    private Mono<AiChatReportCreateRequest> createReportFromTurnEvaluations(Long roomId, List<AiChatHistory> histories) {
+        return gptTurnEvaluator.collectEvaluations(roomId, histories)
+                .flatMap(collected -> collected.isEmpty()
+                        ? createReportFromConversation(histories)
+                        : createReportFromEvaluations(histories, collected));
+    }
+
+    /**
+     * 메시지별 평가의 평균 점수와 피드백에 GPT가 작성한 짧은 대화 요약을 더해 레포트를 만듭니다.
+     *
+     * @param histories 채팅방의 대화 내역
+     * @param evaluations 대화 순서로 정렬한 메시지별 평가
+     * @return 메시지별 평가로 만든 레포트
+     */
+    private Mono<AiChatReportCreateRequest> createReportFromEvaluations(List<AiChatHistory> histories, List<GptTurnEvaluation> evaluations) {
+        float vocabularyScore = average(evaluations, GptTurnEvaluation::vocabularyScore);
+        float wordScore = average(evaluations, GptTurnEvaluation::wordScore);
+        float fluencyScore = average(evaluations, GptTurnEvaluation::fluencyScore);
+        float grammarScore = average(evaluations, GptTurnEvaluation::grammarScore);
+        float contextScore = average(evaluations, GptTurnEvaluation::contextScore);
+        String averageScores = "어휘력 " + vocabularyScore + ", 단어 " + wordScore + ", 유창성 " + fluencyScore
+                + ", 문법 " + grammarScore + ", 문맥 이해 " + contextScore;
+        List<String> userMessages = histories.stream()
+                .filter(history -> history.getSender() == AiChatSender.USER)
+                .map(AiChatHistory::getContent)
+                .toList();
+        List<AiChatFeedbackCreateRequest> feedbacks = evaluations.stream()
+                .filter(evaluation -> evaluation.feedback() != null && !evaluation.feedback().isBlank())
+                .map(evaluation -> new AiChatFeedbackCreateRequest(evaluation.historyId(), evaluation.feedback()))
+                .toList();
+
+        return openAiCommunicationProvider.sendReportPromptToGPT(GptReportRequest.fromUserTurnsForSummary(userMessages, averageScores))
+                .flatMap(response -> Mono.fromCallable(() -> objectMapper.readTree(response).path("conversationSummary").asText()))
+                .map(conversationSummary -> new AiChatReportCreateRequest(conversationSummary, vocabularyScore,
+                        fluencyScore, grammarScore, wordScore, contextScore, feedbacks));
+    }
+
+    // 점수 평균을 소수점 두 자리로 반올림합니다.
+    private float average(List<GptTurnEvaluation> evaluations, Function<GptTurnEvaluation, Float> score) {
+        double average = evaluations.stream()
+                .map(score)
+                .filter(Objects::nonNull)
+                .mapToDouble(Float::doubleValue)
+                .average()
+                .orElse(0);
+        return Math.round(average * 100) / 100f;
+    }
+
+    @Override
+    public Mono<AiChatReportJobResponse> submitReportJob(Long memberId, Long roomId) {
+        return checkRoomOwner(memberId, roomId)
+                .then(Mono.defer(() -> registerReportJob(memberId, roomId)))
+                .map(AiChatReportJobResponse::from);
+    }
+
+    /**
+     * 채팅방에 작업이 없거나 이전 작업이 실패했으면 새 작업을 보관하고 대기열에 넣으며, 그렇지 않으면 기존 작업을 반환합니다.
+     * 실패한 작업의 확인과 교체는 Redis에서 한 번에 실행되므로, 동시에 다시 요청해도 작업은 하나만 대기열에 들어갑니다.
+     *
+     * @param memberId 사용자 ID
+     * @param roomId 채팅방 ID
+     * @return 새로 등록한 작업 또는 기존 작업
+     */
+    private Mono<AiChatReportJob> registerReportJob(Long memberId, Long roomId) {
+        AiChatReportJob job = AiChatReportJob.queued(roomId, memberId);
+        return openAiRepository.saveAiChatReportJobIfAbsentOrFailed(job, aiChatReportJobProps.ttl())
+                .flatMap(saved -> saved
+                        ? enqueueReportJob(job)
+                        : openAiRepository.findAiChatReportJob(roomId)
+                        .switchIfEmpty(Mono.defer(() -> registerReportJob(memberId, roomId)))); // 조회 직전에 만료된 경우
+    }
+
+    @Override
+    public Mono<AiChatReportJobResponse> getReportJob(Long memberId, Long roomId) {
+        return checkRoomOwner(memberId, roomId)
+                .then(Mono.defer(() -> openAiRepository.findAiChatReportJob(roomId)))
+                .switchIfEmpty(Mono.error(new AiChatException(AiChatErrorCode.NOT_FOUND_AI_CHAT_REPORT_JOB)))
+                .map(AiChatReportJobResponse::from);
+    }
+
+    /**
+     * 사용자가 채팅방의 주인인지 확인합니다.
+     *
+     * @param memberId 사용자 ID
+     * @param roomId 채팅방 ID
+     * @return 확인 완료 신호, 다른 사용자의 채팅방이면 AiChatException
+     */
+    private Mono<Void> checkRoomOwner(Long memberId, Long roomId) {
+        return aiChatRoomMetadataCache.find(roomId)
+                .filter(roomMetadata -> roomMetadata.memberId().equals(memberId))
+                .switchIfEmpty(Mono.error(new AiChatException(AiChatErrorCode.NOT_FOUND_AI_CHAT_ROOM)))
+                .then();
+    }
+
+    /**
+     * 작업을 RabbitMQ 작업 대기열에 넣습니다. 대기열에 넣지 못하면 작업을 실패로 기록하여 다시 요청할 수 있게 합니다.
+     *
+     * @param job 레포트 생성 작업
+     * @return 대기열에 넣은 작업
+     */
+    private Mono<AiChatReportJob> enqueueReportJob(AiChatReportJob job) {
+        return Mono.fromRunnable(() -> rabbitTemplate.convertAndSend("", aiChatReportJobProps.queue(), job))
+                .subscribeOn(blockingSchedulers.messaging())
+                .thenReturn(job)
+                .onErrorResume(e -> openAiRepository.saveAiChatReportJob(job.failed(), aiChatReportJobProps.ttl())
+                        .then(Mono.error(e)));
+    }
+
     @Override
     public FullReportInfo getReportDetail(Long reportId) {
         AiChatReport aiChatReport = aiChatReportRepository.findById(reportId).orElseThrow(() -> new IllegalArgumentException("Can't find the report with Id: " + reportId));
@@ -93,37 +242,12 @@ public class AiChatReportServiceImpl implements AiChatReportService {
         return getAiChatReportCreateResponseMono(roomId, reportRequest);
     }
 
+    /**
+     * 레포트와 피드백은 JPA 전용 스케줄러에서 하나의 트랜잭션으로 저장하며, 피드백 수와 관계없이 쿼리 수가 일정합니다.
+     */
     @Override
     public Mono<Long> getAiChatReportCreateResponseMono(Long roomId, AiChatReportCreateRequest reportRequest) {
-        return Mono.fromCallable(() -> aiChatRoomRepository.findById(roomId).orElseThrow(() -> new RuntimeException("Can't find the aiChatRoom with id: " + roomId)))
-                .subscribeOn(Schedulers.boundedElastic())
-                .flatMap(aiChatRoom -> {
-                    AiChatReport report = AiChatReport.builder()
-                            .aiChatRoom(aiChatRoom)
-                            .conversationSummary(reportRequest.conversationSummary())
-                            .vocabularyScore(reportRequest.vocabularyScore())
-                            .wordScore(reportRequest.wordScore())
-                            .grammarScore(reportRequest.grammarScore())
-                            .fluencyScore(reportRequest.fluencyScore())
-                            .contextScore(reportRequest.contextScore())
-                            .build();
-
-                    return Mono.fromCallable(() -> aiChatReportRepository.save(report))
-                            .subscribeOn(Schedulers.boundedElastic())
-                            .flatMap(savedReport -> Flux.fromIterable(reportRequest.feedbacks())
-                                    .publishOn(Schedulers.boundedElastic())
-                                    .flatMap(feedback ->
-                                            Mono.fromCallable(() -> {
-                                                AiChatHistory aiChatHistory = aiChatHistoryRepository.findById(feedback.chatId())
-                                                        .orElseThrow(() -> new RuntimeException("Can't find the chat"));
-                                                AiChatFeedback aiChatFeedback = AiChatFeedback.builder()
-                                                        .aiChatHistory(aiChatHistory)
-                                                        .content(feedback.content())
-                                                        .build();
-                                                aiChatFeedbackRepository.save(aiChatFeedback);
-                                                return aiChatFeedback;
-                                            }).subscribeOn(Schedulers.boundedElastic()))
-                                    .then(Mono.just(savedReport.getId())));
-                });
+        return Mono.fromCallable(() -> aiChatReportWriter.save(roomId, reportRequest))
+                .subscribeOn(blockingSchedulers.jpa());
     }
 }
@@ -0,0 +1,91 @@
+package com.ssafy.backend.domain.aichat.service;
+
+import com.ssafy.backend.domain.aichat.dto.AiChatFeedbackCreateRequest;
+import com.ssafy.backend.domain.aichat.dto.AiChatReportCreateRequest;
+import com.ssafy.backend.domain.aichat.entity.AiChatFeedback;
+import com.ssafy.backend.domain.aichat.entity.AiChatHistory;
+import com.ssafy.backend.domain.aichat.entity.AiChatReport;
+import com.ssafy.backend.domain.aichat.entity.AiChatRoom;
+import com.ssafy.backend.domain.aichat.repository.AiChatFeedbackRepository;
+import com.ssafy.backend.domain.aichat.repository.AiChatHistoryRepository;
+import com.ssafy.backend.domain.aichat.repository.AiChatReportRepository;
+import com.ssafy.backend.domain.aichat.repository.AiChatRoomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * GPT가 생성한 레포트와 피드백을 하나의 트랜잭션으로 저장하는 컴포넌트입니다.
+ * 피드백이 가리키는 대화 내역은 IN 쿼리 한 번으로 조회하고, 레포트와 피드백은 ID를 미리 할당받으므로 INSERT가 배치로 전송됩니다.
+ * 피드백 수와 관계없이 실행되는 쿼리 수가 일정합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AiChatReportWriter {
+
+    private final AiChatRoomRepository aiChatRoomRepository;
+    private final AiChatHistoryRepository aiChatHistoryRepository;
+    private final AiChatReportRepository aiChatReportRepository;
+    private final AiChatFeedbackRepository aiChatFeedbackRepository;
+
+    /**
+     * 레포트와 피드백을 저장합니다.
+     * 채팅방에 속하지 않거나 존재하지 않는 대화 내역에 대한 피드백(GPT가 잘못 만든 ID)과 같은 대화 내역에 대한 중복 피드백은 저장하지 않습니다.
+     *
+     * @param roomId 채팅방 ID
+     * @param reportRequest GPT가 생성한 레포트
+     * @return 저장된 레포트 ID
+     */
+    @Transactional
+    public Long save(Long roomId, AiChatReportCreateRequest reportRequest) {
+        AiChatRoom aiChatRoom = aiChatRoomRepository.findById(roomId)
+                .orElseThrow(() -> new RuntimeException("Can't find the aiChatRoom with id: " + roomId));
+
+        AiChatReport report = aiChatReportRepository.save(AiChatReport.builder()
+                .aiChatRoom(aiChatRoom)
+                .conversationSummary(reportRequest.conversationSummary())
+                .vocabularyScore(reportRequest.vocabularyScore())
+                .wordScore(reportRequest.wordScore())
+                .grammarScore(reportRequest.grammarScore())
+                .fluencyScore(reportRequest.fluencyScore())
+                .contextScore(reportRequest.contextScore())
+                .build());
+
+        aiChatFeedbackRepository.saveAll(createFeedbacks(roomId, reportRequest.feedbacks()));
+        return report.getId();
+    }
+
+    private List<AiChatFeedback> createFeedbacks(Long roomId, List<AiChatFeedbackCreateRequest> feedbackRequests) {
+        if (feedbackRequests == null || feedbackRequests.isEmpty()) {
+            return List.of();
+        }
+
+        // 대화 내역 하나에는 피드백 하나만 저장할 수 있으므로 먼저 나온 피드백을 사용합니다.
+        Map<Long, String> contents = feedbackRequests.stream()
+                .filter(feedback -> feedback.chatId() != null)
+                .collect(Collectors.toMap(AiChatFeedbackCreateRequest::chatId, AiChatFeedbackCreateRequest::content,
+                        (first, second) -> first, LinkedHashMap::new));
+        Map<Long, AiChatHistory> histories = aiChatHistoryRepository.findByAiChatRoomIdAndIdIn(roomId, contents.keySet()).stream()
+                .collect(Collectors.toMap(AiChatHistory::getId, Function.identity()));
+        if (histories.size() < feedbackRequests.size()) {
+            log.warn("채팅방의 대화 내역이 아니거나 중복된 피드백을 제외합니다. roomId : {}, requested : {}, saved : {}",
+                    roomId, feedbackRequests.size(), histories.size());
+        }
+
+        return contents.entrySet().stream()
+                .filter(entry -> histories.containsKey(entry.getKey()))
+                .map(entry -> AiChatFeedback.builder()
+                        .aiChatHistory(histories.get(entry.getKey()))
+                        .content(entry.getValue())
+                        .build())
+                .toList();
+    }
+}
@@ -3,8 +3,11 @@ package com.ssafy.backend.domain.aichat.service;
 import com.ssafy.backend.domain.aichat.dto.*;
 import com.ssafy.backend.domain.aichat.entity.enums.AiChatCategory;
 import com.ssafy.backend.global.component.openai.dto.Conversation;
+import com.ssafy.backend.global.component.openai.dto.GptSessionMemoryReport;
 import reactor.core.publisher.Mono;
 
+import java.util.Map;
+
 
 public interface AiChatService {
 
@@ -26,13 +29,50 @@ public interface AiChatService {
      */
     Mono<Conversation> setupAiChatBot(Long roomId, AiChatCategory category);
 
+    /**
+     * 채팅방 연결 시 AI 채팅 봇을 설정합니다.
+     * 이미 설정된 채팅방이면 GPT를 호출하지 않고 기존 대화를 이어가며, 같은 채팅방의 설정은 동시에 하나만 진행됩니다.
+     *
+     * @param roomId   채팅방 ID
+     * @param category 채팅방 카테고리
+     * @return 새로 설정된 대화에 대한 Mono<Conversation>, 기존 대화를 이어가거나 설정이 진행 중이면 빈 Mono
+     */
+    Mono<Conversation> connectAiChatBot(Long roomId, AiChatCategory category);
+
     /**
      * 사용자로부터 AI 채팅 메시지를 받아 처리합니다.
+     * 메시지 ID가 있으면 이미 받은 메시지인지 확인하여, 클라이언트가 재전송한 메시지는 다시 처리하지 않습니다.
      *
      * @param memberId 사용자 ID
      * @param roomId   채팅방 ID
+     * @param messageId 클라이언트가 생성한 메시지 ID (없으면 null)
      * @param userMessage 사용자 메시지
      */
-    void sendAiChatMessageByUser(Long memberId, Long roomId, AiChatMessage userMessage);
+    void sendAiChatMessageByUser(Long memberId, Long roomId, String messageId, AiChatMessage userMessage);
+
+    /**
+     * GPT 메시지의 한국어 번역과 모범 답변을 조회합니다.
+     * 간소화 모드의 채팅방은 처음 요청할 때 GPT로 생성하며, 이후에는 캐시된 결과를 반환합니다.
+     *
+     * @param memberId  사용자 ID
+     * @param historyId GPT 메시지의 대화 내역 ID
+     * @return 번역 및 모범 답변 응답 객체
+     */
+    Mono<AiChatTranslationResponse> getAiChatTranslation(Long memberId, Long historyId);
+
+    /**
+     * 채팅방 대화 상태의 Redis 메모리 사용량과 바이너리 코덱 적용 전후의 크기를 조회합니다.
+     *
+     * @param roomId 채팅방 ID
+     * @return 메모리 사용량 보고서
+     */
+    Mono<GptSessionMemoryReport> getAiChatSessionMemoryReport(Long roomId);
+
+    /**
+     * 처리 대기 중인 메시지가 있는 채팅방별 대기 메시지 수를 조회합니다.
+     *
+     * @return 채팅방 ID와 대기 메시지 수(처리 중인 메시지 포함)의 Map
+     */
+    Map<Long, Integer> getRoomMessageQueueDepths();
 
 }
@@ -1,7 +1,7 @@
 package com.ssafy.backend.domain.aichat.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.backend.domain.aichat.buffer.AiChatHistoryWriteBuffer;
+import com.ssafy.backend.domain.aichat.cache.AiChatRoomMetadataCache;
 import com.ssafy.backend.domain.aichat.dto.*;
 import com.ssafy.backend.domain.aichat.entity.*;
 import com.ssafy.backend.domain.aichat.entity.enums.AiChatCategory;
@@ -15,36 +15,72 @@ import com.ssafy.backend.domain.member.exception.MemberErrorCode;
 import com.ssafy.backend.domain.member.exception.MemberException;
 import com.ssafy.backend.domain.member.repository.MemberRepository;
 import com.ssafy.backend.global.component.openai.OpenAiCommunicationProvider;
+import com.ssafy.backend.global.component.openai.context.GptContextManager;
+import com.ssafy.backend.global.component.openai.duplicate.GptDuplicateTurnDetector;
 import com.ssafy.backend.global.component.openai.dto.*;
+import com.ssafy.backend.global.component.openai.evaluation.GptTurnEvaluator;
+import com.ssafy.backend.global.component.openai.exception.GptTruncatedResponseException;
+import com.ssafy.backend.global.component.openai.parser.GptConversationParser;
+import com.ssafy.backend.global.component.openai.prompt.GptLeanTurnProps;
+import com.ssafy.backend.global.component.openai.prompt.GptOpeningPool;
+import com.ssafy.backend.global.component.openai.prompt.GptPromptRegistry;
 import com.ssafy.backend.global.component.openai.repository.OpenAiRepository;
+import com.ssafy.backend.global.component.openai.speculation.GptSpeculationManager;
+import com.ssafy.backend.global.component.openai.stream.JsonFieldStreamExtractor;
+import com.ssafy.backend.global.component.scheduler.BlockingSchedulers;
+import com.ssafy.backend.global.component.websocket.RoomMessageDispatcher;
+import com.ssafy.backend.global.exception.GlobalErrorCode;
+import com.ssafy.backend.global.exception.GlobalException;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.core.TopicExchange;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
-import java.util.ArrayList;
+import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 
 /**
  * AI 채팅 관련 기능을 구현하는 서비스 클래스.
  * 이 클래스는 AI 채팅방 생성, 사용자 메시지 처리 및 GPT 대화 설정 등을 담당합니다.
+ * 대화 중 Redis 접근은 리액티브 클라이언트로 처리하고, 블로킹 작업인 JPA 작업과 RabbitMQ 전송은
+ * {@link BlockingSchedulers}의 전용 스케줄러에서만 실행합니다.
+ * 대화 내역은 {@link AiChatHistoryWriteBuffer}를 거쳐 배치로 저장됩니다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AiChatServiceImpl implements AiChatService {
 
+    // 설정 응답을 기다리는 최대 시간(요청 대기열 대기 + 응답)보다 길게 잡아, 진행 중인 설정의 잠금이 먼저 만료되지 않도록 합니다.
+    private static final Duration SETUP_LOCK_TIMEOUT = Duration.ofMinutes(2);
+
     private final AiChatHistoryRepository aiChatHistoryRepository;
+    private final AiChatHistoryWriteBuffer aiChatHistoryWriteBuffer;
     private final MemberRepository memberRepository;
     private final AiChatRoomRepository aiChatRoomRepository;
+    private final AiChatRoomMetadataCache aiChatRoomMetadataCache;
     private final RabbitTemplate rabbitTemplate;
     private final TopicExchange topicExchange;
     private final OpenAiCommunicationProvider openAiCommunicationProvider;
     private final OpenAiRepository openAiRepository;
+    private final RoomMessageDispatcher roomMessageDispatcher;
+    private final BlockingSchedulers blockingSchedulers;
+    private final GptContextManager gptContextManager;
+    private final GptPromptRegistry gptPromptRegistry;
+    private final GptOpeningPool gptOpeningPool;
+    private final GptConversationParser gptConversationParser;
+    private final GptSpeculationManager gptSpeculationManager;
+    private final GptDuplicateTurnDetector gptDuplicateTurnDetector;
+    private final GptTurnEvaluator gptTurnEvaluator;
+    private final GptLeanTurnProps gptLeanTurnProps;
+    private final MeterRegistry meterRegistry;
 
     /**
      * {@inheritDoc}
@@ -62,6 +98,9 @@ public class AiChatServiceImpl implements AiChatService {
                 .build();
         AiChatRoom room = aiChatRoomRepository.save(aiChatRoom);
 
+        // 대화 중 채팅방을 다시 조회하지 않도록 채팅방 정보를 캐시합니다.
+        aiChatRoomMetadataCache.put(new AiChatRoomMetadata(room.getId(), memberId, category));
+
         // 생성한 채팅방 정보 반환
         return AiChatRoomCreateResponse.builder()
                 .id(room.getId())
@@ -75,198 +114,491 @@ public class AiChatServiceImpl implements AiChatService {
      */
     @Override
     public Mono<Conversation> setupAiChatBot(Long roomId, AiChatCategory category) {
-        return getAiChatRoom(roomId) // roomId에 해당하는 AiChatRoom을 비동기적으로 조회합니다.
-                .flatMap(aiChatRoom -> setupGptAndSaveHistory(roomId, aiChatRoom, category)) // 조회된 AiChatRoom과 함께 GPT 설정 및 이력 저장 로직을 수행합니다.
-                .subscribeOn(Schedulers.boundedElastic()); // 이 작업을 별도의 스레드에서 실행하도록 Schedulers를 사용하여 구독합니다.
+        return getAiChatRoom(roomId) // roomId에 해당하는 채팅방이 존재하는지 확인합니다.
+                .flatMap(roomMetadata -> setupGptAndSaveHistory(roomId, category)); // GPT 설정 및 이력 저장 로직을 수행합니다.
     }
 
     /**
      * {@inheritDoc}
+     * 모바일 재연결, 로드 밸런서 전환 등으로 CONNECT가 반복되어도 GPT 설정 요청은 한 번만 보내고 대화 내역은 유지합니다.
+     * 설정이 없을 때만 Redis 잠금을 획득한 요청이 남아있는 이전 대화 내역을 정리하고 설정을 진행합니다.
      */
     @Override
-    public void sendAiChatMessageByUser(Long memberId, Long roomId, AiChatMessage userMessage) {
-        // 사용자 정보와 채팅방 정보를 검증합니다.
-        Member member = memberRepository.findById(memberId).orElseThrow(()
-        -> new MemberException(MemberErrorCode.NOT_FOUND_MEMBER));
+    public Mono<Conversation> connectAiChatBot(Long roomId, AiChatCategory category) {
+        return openAiRepository.findOpenAiSetup(roomId)
+                .hasElement()
+                .flatMap(hasSetup -> {
+                    if (hasSetup) {
+                        log.info("이미 설정된 채팅방에 다시 연결되어 기존 대화를 이어갑니다. roomId : {}", roomId);
+                        return Mono.<Conversation>empty();
+                    }
+                    return openAiRepository.acquireAiChatSetupLock(roomId, SETUP_LOCK_TIMEOUT)
+                            .flatMap(acquired -> {
+                                if (!acquired) {
+                                    log.info("채팅방 설정이 이미 진행 중입니다. roomId : {}", roomId);
+                                    return Mono.<Conversation>empty();
+                                }
+                                // 설정이 만료된 채팅방에 남아있는 대화 내역을 정리합니다.
+                                return openAiRepository.deleteAiChatSetupAndHistory(roomId)
+                                        .then(Mono.defer(() -> setupAiChatBot(roomId, category)))
+                                        .doFinally(signalType -> releaseAiChatSetupLock(roomId)); // 설정이 저장된 뒤 잠금을 해제합니다.
+                            });
+                });
+    }
 
-        AiChatRoom aiChatRoom = aiChatRoomRepository.findById(roomId).orElseThrow(()
-        -> new AiChatException(AiChatErrorCode.NOT_FOUND_AI_CHAT_ROOM));
+    /**
+     * 채팅방 설정 잠금을 해제합니다. 해제에 실패해도 잠금은 만료 시간이 지나면 사라지므로 로그만 남깁니다.
+     *
+     * @param roomId 채팅방 ID
+     */
+    private void releaseAiChatSetupLock(Long roomId) {
+        openAiRepository.releaseAiChatSetupLock(roomId)
+                .subscribe(
+                        released -> {
+                        },
+                        e -> log.warn("채팅방 설정 잠금을 해제하지 못했습니다. roomId : {}", roomId, e)
+                );
+    }
 
-        // 사용자 메시지를 저장합니다.
-        saveUserMessage(roomId, aiChatRoom, userMessage);
+    /**
+     * {@inheritDoc}
+     * 메시지 처리는 채팅방별 실행 큐에 등록되어 STOMP 인바운드 스레드가 아닌 작업 스레드에서 순서대로 수행됩니다.
+     * 채팅방의 대기열이 가득 찬 경우 처리하지 않고 채팅방에 안내 메시지를 전송합니다.
+     * 이미 받은 메시지 ID는 오류 없이 무시하며({@code aichat.message.duplicates} 메트릭으로 기록),
+     * 메시지 ID 확인은 STOMP 인바운드 스레드를 막지 않도록 실행 큐의 작업 안에서 리액티브 클라이언트로 수행합니다.
+     * 메시지 ID는 작업이 실행될 때 기록되므로, 대기열이 가득 차거나 작업 스레드 풀이 포화되어 처리하지 못한 메시지는 그대로 재전송할 수 있습니다.
+     */
+    @Override
+    public void sendAiChatMessageByUser(Long memberId, Long roomId, String messageId, AiChatMessage userMessage) {
+        boolean accepted = roomMessageDispatcher.dispatch(roomId, () -> processNewUserMessage(memberId, roomId, messageId, userMessage),
+                () -> rejectUserMessage(roomId));
+        if (!accepted) {
+            sendErrorToRabbitMQ(roomId, AiChatErrorCode.TOO_MANY_AI_CHAT_MESSAGES);
+        }
+    }
 
-        // GPT와의 대화를 진행합니다.
-        handleConversationWithGpt(roomId);
+    /**
+     * 처음 받은 메시지이면 처리하고, 클라이언트가 재전송한 메시지이면 무시합니다.
+     *
+     * @param memberId 사용자 ID
+     * @param roomId 채팅방 ID
+     * @param messageId 클라이언트가 보낸 메시지 ID (없으면 중복 확인 없이 처리)
+     * @param userMessage 사용자 메시지
+     * @return GPT 대화 결과를 포함하는 Mono<Conversation> 객체, 이미 받은 메시지이면 빈 Mono
+     */
+    private Mono<Conversation> processNewUserMessage(Long memberId, Long roomId, String messageId, AiChatMessage userMessage) {
+        if (messageId == null) {
+            return processUserMessage(memberId, roomId, userMessage);
+        }
+        return openAiRepository.addAiChatMessageId(roomId, messageId)
+                .flatMap(added -> {
+                    if (!Boolean.TRUE.equals(added)) {
+                        log.info("이미 받은 메시지를 무시합니다. roomId : {}, messageId : {}", roomId, messageId);
+                        meterRegistry.counter("aichat.message.duplicates").increment();
+                        return Mono.<Conversation>empty();
+                    }
+                    return processUserMessage(memberId, roomId, userMessage);
+                });
+    }
+
+    /**
+     * 작업 스레드 풀이 포화되어 처리하지 못한 사용자 메시지를 채팅방에 안내합니다.
+     *
+     * @param roomId 채팅방 ID
+     */
+    private void rejectUserMessage(Long roomId) {
+        publishToRoom(() -> sendErrorToRabbitMQ(roomId, AiChatErrorCode.AI_CHAT_SERVER_BUSY))
+                .subscribe(
+                        sent -> {
+                        },
+                        e -> log.warn("채팅방에 처리 지연을 안내하지 못했습니다. roomId : {}", roomId, e)
+                );
     }
 
     /**
-     * 채팅방 ID를 기반으로 해당 채팅방을 조회합니다.
+     * {@inheritDoc}
+     * 다른 사용자의 메시지이거나 GPT 메시지가 아니면 찾을 수 없는 메시지로 처리합니다.
+     */
+    @Override
+    public Mono<AiChatTranslationResponse> getAiChatTranslation(Long memberId, Long historyId) {
+        return Mono.fromCallable(() -> getGptChatHistory(memberId, historyId))
+                .subscribeOn(blockingSchedulers.jpa())
+                .flatMap(history -> openAiRepository.findAiChatTranslation(historyId)
+                        .switchIfEmpty(Mono.defer(() -> createAiChatTranslation(history))))
+                .map(translation -> AiChatTranslationResponse.builder()
+                        .historyId(historyId)
+                        .korean(translation.gptKoreanResponse())
+                        .userTipJapanese(translation.userTipJapaneseResponse())
+                        .userTipKorean(translation.userTipKoreanResponse())
+                        .build());
+    }
+
+    /**
+     * 사용자의 채팅방에 속한 GPT 메시지를 조회합니다.
+     * 방금 전송된 메시지는 아직 쓰기 버퍼에 남아 있을 수 있으므로, 찾지 못하면 버퍼를 비운 뒤 한 번 더 조회합니다.
+     *
+     * @param memberId 사용자 ID
+     * @param historyId 대화 내역 ID
+     * @return GPT 메시지 대화 내역
+     */
+    private AiChatHistory getGptChatHistory(Long memberId, Long historyId) {
+        AiChatHistory history = aiChatHistoryRepository.findById(historyId)
+                .or(() -> {
+                    aiChatHistoryWriteBuffer.flushAndWait();
+                    return aiChatHistoryRepository.findById(historyId);
+                })
+                .filter(chatHistory -> chatHistory.getSender() == AiChatSender.GPT)
+                .orElseThrow(() -> new AiChatException(AiChatErrorCode.NOT_FOUND_AI_CHAT_HISTORY));
+
+        AiChatRoomMetadata roomMetadata = aiChatRoomMetadataCache.get(history.getAiChatRoom().getId());
+        if (!roomMetadata.memberId().equals(memberId)) {
+            throw new AiChatException(AiChatErrorCode.NOT_FOUND_AI_CHAT_HISTORY);
+        }
+        return history;
+    }
+
+    /**
+     * GPT에 메시지의 한국어 번역과 모범 답변을 요청하고, 결과를 Redis에 캐시합니다.
+     *
+     * @param history GPT 메시지 대화 내역
+     * @return 번역 및 모범 답변
+     */
+    private Mono<GptTranslation> createAiChatTranslation(AiChatHistory history) {
+        return openAiCommunicationProvider.sendTranslationPromptToGpt(GptTranslationRequest.of(history.getContent()))
+                .flatMap(responseString -> Mono.fromCallable(() -> gptConversationParser.parseTranslation(responseString)))
+                .flatMap(translation -> openAiRepository.saveAiChatTranslation(history.getId(), translation, gptLeanTurnProps.translationTtl())
+                        .thenReturn(translation));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<GptSessionMemoryReport> getAiChatSessionMemoryReport(Long roomId) {
+        return openAiRepository.reportAiChatSessionMemory(roomId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<Long, Integer> getRoomMessageQueueDepths() {
+        return roomMessageDispatcher.getQueueDepths();
+    }
+
+    /**
+     * 사용자 메시지 하나를 처리합니다. 채팅방별 실행 큐의 작업 스레드에서 호출됩니다.
+     * 반환된 Mono가 완료(GPT 응답 저장 및 전송)되어야 같은 채팅방의 다음 메시지가 처리되므로,
+     * GPT는 항상 앞선 대화가 모두 반영된 내역을 기반으로 응답합니다.
+     * 채팅방 정보는 캐시에서 조회하고 메시지는 쓰기 버퍼를 거쳐 저장하므로, 채팅방과 회원을 DB에서 조회하지 않습니다.
+     * 작업 스레드는 처리 흐름을 구독만 하고 바로 반환되며, 이후 단계는 각 작업에 맞는 스케줄러에서 실행됩니다.
+     *
+     * @param memberId 사용자 ID (STOMP 인증 정보)
+     * @param roomId   채팅방 ID
+     * @param userMessage 사용자 메시지
+     * @return GPT 대화 결과를 포함하는 Mono<Conversation> 객체
+     */
+    private Mono<Conversation> processUserMessage(Long memberId, Long roomId, AiChatMessage userMessage) {
+        return getOwnedAiChatRoom(memberId, roomId) // 사용자가 채팅방의 주인인지 검증합니다.
+                .filterWhen(roomMetadata -> checkNewUserTurn(roomId, userMessage.japanese())) // 이전 메시지와 중복된 메시지는 저장하지 않습니다.
+                .flatMap(roomMetadata -> saveUserMessage(roomId, userMessage)) // 사용자 메시지를 저장하고, 저장 후의 대화 상태를 함께 받습니다.
+                .flatMap(session -> sendAiChatMessageByGpt(roomId, userMessage.japanese(), session)) // GPT와의 대화를 진행합니다. 결과는 저장하면서 RabbitMQ로 전송합니다.
+                .doOnNext(conversation -> gptSpeculationManager.speculate(roomId, conversation)) // 사용자가 모범 답변을 보낼 경우를 대비해 다음 응답을 미리 생성합니다.
+                .onErrorResume(this::isOpenAiServerBusy, e ->
+                        // OpenAI 요청 대기열에서 제한 시간 안에 전송되지 못한 경우 채팅방에 안내합니다.
+                        publishToRoom(() -> sendErrorToRabbitMQ(roomId, AiChatErrorCode.AI_CHAT_SERVER_BUSY)).then(Mono.<Conversation>empty()));
+    }
+
+    /**
+     * 사용자 메시지가 이전 사용자 메시지와 거의 같은지 저장하기 전에 확인합니다.
+     * 중복된 메시지는 대화 내역에 남기지 않아야 다음 GPT 요청과 레포트에 포함되지 않으므로, 저장, Redis 대화 내역 추가, 메시지 평가 전에 확인하고
+     * 중복이면 채팅방에 중복 안내만 전송합니다.
+     *
+     * @param roomId 채팅방 ID
+     * @param userMessage 사용자가 보낸 일본어 메시지
+     * @return 처리할 메시지이면 true, 중복된 메시지이면 false
+     */
+    private Mono<Boolean> checkNewUserTurn(Long roomId, String userMessage) {
+        if (!gptDuplicateTurnDetector.isEnabled()) {
+            return Mono.just(true);
+        }
+        return openAiRepository.findAiChatSession(roomId)
+                .map(session -> gptDuplicateTurnDetector.isDuplicate(session.history(), userMessage))
+                .flatMap(duplicate -> duplicate
+                        ? publishToRoom(() -> sendErrorToRabbitMQ(roomId, AiChatErrorCode.DUPLICATE_USER_MESSAGE)).thenReturn(false)
+                        : Mono.just(true));
+    }
+
+    /**
+     * 사용자가 주인인 채팅방의 정보를 조회합니다.
+     *
+     * @param memberId 사용자 ID
+     * @param roomId 채팅방 ID
+     * @return 채팅방 정보에 대한 Mono 객체, 다른 사용자의 채팅방이면 AiChatException
+     */
+    private Mono<AiChatRoomMetadata> getOwnedAiChatRoom(Long memberId, Long roomId) {
+        return getAiChatRoom(roomId)
+                .filter(roomMetadata -> roomMetadata.memberId().equals(memberId))
+                .switchIfEmpty(Mono.error(() -> new AiChatException(AiChatErrorCode.NOT_FOUND_AI_CHAT_ROOM)));
+    }
+
+    /**
+     * OpenAI 요청 조절기의 대기 시간 초과로 발생한 예외인지 확인합니다.
+     *
+     * @param e 발생한 예외
+     * @return 대기 시간 초과 예외이면 true
+     */
+    private boolean isOpenAiServerBusy(Throwable e) {
+        return e instanceof GlobalException globalException
+                && globalException.getErrorCode() == GlobalErrorCode.OPENAI_SERVER_BUSY;
+    }
+
+    /**
+     * 채팅방 ID를 기반으로 해당 채팅방의 정보를 조회합니다.
      * 비동기적으로 처리되며, 채팅방이 존재하지 않을 경우 AiChatException을 발생시킵니다.
+     * 채팅방 정보 캐시에서 조회하며, 캐시에 없을 때만 JPA 전용 스케줄러에서 DB를 조회합니다.
      * @param roomId 채팅방의 ID
-     * @return 조회된 AiChatRoom에 대한 Mono 객체
+     * @return 조회된 채팅방 정보에 대한 Mono 객체
      */
-    private Mono<AiChatRoom> getAiChatRoom(Long roomId) {
-        return Mono.fromCallable(() -> aiChatRoomRepository.findById(roomId)
-                        .orElseThrow(() -> new AiChatException(AiChatErrorCode.NOT_FOUND_AI_CHAT_ROOM)))
-                .subscribeOn(Schedulers.boundedElastic());
+    private Mono<AiChatRoomMetadata> getAiChatRoom(Long roomId) {
+        return aiChatRoomMetadataCache.find(roomId);
     }
 
     /**
      * GPT 설정을 진행하고, 해당 설정에 기반한 대화를 분석하여 저장합니다.
+     * 카테고리별로 미리 생성된 첫 대화가 있으면 바로 사용하고, 없을 때만 GPT를 직접 호출합니다.
      *
      * @param roomId 채팅방의 ID
-     * @param aiChatRoom 채팅방 객체
      * @param category 채팅방 카테고리
      * @return 설정된 대화에 대한 Mono<Conversation> 객체
      */
-    private Mono<Conversation> setupGptAndSaveHistory(Long roomId, AiChatRoom aiChatRoom, AiChatCategory category) {
-        return openAiCommunicationProvider.setupPromptToGpt(category) // 주어진 카테고리에 대해 GPT 프롬프트 설정을 시작합니다.
-                .flatMap(setupResponse -> parseAndSaveResponse(roomId, aiChatRoom, setupResponse, category)); // 설정 응답을 분석하고 저장하는 메소드를 호출합니다.
+    private Mono<Conversation> setupGptAndSaveHistory(Long roomId, AiChatCategory category) {
+        return gptOpeningPool.poll(category) // 미리 생성된 첫 대화를 꺼냅니다.
+                .switchIfEmpty(Mono.defer(() -> openAiCommunicationProvider.setupPromptToGpt(category))) // 풀이 비어있으면 GPT 프롬프트 설정을 시작합니다.
+                .flatMap(setupResponse -> parseAndSaveResponse(roomId, setupResponse, category)); // 설정 응답을 분석하고 저장하는 메소드를 호출합니다.
     }
 
     /**
      * GPT 설정 응답을 파싱하고, 결과를 저장한 후, RabbitMQ를 통해 메시지를 전송합니다.
      *
      * @param roomId 채팅방 ID
-     * @param aiChatRoom 채팅방 객체
      * @param setupResponse GPT 설정에 대한 응답 문자열
      * @param category 채팅방 카테고리
      * @return 설정된 대화에 대한 Mono<Conversation> 객체
      */
-    private Mono<Conversation> parseAndSaveResponse(Long roomId, AiChatRoom aiChatRoom, String setupResponse, AiChatCategory category) {
-        return parseGetResponse(roomId, setupResponse) // 설정 응답 문자열을 분석하여 Conversation 객체로 변환합니다.
-                .doOnSuccess(conversation -> { // 성공적으로 Conversation 객체를 얻었을 때 수행할 작업을 정의합니다.
-                    saveGptMessage(aiChatRoom, conversation, category, setupResponse); // GPT 메시지를 데이터베이스에 저장합니다.
-                    sendMessagesToRabbitMQ(roomId, conversation); // 메시지를 RabbitMQ를 통해 전송합니다.
-                });
+    private Mono<Conversation> parseAndSaveResponse(Long roomId, String setupResponse, AiChatCategory category) {
+        GptSetupReference setupReference = gptPromptRegistry.referenceOf(category); // 첫 대화와 같은 현재 모드의 설정 참조
+        return parseGetResponse(roomId, setupResponse, setupReference.lean()) // 설정 응답 문자열을 분석하여 Conversation 객체로 변환합니다.
+                .flatMap(conversation -> openAiRepository.saveOpenAiSetup(roomId, setupReference) // GPT의 프롬포트 설정 참조를 Redis에 저장합니다.
+                        .then(saveGptConversation(roomId, conversation, setupResponse))) // GPT 메시지를 저장하고 RabbitMQ를 통해 전송합니다.
+                .doOnNext(conversation -> gptSpeculationManager.speculate(roomId, conversation)); // 사용자가 모범 답변을 보낼 경우를 대비해 다음 응답을 미리 생성합니다.
     }
 
     /**
-     * GPT로부터 받은 대화 메시지를 데이터베이스에 저장하고, 대화 설정 및 응답 메시지를 Redis에 저장합니다.
+     * GPT의 응답 메시지를 Redis 대화 내역에 추가합니다. (캐싱 용도)
+     * Redis 대화 내역 추가 시 설정 참조의 만료 시간도 함께 갱신되므로 설정 참조는 다시 저장하지 않습니다.
+     * 응답에 한국어 번역과 모범 답변이 포함되어 있으면(간소화 모드가 아닌 경우) 번역 요청에 사용할 수 있도록 함께 캐시합니다.
      *
-     * @param aiChatRoom 대화가 이루어지는 AI 채팅방 객체
+     * @param roomId 대화가 이루어지는 채팅방의 ID
      * @param conversation GPT와의 대화 내용
-     * @param category 대화 카테고리
-     * @param setupResponse GPT 설정 응답 문자열
-     */
-    private void saveGptMessage(AiChatRoom aiChatRoom, Conversation conversation, AiChatCategory category, String setupResponse) {
-        // 대화 메시지 DB에 저장
-        AiChatHistory gptChatHistory = AiChatHistory.builder()
-                .aiChatRoom(aiChatRoom)
-                .sender(AiChatSender.GPT)
-                .content(conversation.gptJapaneseResponse())
-                .build();
-
-        // GPT의 응답 메시지를 DB에 저장합니다.
-        aiChatHistoryRepository.save(gptChatHistory);
-
-        // GPT의 프롬포트 설정 메시지와 응답 메시지를 Redis에 저장합니다. (캐싱 용도)
-        GptSetupRequest gptSetupRequest = GptSetupRequest.from(category);
-        openAiRepository.saveOpenAiSetup(aiChatRoom.getId(), gptSetupRequest);
-        openAiRepository.saveAiChatHistory(aiChatRoom.getId(), List.of(new GptDialogueMessage("assistant", setupResponse)));
+     * @param responseString GPT 응답 문자열
+     * @param historyId 저장된 GPT 메시지의 대화 내역 ID
+     * @return 저장 완료 신호
+     */
+    private Mono<Void> cacheGptMessage(Long roomId, Conversation conversation, String responseString, Long historyId) {
+        Mono<GptChatSession> appendHistory = openAiRepository.appendAiChatHistory(roomId, List.of(new GptDialogueMessage("assistant", responseString)));
+        if (conversation.gptKoreanResponse() == null) {
+            return appendHistory.then();
+        }
+        GptTranslation translation = new GptTranslation(conversation.gptKoreanResponse(),
+                conversation.userTipJapaneseResponse(), conversation.userTipKoreanResponse());
+        return appendHistory.then(openAiRepository.saveAiChatTranslation(historyId, translation, gptLeanTurnProps.translationTtl()))
+                .then();
     }
 
     /**
      * 사용자로부터 받은 메시지를 저장하고, RabbitMQ를 통해 해당 메시지를 다른 서비스나 컴포넌트에 실시간으로 알립니다.
      *
+     * 사용자 메시지는 DB 저장을 기다리지 않으며, 버퍼에 넣은 뒤 레포트에 사용할 메시지 평가를 백그라운드에서 요청합니다.
+     *
      * @param roomId 대화가 이루어지는 채팅방의 ID
-     * @param aiChatRoom 사용자 메시지와 연관된 AI 채팅방 객체
      * @param userMessage 사용자가 보낸 메시지 정보
+     * @return 사용자 메시지를 추가한 뒤의 대화 상태 (설정 참조, 요약, 최근 대화 내역)
      */
-    private void saveUserMessage(Long roomId, AiChatRoom aiChatRoom, AiChatMessage userMessage) {
-        // 사용자의 메시지를 채팅 기록으로 저장합니다.
-        AiChatHistory userChatHistory = AiChatHistory.builder()
-                .aiChatRoom(aiChatRoom)
-                .sender(AiChatSender.USER)
-                .content(userMessage.japanese())
-                .build();
-
-        // 사용자의 메시지를 DB와 Redis에 저장합니다.
-        aiChatHistoryRepository.save(userChatHistory);
-        openAiRepository.saveAiChatHistory(roomId, List.of(new GptDialogueMessage( "user", userMessage.japanese())));
-
-        // RabbitMQ를 통해 실시간으로 사용자 메시지를 전송합니다.
-        rabbitTemplate.convertAndSend(topicExchange.getName(), "room." + roomId, userMessage);
+    private Mono<GptChatSession> saveUserMessage(Long roomId, AiChatMessage userMessage) {
+        // 사용자의 메시지를 쓰기 버퍼와 Redis 대화 내역에 저장하고, RabbitMQ를 통해 실시간으로 사용자 메시지를 전송합니다.
+        return aiChatHistoryWriteBuffer.write(roomId, AiChatSender.USER, userMessage.japanese())
+                .flatMap(historyId -> openAiRepository.appendAiChatHistory(roomId, List.of(new GptDialogueMessage("user", userMessage.japanese())))
+                        .doOnNext(session -> gptTurnEvaluator.evaluateInBackground(roomId, historyId,
+                                findPreviousGptMessage(session.history()), userMessage.japanese())))
+                .flatMap(session -> publishToRoom(() -> rabbitTemplate.convertAndSend(topicExchange.getName(), "room." + roomId, userMessage))
+                        .thenReturn(session));
     }
 
     /**
-     * GPT와 대화 처리를 담당하여, 사용자 메시지를 기반으로 GPT와 대화를 진행하고 그 결과를 RabbitMQ를 통해 전송합니다.
-     * 이 메서드는 비동기적으로 대화를 진행하며, 대화 결과를 다른 사용자나 서비스와 공유하기 위해 메시지 브로커를 사용합니다.
+     * 대화 내역에서 마지막 사용자 메시지 직전의 GPT 일본어 대답을 찾습니다.
+     * Redis 대화 내역의 GPT 메시지는 응답 문자열(JSON)이므로 일본어 대답만 꺼내며, 파싱할 수 없으면 그대로 사용합니다.
      *
-     * @param roomId 대화가 이루어지는 채팅방의 ID
+     * @param history 사용자 메시지를 추가한 뒤의 최근 대화 내역
+     * @return 직전 GPT 대답, 없으면 null
      */
-    private void handleConversationWithGpt(Long roomId) {
-        // GPT와의 대화를 비동기적으로 처리하고 결과를 RabbitMQ로 전송합니다.
-        sendAiChatMessageByGpt(roomId)
-                .subscribe(conversation -> {
-                    // GPT와 사용자 모범 답안의 메시지를 RabbitMQ를 통해 전달합니다.
-                    sendMessagesToRabbitMQ(roomId, conversation);
-                });
+    private String findPreviousGptMessage(List<GptDialogueMessage> history) {
+        for (int i = history.size() - 2; i >= 0; i--) {
+            GptDialogueMessage message = history.get(i);
+            if ("assistant".equals(message.role())) {
+                try {
+                    return gptConversationParser.parse(message.content(), true).gptJapaneseResponse(); // 일본어 대답만 사용합니다.
+                } catch (IOException | RuntimeException e) {
+                    return message.content();
+                }
+            }
+        }
+        return null;
     }
 
     /**
      * 사용자 메시지를 바탕으로 GPT와의 대화를 진행하고, 그 결과를 Mono<Conversation> 형태로 반환합니다.
      * 이 과정은 GPT 설정을 확인하고, 설정된 대화 내역을 기반으로 GPT와의 새로운 대화를 생성합니다.
+     * 사용자 메시지가 모범 답변과 일치하여 미리 생성한 응답이 있으면 GPT를 호출하지 않고 그 응답을 사용합니다.
      *
      * @param roomId 대화가 진행되는 채팅방의 ID
+     * @param userMessage 사용자가 보낸 일본어 메시지
+     * @param session 사용자 메시지를 저장한 뒤의 대화 상태
      * @return 대화 결과를 포함하는 Mono<Conversation> 객체
      */
-    private Mono<Conversation> sendAiChatMessageByGpt(Long roomId) {
-        // GPT 채팅 설정을 조회하고, 설정이 없는 경우 예외를 발생시킵니다.
-        return openAiRepository.findOpenAiSetup(roomId)
+    private Mono<Conversation> sendAiChatMessageByGpt(Long roomId, String userMessage, GptChatSession session) {
+        // GPT 채팅 설정을 확인하고, 설정이 없는 경우 예외를 발생시킵니다.
+        return Mono.justOrEmpty(session.setupReference())
                 .switchIfEmpty(Mono.error(new AiChatException(AiChatErrorCode.NOT_FOUNT_AI_CHAT_ROOM_SETUP)))
-                .flatMap(setupRequest -> processGptConversation(roomId, setupRequest));
+                .map(setupReference -> gptPromptRegistry.getSetupRequest(setupReference)) // 저장된 참조로 카테고리별 설정을 조회합니다.
+                .flatMap(setupRequest -> useSpeculativeResponse(roomId, userMessage, session)
+                        .switchIfEmpty(Mono.defer(() -> processGptConversation(roomId, setupRequest, session))));
+    }
+
+    /**
+     * 사용자 메시지에 맞게 미리 생성한 GPT 응답이 있으면 파싱하여 저장합니다.
+     *
+     * @param roomId 대화가 진행되는 채팅방의 ID
+     * @param userMessage 사용자가 보낸 일본어 메시지
+     * @param session 사용자 메시지를 저장한 뒤의 대화 상태
+     * @return 대화 결과를 포함하는 Mono<Conversation> 객체, 사용할 응답이 없으면 빈 Mono
+     */
+    private Mono<Conversation> useSpeculativeResponse(Long roomId, String userMessage, GptChatSession session) {
+        return gptSpeculationManager.take(roomId, userMessage, session.totalCount())
+                .flatMap(responseString -> Mono.fromCallable(() -> gptConversationParser.parse(responseString, session.setupReference().lean()))
+                        .flatMap(conversation -> saveGptConversation(roomId, conversation, responseString)));
     }
 
     /**
      * GPT와의 대화를 처리합니다.
-     * 이 과정에서는 이전 대화 내역과 사용자 메시지를 포함하여 GPT에 대화를 요청하고, 응답을 처리합니다.
+     * 이 과정에서는 설정 프롬프트와 토큰 예산 안의 최근 대화 내역(및 이전 대화 요약)으로 GPT에 스트리밍으로 대화를 요청하고,
+     * 완성된 응답을 처리합니다. 응답의 JSON 형식이 잘못된 경우 먼저 서버에서 구조 오류만 복구를 시도하고,
+     * 복구할 수 없거나 최대 토큰 수에 도달해 응답이 끊긴 경우에는 GPT에 한 번 다시 요청합니다.
      *
      * @param roomId       대화가 진행되는 채팅방의 ID
      * @param setupRequest GPT 대화 설정
+     * @param session      사용자 메시지를 저장한 뒤의 대화 상태
      * @return 대화 결과를 포함하는 Mono<Conversation> 객체
      */
-    private Mono<Conversation> processGptConversation(Long roomId, GptSetupRequest setupRequest) {
-        List<GptDialogueMessage> messages = new ArrayList<>(setupRequest.messages()); // 설정 요청으로부터 초기 대화 메시지 목록을 가져옵니다.
-        return openAiRepository.findAiChatHistory(roomId) // roomId에 해당하는 이전 대화 내역을 비동기적으로 조회합니다.
-                .flatMap(historyMessages -> {
-                    // 이전 대화 내역을 메시지 목록에 추가합니다.
-                    messages.addAll(historyMessages);
-
-//                    log.info(messages.toString());
+    private Mono<Conversation> processGptConversation(Long roomId, GptSetupRequest setupRequest, GptChatSession session) {
+        return gptContextManager.buildMessages(roomId, setupRequest, session) // 토큰 예산에 맞춰 GPT에 보낼 메시지 목록을 구성합니다.
+                .map(messages -> new GptChatRequest("gpt-3.5-turbo-1106", messages, 500)) // GPT와의 새 대화 요청을 생성합니다.
+                .flatMap(gptChatRequest -> streamGptResponse(roomId, gptChatRequest)
+                        .flatMap(responseString ->
+                                Mono.fromCallable(() -> gptConversationParser.parse(responseString, session.setupReference().lean())) // GPT로부터 받은 응답을 파싱합니다. (필요 시 복구)
+                                        .flatMap(conversation -> saveGptConversation(roomId, conversation, responseString))
+                        )
+                        .onErrorResume(IOException.class, e -> {
+                            log.warn("GPT 응답을 파싱하지 못해 다시 요청합니다. roomId : {}, cause : {}", roomId, e.getMessage());
+                            return openAiCommunicationProvider.resendPromptToGpt(gptChatRequest)
+                                    .onErrorResume(GptTruncatedResponseException.class, retryFailure -> // 다시 요청한 응답도 끊기면 채팅방에 에러 메시지를 전송합니다.
+                                            publishToRoom(() -> sendExceptionToRabbitMQ(roomId)).then(Mono.<String>empty()))
+                                    .flatMap(retryResponse -> parseGetResponse(roomId, retryResponse, session.setupReference().lean()) // 다시 실패하면 채팅방에 에러 메시지를 전송합니다.
+                                            .flatMap(conversation -> saveGptConversation(roomId, conversation, retryResponse)));
+                        })
+                );
+    }
 
-                    // GPT와의 새 대화 요청을 생성합니다.
-                    GptChatRequest gptChatRequest = new GptChatRequest("gpt-3.5-turbo-1106", messages, 500);
-                    // GPT에 대화 요청을 보내고 응답을 받습니다.
-                    return openAiCommunicationProvider.sendPromptToGpt(gptChatRequest);
+    /**
+     * GPT에 스트리밍으로 대화를 요청하고, 도착하는 일본어 대답 조각을 바로 채팅방에 전달합니다.
+     *
+     * @param roomId 대화가 진행되는 채팅방의 ID
+     * @param gptChatRequest GPT 대화 요청
+     * @return 모든 조각을 이어 붙인 전체 응답 문자열
+     */
+    private Mono<String> streamGptResponse(Long roomId, GptChatRequest gptChatRequest) {
+        JsonFieldStreamExtractor gptJapaneseExtractor = new JsonFieldStreamExtractor("gpt_japanese"); // 응답 조각에서 일본어 대답만 추출합니다.
+        return openAiCommunicationProvider.streamPromptToGpt(gptChatRequest) // GPT에 스트리밍으로 대화 요청을 보내고 응답 조각을 받습니다.
+                .publishOn(blockingSchedulers.messaging()) // 조각 전송(RabbitMQ)은 HTTP 응답을 처리하는 스레드가 아닌 전송 전용 스케줄러에서 순서대로 수행합니다.
+                .doOnNext(chunk -> {
+                    // 새로 확정된 일본어 대답 조각이 있으면 즉시 채팅방에 전달합니다.
+                    String delta = gptJapaneseExtractor.append(chunk);
+                    if (!delta.isEmpty()) {
+                        sendDeltaToRabbitMQ(roomId, delta);
+                    }
                 })
-                .flatMap(responseString ->
-                        parseGetResponse(roomId, responseString) // GPT로부터 받은 응답을 파싱합니다.
-                                .flatMap(conversation ->
-                                        getAiChatRoom(roomId) // roomId에 해당하는 AiChatRoom을 다시 조회합니다.
-                                                .doOnSuccess(aiChatRoom -> {
-                                                    // GPT 메시지를 데이터베이스와 Redis에 저장합니다.
-                                                    saveGptMessage(aiChatRoom, conversation, aiChatRoom.getCategory(), responseString);
-                                                })
-                                                .thenReturn(conversation) // Conversation 객체를 반환합니다.
-                                )
-                );
+                .collect(Collectors.joining()) // 모든 조각을 이어 붙여 전체 응답 문자열을 만듭니다.
+                .filter(responseString -> !responseString.isEmpty());
+    }
+
+    /**
+     * 파싱된 GPT 대화를 데이터베이스와 Redis에 저장하고, RabbitMQ 전송 전용 스케줄러에서 채팅방에 전송합니다.
+     * 번역 요청에 필요한 GPT 메시지 ID는 쓰기 버퍼가 미리 할당하므로 DB 저장을 기다리지 않고 전송합니다.
+     *
+     * @param roomId 대화가 진행되는 채팅방의 ID
+     * @param conversation 파싱된 GPT 대화
+     * @param responseString GPT 응답 문자열
+     * @return 저장된 대화에 대한 Mono<Conversation> 객체
+     */
+    private Mono<Conversation> saveGptConversation(Long roomId, Conversation conversation, String responseString) {
+        return aiChatHistoryWriteBuffer.write(roomId, AiChatSender.GPT, conversation.gptJapaneseResponse())
+                .flatMap(historyId -> cacheGptMessage(roomId, conversation, responseString, historyId)
+                        .then(publishToRoom(() -> sendMessagesToRabbitMQ(roomId, conversation, historyId))))
+                .thenReturn(conversation);
+    }
+
+    /**
+     * 스트리밍 중인 GPT 일본어 대답 조각을 RabbitMQ를 통해 전송합니다.
+     * 클라이언트는 GPT_STREAM 조각을 이어 붙여 보여주다가, 완성된 GPT 메시지가 도착하면 이를 대체합니다.
+     *
+     * @param roomId 대화가 이루어지는 채팅방의 ID
+     * @param delta 새로 생성된 일본어 대답 조각
+     */
+    private void sendDeltaToRabbitMQ(Long roomId, String delta) {
+        AiChatMessage deltaMessage = buildAiChatMessage(delta, null, AiChatSender.GPT_STREAM, null);
+        rabbitTemplate.convertAndSend(topicExchange.getName(), "room." + roomId, deltaMessage);
+    }
+
+    /**
+     * 블로킹 호출인 RabbitMQ 메시지 전송을 전송 전용 스케줄러에서 실행합니다.
+     *
+     * @param send 실행할 전송 작업
+     * @return 전송 완료 신호
+     */
+    private Mono<Void> publishToRoom(Runnable send) {
+        return Mono.fromRunnable(send)
+                .subscribeOn(blockingSchedulers.messaging())
+                .then();
     }
 
     /**
      * RabbitMQ를 통해 GPT 응답과 사용자의 모범 답안 메시지를 전송합니다.
      * 이 메서드는 대화의 흐름을 다른 사용자나 서비스와 실시간으로 공유하는 데 사용됩니다.
+     * 간소화 모드의 대화에는 번역과 모범 답안이 없으므로 GPT 응답만 전송하며, 클라이언트는 메시지 ID로 번역을 요청합니다.
      *
      * @param roomId 대화가 이루어지는 채팅방의 ID
      * @param conversation GPT와의 대화 결과
+     * @param historyId 저장된 GPT 메시지의 대화 내역 ID
      */
-    private void sendMessagesToRabbitMQ(Long roomId, Conversation conversation) {
-        AiChatMessage gptMessage = buildAiChatMessage(conversation.gptJapaneseResponse(), conversation.gptKoreanResponse(), AiChatSender.GPT);
-        AiChatMessage userTipMessage = buildAiChatMessage(conversation.userTipJapaneseResponse(), conversation.userTipKoreanResponse(), AiChatSender.USER_TIP);
+    private void sendMessagesToRabbitMQ(Long roomId, Conversation conversation, Long historyId) {
+        AiChatMessage gptMessage = buildAiChatMessage(conversation.gptJapaneseResponse(), conversation.gptKoreanResponse(), AiChatSender.GPT, historyId);
 
         // GPT 응답과 사용자 모범 답안을 RabbitMQ를 통해 전달
         rabbitTemplate.convertAndSend(topicExchange.getName(), "room." + roomId, gptMessage);
-        rabbitTemplate.convertAndSend(topicExchange.getName(), "room." + roomId, userTipMessage);
+        if (conversation.userTipJapaneseResponse() != null) {
+            AiChatMessage userTipMessage = buildAiChatMessage(conversation.userTipJapaneseResponse(), conversation.userTipKoreanResponse(), AiChatSender.USER_TIP, null);
+            rabbitTemplate.convertAndSend(topicExchange.getName(), "room." + roomId, userTipMessage);
+        }
     }
 
     /**
@@ -276,13 +608,15 @@ public class AiChatServiceImpl implements AiChatService {
      * @param japanese 일본어 대화 내용입니다.
      * @param korean 한국어 대화 내용입니다.
      * @param sender 메시지의 발신자 (GPT 또는 사용자 모범 답안)
+     * @param historyId GPT 메시지의 대화 내역 ID (없으면 null)
      * @return 구성된 AiChatMessage 객체
      */
-    private AiChatMessage buildAiChatMessage(String japanese, String korean, AiChatSender sender) {
+    private AiChatMessage buildAiChatMessage(String japanese, String korean, AiChatSender sender, Long historyId) {
         return AiChatMessage.builder()
                 .sender(sender)
                 .japanese(japanese)
                 .korean(korean)
+                .historyId(historyId)
                 .build();
     }
 
@@ -292,19 +626,16 @@ public class AiChatServiceImpl implements AiChatService {
      *
      * @param roomId 대화가 이루어지는 채팅방의 ID입니다.
      * @param responseString GPT로부터 받은 응답 문자열입니다.
+     * @param lean 채팅방이 간소화 모드인지 여부입니다. (일반 모드이면 번역과 모범 답변까지 필수)
      * @return 파싱된 대화 내용을 포함하는 Mono<Conversation> 객체입니다.
      */
-    private Mono<Conversation> parseGetResponse(Long roomId, String responseString) {
-        return Mono.fromCallable(() -> {
-            ObjectMapper mapper = new ObjectMapper(); // JSON 데이터를 처리하기 위한 ObjectMapper 인스턴스를 생성합니다.
-            JsonNode root = mapper.readTree(responseString); // 문자열로부터 JSON 노드 트리를 생성합니다.
-            JsonNode conversationNode = root.path("conversation"); // JSON 트리에서 "conversation" 필드를 찾습니다.
-            return mapper.treeToValue(conversationNode, Conversation.class); // JSON 노드를 Conversation 클래스의 인스턴스로 변환합니다.
-        }).onErrorResume(e -> {
-            log.info("exception 터지는지 확인하기: {}", e.getMessage()); // 예외 발생 시 로그를 남깁니다.
-            sendExceptionToRabbitMQ(roomId); // 예외 발생 시 RabbitMQ를 통해 에러 메시지를 전송합니다.
-            return Mono.empty(); // 예외가 발생했을 때 빈 Mono를 반환하여 에러 회복을 시도합니다.
-        });
+    private Mono<Conversation> parseGetResponse(Long roomId, String responseString, boolean lean) {
+        return Mono.fromCallable(() -> gptConversationParser.parse(responseString, lean)) // 응답의 "conversation" 필드를 Conversation 객체로 변환합니다.
+                .onErrorResume(e -> {
+                    log.info("exception 터지는지 확인하기: {}", e.getMessage()); // 예외 발생 시 로그를 남깁니다.
+                    return publishToRoom(() -> sendExceptionToRabbitMQ(roomId)) // 예외 발생 시 RabbitMQ를 통해 에러 메시지를 전송합니다.
+                            .then(Mono.<Conversation>empty()); // 예외가 발생했을 때 빈 Mono를 반환하여 에러 회복을 시도합니다.
+                });
     }
 
     /**
@@ -314,8 +645,17 @@ public class AiChatServiceImpl implements AiChatService {
      * @param roomId 예외가 발생한 채팅방의 ID입니다.
      */
     private void sendExceptionToRabbitMQ(Long roomId) {
-        AiChatMessage errorMessage = buildAiChatMessage(AiChatErrorCode.DUPLICATE_CONVERSATION_TOPIC.getErrorMessage(),
-                AiChatErrorCode.DUPLICATE_CONVERSATION_TOPIC.getErrorMessage(), AiChatSender.GPT);
+        sendErrorToRabbitMQ(roomId, AiChatErrorCode.DUPLICATE_CONVERSATION_TOPIC);
+    }
+
+    /**
+     * 주어진 에러 코드의 메시지를 GPT 메시지 형태로 채팅방에 전송합니다.
+     *
+     * @param roomId 메시지를 전송할 채팅방의 ID입니다.
+     * @param errorCode 전송할 에러 코드입니다.
+     */
+    private void sendErrorToRabbitMQ(Long roomId, AiChatErrorCode errorCode) {
+        AiChatMessage errorMessage = buildAiChatMessage(errorCode.getErrorMessage(), errorCode.getErrorMessage(), AiChatSender.GPT, null);
 
         rabbitTemplate.convertAndSend(topicExchange.getName(), "room." + roomId, errorMessage);
     }
@@ -3,6 +3,7 @@ package com.ssafy.backend.domain.attendance.entity;
 import com.ssafy.backend.domain.attendance.entity.enums.AttendanceType;
 import com.ssafy.backend.domain.member.entity.Member;
 import com.ssafy.backend.global.common.entity.BaseEntity;
+import com.ssafy.backend.global.common.entity.IdSequence;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -14,7 +15,9 @@ import lombok.*;
 public class Attendance extends BaseEntity{
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "attendance_id")
+    @TableGenerator(name = "attendance_id", table = IdSequence.TABLE, pkColumnName = IdSequence.PK_COLUMN,
+            valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = "attendance", allocationSize = IdSequence.ALLOCATION_SIZE)
     @Column(columnDefinition = "INT UNSIGNED")
     private Long id;
 
@@ -8,6 +8,7 @@ import com.ssafy.backend.domain.news.entity.NewsKeywordHistory;
 import com.ssafy.backend.domain.news.entity.NewsShadowing;
 import com.ssafy.backend.domain.vocabulary.entity.PersonalVocabulary;
 import com.ssafy.backend.global.common.entity.BaseEntity;
+import com.ssafy.backend.global.common.entity.IdSequence;
 import com.ssafy.backend.global.component.oauth.vendor.enums.OAuthDomain;
 import jakarta.persistence.*;
 import lombok.*;
@@ -30,7 +31,9 @@ public class Member extends BaseEntity {
      * 회원의 고유 식별자입니다. 자동으로 생성되며, 데이터베이스에서 유니크한 값으로 관리됩니다.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "member_id")
+    @TableGenerator(name = "member_id", table = IdSequence.TABLE, pkColumnName = IdSequence.PK_COLUMN,
+            valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = "member", allocationSize = IdSequence.ALLOCATION_SIZE)
     @Column(columnDefinition = "INT UNSIGNED")
     private Long id; // 회원의 고유 식별자입니다.
 
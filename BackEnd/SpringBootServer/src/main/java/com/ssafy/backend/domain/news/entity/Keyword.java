@@ -1,5 +1,6 @@
 package com.ssafy.backend.domain.news.entity;
 
+import com.ssafy.backend.global.common.entity.IdSequence;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -14,7 +15,9 @@ import java.util.List;
 public class Keyword {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "keyword_id")
+    @TableGenerator(name = "keyword_id", table = IdSequence.TABLE, pkColumnName = IdSequence.PK_COLUMN,
+            valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = "keyword", allocationSize = IdSequence.ALLOCATION_SIZE)
     @Column(columnDefinition = "INT UNSIGNED")
     private Long id;
 
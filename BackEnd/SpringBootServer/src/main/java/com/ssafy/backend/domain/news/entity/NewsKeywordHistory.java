@@ -2,6 +2,7 @@ package com.ssafy.backend.domain.news.entity;
 
 import com.ssafy.backend.domain.member.entity.Member;
 import com.ssafy.backend.global.common.entity.BaseEntity;
+import com.ssafy.backend.global.common.entity.IdSequence;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -14,7 +15,9 @@ import lombok.*;
 public class NewsKeywordHistory extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "news_keyword_history_id")
+    @TableGenerator(name = "news_keyword_history_id", table = IdSequence.TABLE, pkColumnName = IdSequence.PK_COLUMN,
+            valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = "news_keyword_history", allocationSize = IdSequence.ALLOCATION_SIZE)
     @Column(columnDefinition = "INT UNSIGNED")
     private Long id;
 
@@ -1,5 +1,6 @@
 package com.ssafy.backend.domain.news.entity;
 
+import com.ssafy.backend.global.common.entity.IdSequence;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -12,7 +13,9 @@ import lombok.*;
 public class NewsKeywordMapping {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "news_keyword_mapping_id")
+    @TableGenerator(name = "news_keyword_mapping_id", table = IdSequence.TABLE, pkColumnName = IdSequence.PK_COLUMN,
+            valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = "news_keyword_mapping", allocationSize = IdSequence.ALLOCATION_SIZE)
     @Column(columnDefinition = "INT UNSIGNED")
     private Long id;
 
@@ -2,6 +2,7 @@ package com.ssafy.backend.domain.news.entity;
 
 import com.ssafy.backend.domain.member.entity.Member;
 import com.ssafy.backend.global.common.entity.BaseEntity;
+import com.ssafy.backend.global.common.entity.IdSequence;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -16,7 +17,9 @@ import java.util.List;
 public class NewsShadowing extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "news_shadowing_id")
+    @TableGenerator(name = "news_shadowing_id", table = IdSequence.TABLE, pkColumnName = IdSequence.PK_COLUMN,
+            valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = "news_shadowing", allocationSize = IdSequence.ALLOCATION_SIZE)
     @Column(columnDefinition = "INT UNSIGNED")
     private Long id;
 
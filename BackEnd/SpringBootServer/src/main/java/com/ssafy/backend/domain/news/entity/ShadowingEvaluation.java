@@ -1,5 +1,6 @@
 package com.ssafy.backend.domain.news.entity;
 
+import com.ssafy.backend.global.common.entity.IdSequence;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -11,7 +12,9 @@ import lombok.*;
 public class ShadowingEvaluation {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "shadowing_evaluation_id")
+    @TableGenerator(name = "shadowing_evaluation_id", table = IdSequence.TABLE, pkColumnName = IdSequence.PK_COLUMN,
+            valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = "shadowing_evaluation", allocationSize = IdSequence.ALLOCATION_SIZE)
     @Column(columnDefinition = "INT UNSIGNED")
     private Long id;
 
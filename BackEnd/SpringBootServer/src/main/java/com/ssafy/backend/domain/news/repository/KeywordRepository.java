@@ -4,6 +4,8 @@ import com.ssafy.backend.domain.news.entity.Keyword;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,4 +13,6 @@ public interface KeywordRepository extends JpaRepository<Keyword, Long> {
     boolean existsByJapanese(String japanese);
 
     Optional<Keyword> findByJapanese(String japanese);
+
+    List<Keyword> findByJapaneseIn(Collection<String> japaneseKeywords);
 }
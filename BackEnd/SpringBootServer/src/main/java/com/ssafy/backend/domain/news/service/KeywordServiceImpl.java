@@ -2,6 +2,7 @@ package com.ssafy.backend.domain.news.service;
 
 import com.ssafy.backend.domain.news.dto.KeywordMappingRequest;
 import com.ssafy.backend.domain.news.dto.KeywordPostRequest;
+import com.ssafy.backend.domain.news.dto.KeywordWeight;
 import com.ssafy.backend.domain.news.dto.NewsKeywordHistoryInfo;
 import com.ssafy.backend.domain.news.entity.Keyword;
 import com.ssafy.backend.domain.news.entity.News;
@@ -20,7 +21,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -54,21 +59,27 @@ public class KeywordServiceImpl implements KeywordService {
             newsKeywordMappingRepository.deleteAll(existingMappings);
         }
 
-        List<NewsKeywordMapping> newMappings = keywordMappingRequest.getKeywords().stream().map(kw -> {
-            Keyword keyword = keywordRepository.findByJapanese(kw.getJapanese())
-                    .orElseGet(() -> {
-                        Keyword newKeyword = Keyword.builder()
-                                .japanese(kw.getJapanese())
-                                .build();
-                        return keywordRepository.save(newKeyword);
-                    });
+        // 키워드를 한 번에 조회하고, 없는 키워드만 모아서 저장합니다. (ID를 미리 할당받으므로 INSERT가 배치로 전송됨)
+        Set<String> japaneseKeywords = keywordMappingRequest.getKeywords().stream()
+                .map(KeywordWeight::getJapanese)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<String, Keyword> keywords = keywordRepository.findByJapaneseIn(japaneseKeywords).stream()
+                .collect(Collectors.toMap(Keyword::getJapanese, Function.identity()));
+        List<Keyword> newKeywords = japaneseKeywords.stream()
+                .filter(japanese -> !keywords.containsKey(japanese))
+                .map(japanese -> Keyword.builder()
+                        .japanese(japanese)
+                        .build())
+                .toList();
+        keywordRepository.saveAll(newKeywords).forEach(keyword -> keywords.put(keyword.getJapanese(), keyword));
 
-            return NewsKeywordMapping.builder()
-                    .news(news)
-                    .keyword(keyword)
-                    .weight(kw.getWeight())
-                    .build();
-        }).collect(Collectors.toList());
+        List<NewsKeywordMapping> newMappings = keywordMappingRequest.getKeywords().stream()
+                .map(kw -> NewsKeywordMapping.builder()
+                        .news(news)
+                        .keyword(keywords.get(kw.getJapanese()))
+                        .weight(kw.getWeight())
+                        .build())
+                .collect(Collectors.toList());
 
         newsKeywordMappingRepository.saveAll(newMappings);
     }
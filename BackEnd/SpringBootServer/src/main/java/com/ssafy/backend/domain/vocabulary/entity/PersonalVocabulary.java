@@ -1,6 +1,7 @@
 package com.ssafy.backend.domain.vocabulary.entity;
 
 import com.ssafy.backend.domain.member.entity.Member;
+import com.ssafy.backend.global.common.entity.IdSequence;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -21,7 +22,9 @@ public class PersonalVocabulary {
      * 데이터베이스에서 자동으로 값을 생성하며, 이 필드는 테이블의 기본 키 역할을 합니다.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "personal_vocabulary_id")
+    @TableGenerator(name = "personal_vocabulary_id", table = IdSequence.TABLE, pkColumnName = IdSequence.PK_COLUMN,
+            valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = "personal_vocabulary", allocationSize = IdSequence.ALLOCATION_SIZE)
     @Column(columnDefinition = "INT UNSIGNED")
     private Long id;
 
@@ -11,6 +11,7 @@ import lombok.*;
 @Entity
 public class Vocabulary extends BaseEntity {
 
+    // FastAPI 서버가 단어를 AUTO_INCREMENT로 직접 저장하므로 다른 엔티티와 달리 ID 시퀀스 테이블(IdSequence)을 사용하지 않습니다.
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(columnDefinition = "INT UNSIGNED")
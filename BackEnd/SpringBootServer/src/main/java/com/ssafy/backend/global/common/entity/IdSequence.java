@@ -0,0 +1,28 @@
+package com.ssafy.backend.global.common.entity;
+
+/**
+ * 엔티티 ID 할당에 사용하는 시퀀스 테이블 설정 값입니다.
+ * ID 생성 전략이 IDENTITY이면 INSERT를 실행해야 ID를 알 수 있어 Hibernate가 INSERT를 배치로 묶지 않으므로,
+ * 엔티티는 {@code id_sequence} 테이블에서 {@link #ALLOCATION_SIZE}개씩 미리 할당받은 ID를 사용합니다. (pooled 최적화)
+ * 테이블의 AUTO_INCREMENT 컬럼은 그대로 두므로, 직접 ID를 지정하지 않는 기존 INSERT도 계속 동작합니다.
+ * 이런 INSERT가 시퀀스가 할당할 ID와 겹치지 않도록 V5 마이그레이션(로컬은 id_sequence.sql)에서 AUTO_INCREMENT를 시퀀스 값보다 10억 크게 옮깁니다.
+ * <pre>
+ * &#64;Id
+ * &#64;GeneratedValue(strategy = GenerationType.TABLE, generator = "member_id")
+ * &#64;TableGenerator(name = "member_id", table = IdSequence.TABLE, pkColumnName = IdSequence.PK_COLUMN,
+ *         valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = "member", allocationSize = IdSequence.ALLOCATION_SIZE)
+ * </pre>
+ * 서버마다 다른 ID 구간을 미리 할당받으므로, 여러 서버에서 저장한 행의 ID 순서는 저장 순서와 다를 수 있습니다.
+ * ID 순서로 저장 순서를 판단하는 엔티티(채팅방의 대화 내역)는 {@link #ORDERED_ALLOCATION_SIZE}로 ID를 하나씩 할당받습니다.
+ */
+public final class IdSequence {
+
+    public static final String TABLE = "id_sequence";
+    public static final String PK_COLUMN = "sequence_name"; // 테이블 이름
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 100; // V4 마이그레이션의 초기값 계산에도 같은 값을 사용합니다.
+    public static final int ORDERED_ALLOCATION_SIZE = 1; // ID마다 시퀀스 테이블을 갱신하므로 모든 서버에서 할당 순서대로 증가합니다.
+
+    private IdSequence() {
+    }
+}
@@ -0,0 +1,62 @@
+package com.ssafy.backend.global.component.jpa;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.Generator;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 엔티티를 JPA로 저장하지 않고(JDBC 배치 등) INSERT할 때 사용할 ID를 엔티티와 같은 ID 생성기에서 할당받는 컴포넌트입니다.
+ * 엔티티에 설정된 Hibernate ID 생성기를 그대로 사용하므로, JPA로 저장한 행과 ID가 겹치지 않습니다.
+ * 미리 할당받은 ID가 남아있으면 DB에 접근하지 않지만, 모두 사용하면 시퀀스 테이블을 조회하므로 블로킹 호출입니다.
+ * <p>
+ * ID 생성기는 엔티티별로 한 번만 조회하고, 생성기에 넘길 세션은 ID마다 열지 않고 하나를 재사용합니다.
+ * 세션은 미리 할당받은 ID를 모두 사용했을 때만 쓰이며, 이때 생성기는 세션의 커넥션이 아닌 별도 커넥션(독립 트랜잭션)으로
+ * 시퀀스 테이블을 갱신하고 그 작업은 생성기의 잠금 안에서 실행되므로, 세션이 커넥션을 점유하거나 여러 스레드에서 동시에 쓰이지 않습니다.
+ */
+@Component
+public class EntityIdGenerator {
+
+    private final SessionFactoryImplementor sessionFactory;
+    private final StatelessSession generatorSession;
+    private final Map<Class<?>, BeforeExecutionGenerator> generators = new ConcurrentHashMap<>();
+
+    public EntityIdGenerator(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class).unwrap(SessionFactoryImplementor.class);
+        this.generatorSession = sessionFactory.openStatelessSession();
+    }
+
+    /**
+     * 엔티티의 다음 ID를 할당받습니다.
+     *
+     * @param entityClass ID를 할당받을 엔티티 클래스 (INSERT 전에 ID를 생성하는 전략이어야 함)
+     * @return 할당받은 ID
+     */
+    public Long nextId(Class<?> entityClass) {
+        Object id = generators.computeIfAbsent(entityClass, this::resolveGenerator)
+                .generate((SharedSessionContractImplementor) generatorSession, null, null, EventType.INSERT);
+        return ((Number) id).longValue();
+    }
+
+    @PreDestroy
+    public void close() {
+        generatorSession.close();
+    }
+
+    private BeforeExecutionGenerator resolveGenerator(Class<?> entityClass) {
+        Generator generator = sessionFactory.getMappingMetamodel().getEntityDescriptor(entityClass).getGenerator();
+        if (!(generator instanceof BeforeExecutionGenerator beforeExecutionGenerator)) {
+            throw new IllegalStateException(entityClass.getSimpleName() + "의 ID는 INSERT 전에 생성할 수 없습니다.");
+        }
+        return beforeExecutionGenerator;
+    }
+}
@@ -1,37 +1,215 @@
 package com.ssafy.backend.global.component.openai;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ssafy.backend.domain.aichat.entity.enums.AiChatCategory;
+import com.ssafy.backend.global.component.openai.cache.GptResponseCache;
+import com.ssafy.backend.global.component.openai.context.GptTokenEstimator;
 import com.ssafy.backend.global.component.openai.dto.*;
+import com.ssafy.backend.global.component.openai.enums.GptRequestType;
+import com.ssafy.backend.global.component.openai.exception.GptTruncatedResponseException;
+import com.ssafy.backend.global.component.openai.governor.GptRequestGovernor;
+import com.ssafy.backend.global.component.openai.hedge.GptHedgedRequestExecutor;
+import com.ssafy.backend.global.component.openai.prompt.GptPromptRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor
 public class OpenAiCommunicationProvider {
 
+    private static final String STREAM_DONE = "[DONE]"; // OpenAI 스트리밍 응답의 종료 신호
+
     private final WebClient webClient;
+    private final ObjectMapper objectMapper;
+    private final GptPromptRegistry gptPromptRegistry;
+    private final GptResponseCache gptResponseCache;
+    private final GptRequestGovernor gptRequestGovernor;
+    private final GptHedgedRequestExecutor gptHedgedRequestExecutor;
+    private final GptTokenEstimator gptTokenEstimator;
 
     public Mono<String> sendPromptToGpt(GptChatRequest gptChatRequest) {
-        return sendRequestToGpt(gptChatRequest);
+        return sendRequestToGpt(GptRequestType.CHAT, gptChatRequest, gptChatRequest.messages(), gptChatRequest.maxTokens());
+    }
+
+    /**
+     * GPT에 스트리밍 모드로 대화를 요청하고, 생성되는 텍스트 조각을 도착하는 즉시 방출합니다.
+     * 조각들을 순서대로 이어 붙이면 {@link #sendPromptToGpt}의 결과와 같은 전체 응답이 됩니다.
+     * 같은 내용의 요청에 대한 응답이 캐시되어 있으면 전체 응답을 하나의 조각으로 바로 방출합니다.
+     *
+     * @param gptChatRequest GPT 대화 요청
+     * @return 응답 텍스트 조각의 Flux
+     */
+    public Flux<String> streamPromptToGpt(GptChatRequest gptChatRequest) {
+        return gptResponseCache.find(GptRequestType.CHAT, gptChatRequest)
+                .flux()
+                .switchIfEmpty(Flux.defer(() -> {
+                    // 스트리밍이 끝까지 완료된 경우에만 전체 응답을 캐시합니다.
+                    StringBuilder response = new StringBuilder();
+                    return streamRequestToGpt(gptChatRequest)
+                            .doOnNext(response::append)
+                            .doOnComplete(() -> gptResponseCache.put(GptRequestType.CHAT, gptChatRequest, response.toString()));
+                }));
+    }
+
+    /**
+     * 캐시와 관계없이 GPT에 대화를 다시 요청합니다.
+     * 이전 응답을 사용할 수 없는 경우(복구할 수 없는 JSON 형식 오류)에만 사용하며, 캐시된 이전 응답은 삭제합니다.
+     *
+     * @param gptChatRequest GPT 대화 요청
+     * @return GPT 응답 문자열
+     */
+    public Mono<String> resendPromptToGpt(GptChatRequest gptChatRequest) {
+        gptResponseCache.evict(GptRequestType.CHAT, gptChatRequest);
+        int estimatedTokens = estimateTokens(gptChatRequest.messages(), gptChatRequest.maxTokens());
+        return gptRequestGovernor.execute(GptRequestType.CHAT, estimatedTokens, gptChatRequest.maxTokens(),
+                () -> gptHedgedRequestExecutor.execute(GptRequestType.CHAT, () -> postToGpt(gptChatRequest)));
+    }
+
+    /**
+     * 이전 대화 요약 생성 요청을 GPT에 전송합니다. 사용자 응답과 무관한 백그라운드 요청입니다.
+     *
+     * @param gptChatRequest 요약 요청
+     * @return 생성된 요약 문자열
+     */
+    public Mono<String> sendSummaryPromptToGpt(GptChatRequest gptChatRequest) {
+        return sendRequestToGpt(GptRequestType.SUMMARY, gptChatRequest, gptChatRequest.messages(), gptChatRequest.maxTokens());
+    }
+
+    /**
+     * 사용자가 모범 답변을 보낼 것으로 가정한 다음 대화 응답을 미리 요청합니다.
+     * 사용자 응답과 무관한 백그라운드 요청이므로 대기열에서 대화 요청보다 늦게 처리됩니다.
+     *
+     * @param gptChatRequest 모범 답변을 사용자 메시지로 추가한 대화 요청
+     * @return GPT 응답 문자열
+     */
+    public Mono<String> sendSpeculativePromptToGpt(GptChatRequest gptChatRequest) {
+        return sendRequestToGpt(GptRequestType.SPECULATION, gptChatRequest, gptChatRequest.messages(), gptChatRequest.maxTokens());
+    }
+
+    /**
+     * 간소화 모드의 GPT 대답에 대한 한국어 번역과 모범 답변을 요청합니다. 사용자가 번역을 요청할 때만 호출됩니다.
+     *
+     * @param gptTranslationRequest 번역 요청
+     * @return GPT 응답 문자열
+     */
+    public Mono<String> sendTranslationPromptToGpt(GptTranslationRequest gptTranslationRequest) {
+        return sendRequestToGpt(GptRequestType.TRANSLATION, gptTranslationRequest, gptTranslationRequest.messages(), gptTranslationRequest.maxTokens());
     }
 
     public Mono<String> sendReportPromptToGPT(GptReportRequest gptReportRequest) {
-        return sendRequestToGpt(gptReportRequest);
+        return sendRequestToGpt(GptRequestType.REPORT, gptReportRequest, gptReportRequest.messages(), gptReportRequest.maxTokens());
+    }
+
+    /**
+     * 사용자 메시지 하나에 대한 평가를 요청합니다. 사용자 응답과 무관한 백그라운드 요청입니다.
+     *
+     * @param gptReportRequest 사용자 메시지 평가 요청
+     * @return GPT 응답 문자열
+     */
+    public Mono<String> sendEvaluationPromptToGpt(GptReportRequest gptReportRequest) {
+        return sendRequestToGpt(GptRequestType.EVALUATION, gptReportRequest, gptReportRequest.messages(), gptReportRequest.maxTokens());
+    }
+
+    /**
+     * 캐시와 관계없이 사용자 메시지 평가를 다시 요청합니다.
+     * 이전 응답을 사용할 수 없는 경우(형식 오류 등)에만 사용하며, 캐시된 이전 응답은 삭제합니다.
+     *
+     * @param gptReportRequest 사용자 메시지 평가 요청
+     * @return GPT 응답 문자열
+     */
+    public Mono<String> resendEvaluationPromptToGpt(GptReportRequest gptReportRequest) {
+        gptResponseCache.evict(GptRequestType.EVALUATION, gptReportRequest);
+        int estimatedTokens = estimateTokens(gptReportRequest.messages(), gptReportRequest.maxTokens());
+        return gptRequestGovernor.execute(GptRequestType.EVALUATION, estimatedTokens, gptReportRequest.maxTokens(), () -> postToGpt(gptReportRequest));
     }
 
     public Mono<String> setupPromptToGpt(AiChatCategory aiChatCategory) {
-        GptSetupRequest gptSetupRequest = GptSetupRequest.from(aiChatCategory);
-        return sendRequestToGpt(gptSetupRequest);
+        GptSetupRequest gptSetupRequest = gptPromptRegistry.getSetupRequest(aiChatCategory);
+        return sendRequestToGpt(GptRequestType.SETUP, gptSetupRequest, gptSetupRequest.messages(), gptSetupRequest.maxTokens());
+    }
+
+    /**
+     * 첫 대화 풀에 넣을 첫 대화를 요청합니다.
+     * 사용자가 기다리지 않는 백그라운드 요청이므로 대기열에서 대화 요청보다 늦게 처리되며, 중복 요청을 보내지 않습니다.
+     *
+     * @param aiChatCategory 채팅방 카테고리
+     * @return GPT 설정 응답 문자열
+     */
+    public Mono<String> prefetchSetupPromptToGpt(AiChatCategory aiChatCategory) {
+        GptSetupRequest gptSetupRequest = gptPromptRegistry.getSetupRequest(aiChatCategory);
+        return sendRequestToGpt(GptRequestType.SETUP_PREFETCH, gptSetupRequest, gptSetupRequest.messages(), gptSetupRequest.maxTokens());
+    }
+
+    /**
+     * OpenAI 분당 토큰 한도 계산에 사용할 요청의 토큰 수를 추정합니다.
+     * OpenAI는 프롬프트 토큰과 max_tokens의 합으로 한도를 차감하므로 둘을 더합니다.
+     */
+    private int estimateTokens(List<GptDialogueMessage> messages, int maxTokens) {
+        return gptTokenEstimator.estimate(messages) + maxTokens;
+    }
+
+    /**
+     * 캐시에 없는 요청만 요청 조절기의 대기열을 거쳐 OpenAI로 전송합니다.
+     * 사용자가 기다리는 요청은 대기열을 통과한 뒤 응답이 늦어지면 중복 요청을 보내 먼저 도착한 응답을 사용합니다.
+     * 중복 요청 여부는 대기열 시간을 제외한 응답 시간으로 판단합니다.
+     */
+    private <T> Mono<String> sendRequestToGpt(GptRequestType requestType, T requestBody, List<GptDialogueMessage> messages, int maxTokens) {
+        int estimatedTokens = estimateTokens(messages, maxTokens);
+        return gptResponseCache.getOrLoad(requestType, requestBody, () -> gptRequestGovernor.execute(requestType, estimatedTokens, maxTokens,
+                () -> gptHedgedRequestExecutor.execute(requestType, () -> postToGpt(requestBody))));
     }
 
-    private <T> Mono<String> sendRequestToGpt(T requestBody) {
+    private Flux<String> streamRequestToGpt(GptChatRequest gptChatRequest) {
+        int estimatedTokens = estimateTokens(gptChatRequest.messages(), gptChatRequest.maxTokens());
+        return gptRequestGovernor.executeMany(GptRequestType.CHAT, estimatedTokens,
+                () -> gptHedgedRequestExecutor.executeMany(GptRequestType.CHAT, () -> postStreamToGpt(gptChatRequest)));
+    }
+
+    private Mono<String> postToGpt(Object requestBody) {
         return webClient.post()
                 .uri("/chat/completions")
                 .bodyValue(requestBody)
                 .retrieve()
                 .bodyToMono(GptChatCompletionResponse.class)
-                .map(response -> response.choices().get(0).message().content());
+                .handle((response, sink) -> {
+                    // 최대 토큰 수에 도달해 끊긴 응답은 사용하지 않습니다. (캐시에도 저장되지 않습니다.)
+                    GptChatCompletionResponse.Choice choice = response.choices().get(0);
+                    if (GptTruncatedResponseException.FINISH_REASON_LENGTH.equals(choice.finishReason())) {
+                        sink.error(new GptTruncatedResponseException());
+                        return;
+                    }
+                    sink.next(choice.message().content());
+                });
     }
-}
 
+    private Flux<String> postStreamToGpt(GptChatRequest gptChatRequest) {
+        return webClient.post()
+                .uri("/chat/completions")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .bodyValue(gptChatRequest.withStream())
+                .retrieve()
+                .bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<String>>() {})
+                .mapNotNull(ServerSentEvent::data)
+                .takeWhile(data -> !STREAM_DONE.equals(data.trim()))
+                .concatMap(data -> Mono.fromCallable(() -> objectMapper.readValue(data, GptChatCompletionChunk.class)))
+                .handle((chunk, sink) -> {
+                    // 최대 토큰 수에 도달해 끊긴 응답은 완료가 아닌 에러로 끝내 캐시하지 않고 다시 요청하게 합니다.
+                    if (GptTruncatedResponseException.FINISH_REASON_LENGTH.equals(chunk.finishReason())) {
+                        sink.error(new GptTruncatedResponseException());
+                        return;
+                    }
+                    String content = chunk.content();
+                    if (!content.isEmpty()) {
+                        sink.next(content);
+                    }
+                });
+    }
+}
@@ -0,0 +1,169 @@
+package com.ssafy.backend.global.component.openai.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.backend.global.component.openai.enums.GptRequestType;
+import com.ssafy.backend.global.component.openai.repository.OpenAiRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * OpenAI 응답을 요청 내용 기준으로 캐시하는 컴포넌트입니다.
+ * 캐시 키는 요청 본문(모델, 메시지, temperature, response_format 등)을 JSON으로 직렬화한 값의 SHA-256 해시이므로,
+ * 같은 내용의 요청은 어느 서버에서 보내더라도 같은 응답을 재사용합니다.
+ * 서버 메모리의 LRU 캐시를 먼저 조회하고, 없으면 Redis를 조회하며, 둘 다 없을 때만 OpenAI를 호출합니다.
+ * 요청 종류별 만료 시간({@link GptResponseCacheProps#ttlOf(GptRequestType)})이 0이면 캐시하지 않습니다.
+ */
+@Slf4j
+@Component
+public class GptResponseCache {
+
+    private final GptResponseCacheProps props;
+    private final OpenAiRepository openAiRepository;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, CachedResponse> localCache;
+
+    public GptResponseCache(GptResponseCacheProps props, OpenAiRepository openAiRepository,
+                            ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.props = props;
+        this.openAiRepository = openAiRepository;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.localCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > props.localMaxEntries();
+            }
+        });
+    }
+
+    /**
+     * 캐시된 응답이 있으면 반환하고, 없으면 loader로 응답을 받아 캐시한 뒤 반환합니다.
+     *
+     * @param requestType 요청 종류
+     * @param requestBody OpenAI 요청 본문
+     * @param loader 캐시에 없을 때 OpenAI를 호출하는 함수
+     * @return GPT 응답 문자열
+     */
+    public Mono<String> getOrLoad(GptRequestType requestType, Object requestBody, Supplier<Mono<String>> loader) {
+        if (!isCacheable(requestType)) {
+            return loader.get();
+        }
+        String key = keyOf(requestType, requestBody);
+        return find(requestType, key)
+                .switchIfEmpty(Mono.defer(() -> loader.get()
+                        .doOnNext(response -> put(requestType, key, response))));
+    }
+
+    /**
+     * 캐시된 응답을 조회합니다. 캐시하지 않는 요청 종류이면 항상 빈 Mono를 반환합니다.
+     *
+     * @param requestType 요청 종류
+     * @param requestBody OpenAI 요청 본문
+     * @return 캐시된 GPT 응답 문자열
+     */
+    public Mono<String> find(GptRequestType requestType, Object requestBody) {
+        if (!isCacheable(requestType)) {
+            return Mono.empty();
+        }
+        return find(requestType, keyOf(requestType, requestBody));
+    }
+
+    /**
+     * 응답을 캐시에 저장합니다. 캐시하지 않는 요청 종류이면 무시합니다.
+     *
+     * @param requestType 요청 종류
+     * @param requestBody OpenAI 요청 본문
+     * @param response GPT 응답 문자열
+     */
+    public void put(GptRequestType requestType, Object requestBody, String response) {
+        if (isCacheable(requestType)) {
+            put(requestType, keyOf(requestType, requestBody), response);
+        }
+    }
+
+    /**
+     * 캐시된 응답을 삭제합니다. 응답을 사용할 수 없는 것으로 판명된 경우(파싱 실패 등) 같은 응답이 재사용되지 않도록 합니다.
+     *
+     * @param requestType 요청 종류
+     * @param requestBody OpenAI 요청 본문
+     */
+    public void evict(GptRequestType requestType, Object requestBody) {
+        if (!isCacheable(requestType)) {
+            return;
+        }
+        String key = keyOf(requestType, requestBody);
+        localCache.remove(key);
+        openAiRepository.deleteCachedResponse(key)
+                .subscribe(v -> {}, e -> log.warn("GPT 응답 캐시 삭제에 실패했습니다.", e));
+    }
+
+    private boolean isCacheable(GptRequestType requestType) {
+        return props.enabled() && !props.ttlOf(requestType).isZero();
+    }
+
+    private Mono<String> find(GptRequestType requestType, String key) {
+        CachedResponse local = localCache.get(key);
+        if (local != null && !local.isExpired()) {
+            record(requestType, "local");
+            return Mono.just(local.response());
+        }
+
+        return openAiRepository.findCachedResponse(key)
+                .doOnNext(response -> {
+                    record(requestType, "redis");
+                    localCache.put(key, new CachedResponse(response, expiresAt(requestType)));
+                })
+                .onErrorResume(e -> {
+                    log.warn("GPT 응답 캐시 조회에 실패했습니다.", e);
+                    return Mono.empty();
+                })
+                .switchIfEmpty(Mono.fromRunnable(() -> record(requestType, "miss")));
+    }
+
+    private void put(GptRequestType requestType, String key, String response) {
+        Duration ttl = props.ttlOf(requestType);
+        localCache.put(key, new CachedResponse(response, expiresAt(requestType)));
+        openAiRepository.saveCachedResponse(key, response, ttl)
+                .subscribe(v -> {}, e -> log.warn("GPT 응답 캐시 저장에 실패했습니다.", e));
+    }
+
+    private long expiresAt(GptRequestType requestType) {
+        return System.currentTimeMillis() + props.ttlOf(requestType).toMillis();
+    }
+
+    private void record(GptRequestType requestType, String result) {
+        meterRegistry.counter("openai.cache.requests", "type", requestType.name(), "result", result).increment();
+    }
+
+    // 요청 종류와 요청 본문의 JSON 직렬화 결과로 캐시 키를 생성합니다.
+    private String keyOf(GptRequestType requestType, Object requestBody) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(requestType.name().getBytes(StandardCharsets.UTF_8));
+            digest.update(objectMapper.writeValueAsBytes(requestBody));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("GPT 응답 캐시 키 생성에 실패했습니다.", e);
+        }
+    }
+
+    private record CachedResponse(String response, long expiresAt) {
+        private boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+    }
+}
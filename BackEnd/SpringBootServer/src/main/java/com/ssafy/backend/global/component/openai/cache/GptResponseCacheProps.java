@@ -0,0 +1,46 @@
+package com.ssafy.backend.global.component.openai.cache;
+
+import com.ssafy.backend.global.component.openai.enums.GptRequestType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * GPT 응답 캐시({@link GptResponseCache}) 설정 값을 관리하는 레코드입니다.
+ * 요청 종류별 만료 시간이 0이면 해당 종류는 캐시하지 않습니다.
+ * 첫 대화(setup)는 매번 다른 대화가 생성되어야 하므로 기본적으로 캐시하지 않으며, 첫 대화 풀에 넣을 첫 대화는 항상 캐시하지 않습니다.
+ * 미리 생성하는 다음 대화 응답(speculation)은 별도로 Redis에 보관하므로 캐시하지 않습니다.
+ *
+ * @param enabled 캐시 사용 여부
+ * @param localMaxEntries 서버 메모리에 보관할 최대 응답 수 (LRU)
+ * @param chatTtl 대화 응답 캐시 만료 시간
+ * @param setupTtl 첫 대화 캐시 만료 시간
+ * @param summaryTtl 대화 요약 캐시 만료 시간
+ * @param reportTtl 레포트 및 사용자 메시지별 평가 캐시 만료 시간
+ * @param translationTtl 번역 및 모범 답변 캐시 만료 시간
+ */
+@ConfigurationProperties(prefix = "openai.cache")
+public record GptResponseCacheProps(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1000") int localMaxEntries,
+        @DefaultValue("10m") Duration chatTtl,
+        @DefaultValue("0s") Duration setupTtl,
+        @DefaultValue("30m") Duration summaryTtl,
+        @DefaultValue("1h") Duration reportTtl,
+        @DefaultValue("1h") Duration translationTtl
+) {
+    /**
+     * 요청 종류의 캐시 만료 시간을 반환합니다.
+     */
+    public Duration ttlOf(GptRequestType requestType) {
+        return switch (requestType) {
+            case CHAT -> chatTtl;
+            case SETUP -> setupTtl;
+            case SUMMARY -> summaryTtl;
+            case REPORT, EVALUATION -> reportTtl;
+            case SETUP_PREFETCH, SPECULATION -> Duration.ZERO;
+            case TRANSLATION -> translationTtl;
+        };
+    }
+}
@@ -0,0 +1,44 @@
+package com.ssafy.backend.global.component.openai.codec;
+
+import com.ssafy.backend.global.component.openai.dto.GptConversationSummary;
+import com.ssafy.backend.global.component.redis.RedisValueCodec;
+import org.springframework.stereotype.Component;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * 이전 대화 요약({@link GptConversationSummary})의 바이너리 코덱입니다.
+ * v1: [요약 문자열, 요약에 반영된 메시지 수(가변 길이)]
+ */
+@Component
+public class GptConversationSummaryCodec implements RedisValueCodec<GptConversationSummary> {
+
+    @Override
+    public byte tag() {
+        return 3;
+    }
+
+    @Override
+    public byte version() {
+        return 1;
+    }
+
+    @Override
+    public Class<GptConversationSummary> type() {
+        return GptConversationSummary.class;
+    }
+
+    @Override
+    public void encode(GptConversationSummary value, DataOutput out) throws IOException {
+        RedisValueCodec.writeString(out, value.content());
+        RedisValueCodec.writeVarInt(out, value.summarizedCount());
+    }
+
+    @Override
+    public GptConversationSummary decode(DataInput in, int version) throws IOException {
+        String content = RedisValueCodec.readString(in);
+        return new GptConversationSummary(content, RedisValueCodec.readVarInt(in));
+    }
+}
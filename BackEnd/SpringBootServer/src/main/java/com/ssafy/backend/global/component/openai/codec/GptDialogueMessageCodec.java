@@ -0,0 +1,53 @@
+package com.ssafy.backend.global.component.openai.codec;
+
+import com.ssafy.backend.global.component.openai.dto.GptDialogueMessage;
+import com.ssafy.backend.global.component.redis.RedisValueCodec;
+import org.springframework.stereotype.Component;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 대화 내역 메시지({@link GptDialogueMessage})의 바이너리 코덱입니다.
+ * 자주 쓰는 역할(user, assistant, system)은 1바이트 코드로 저장합니다.
+ * v1: [역할 코드, (역할 코드가 0이면 역할 문자열), 내용 문자열]
+ */
+@Component
+public class GptDialogueMessageCodec implements RedisValueCodec<GptDialogueMessage> {
+
+    private static final List<String> ROLES = List.of("user", "assistant", "system"); // 코드 1부터 순서대로, 순서 변경 금지
+
+    @Override
+    public byte tag() {
+        return 1;
+    }
+
+    @Override
+    public byte version() {
+        return 1;
+    }
+
+    @Override
+    public Class<GptDialogueMessage> type() {
+        return GptDialogueMessage.class;
+    }
+
+    @Override
+    public void encode(GptDialogueMessage value, DataOutput out) throws IOException {
+        int roleCode = ROLES.indexOf(value.role()) + 1;
+        out.writeByte(roleCode);
+        if (roleCode == 0) {
+            RedisValueCodec.writeString(out, value.role());
+        }
+        RedisValueCodec.writeString(out, value.content());
+    }
+
+    @Override
+    public GptDialogueMessage decode(DataInput in, int version) throws IOException {
+        int roleCode = in.readUnsignedByte();
+        String role = roleCode == 0 ? RedisValueCodec.readString(in) : ROLES.get(roleCode - 1);
+        return new GptDialogueMessage(role, RedisValueCodec.readString(in));
+    }
+}
@@ -0,0 +1,48 @@
+package com.ssafy.backend.global.component.openai.codec;
+
+import com.ssafy.backend.domain.aichat.entity.enums.AiChatCategory;
+import com.ssafy.backend.global.component.openai.dto.GptSetupReference;
+import com.ssafy.backend.global.component.redis.RedisValueCodec;
+import org.springframework.stereotype.Component;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * 채팅방 GPT 설정 참조({@link GptSetupReference})의 바이너리 코덱입니다.
+ * 카테고리는 열거형 순서가 바뀌어도 읽을 수 있도록 이름으로 저장합니다.
+ * v1: [카테고리 이름, 프롬프트 버전(가변 길이), 간소화 모드 여부]
+ */
+@Component
+public class GptSetupReferenceCodec implements RedisValueCodec<GptSetupReference> {
+
+    @Override
+    public byte tag() {
+        return 2;
+    }
+
+    @Override
+    public byte version() {
+        return 1;
+    }
+
+    @Override
+    public Class<GptSetupReference> type() {
+        return GptSetupReference.class;
+    }
+
+    @Override
+    public void encode(GptSetupReference value, DataOutput out) throws IOException {
+        RedisValueCodec.writeString(out, value.category().name());
+        RedisValueCodec.writeVarInt(out, value.promptVersion());
+        out.writeBoolean(value.lean());
+    }
+
+    @Override
+    public GptSetupReference decode(DataInput in, int version) throws IOException {
+        AiChatCategory category = AiChatCategory.valueOf(RedisValueCodec.readString(in));
+        int promptVersion = RedisValueCodec.readVarInt(in);
+        return new GptSetupReference(category, promptVersion, in.readBoolean());
+    }
+}
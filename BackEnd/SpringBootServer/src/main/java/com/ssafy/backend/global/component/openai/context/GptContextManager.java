@@ -0,0 +1,139 @@
+package com.ssafy.backend.global.component.openai.context;
+
+import com.ssafy.backend.global.component.openai.OpenAiCommunicationProvider;
+import com.ssafy.backend.global.component.openai.dto.GptChatRequest;
+import com.ssafy.backend.global.component.openai.dto.GptChatSession;
+import com.ssafy.backend.global.component.openai.dto.GptConversationSummary;
+import com.ssafy.backend.global.component.openai.dto.GptDialogueMessage;
+import com.ssafy.backend.global.component.openai.dto.GptSetupRequest;
+import com.ssafy.backend.global.component.openai.repository.OpenAiRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * GPT에 보낼 대화 문맥을 토큰 예산 안에서 구성하는 컴포넌트입니다.
+ * 설정 프롬프트는 항상 그대로 포함하고, 대화 내역은 최신 메시지부터 토큰 예산({@link GptContextProps#historyTokenBudget()})만큼만 포함합니다.
+ * 예산을 벗어난 이전 메시지는 백그라운드에서 요약하여 Redis에 저장하고, 이후 요청에는 요약본을 대신 포함합니다.
+ * 예산을 벗어났지만 아직 요약되지 않은 메시지는 요약이 갱신될 때까지 예산과 관계없이 그대로 포함합니다.
+ * 이를 통해 대화가 길어져도 요청 크기와 응답 지연이 일정하게 유지됩니다.
+ * Redis에는 최근 메시지만 보관되므로, 요약 위치는 길이 제한으로 삭제된 메시지 수를 더한 전체 대화 기준으로 계산합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GptContextManager {
+
+    private static final String SUMMARY_MODEL = "gpt-3.5-turbo-1106";
+    private static final String SUMMARY_SYSTEM_MESSAGE = "너는 일본어 회화 연습 대화를 요약하는 도우미야.\n" +
+            "이전 요약과 새로 추가된 대화가 주어지면, 지금까지 나눈 대화 전체를 한국어로 5문장 이내로 요약해줘.\n" +
+            "어떤 주제와 질문, 표현이 이미 나왔는지 알 수 있게 구체적으로 적고, 요약 외의 말은 하지 마.";
+
+    private final GptTokenEstimator tokenEstimator;
+    private final GptContextProps props;
+    private final OpenAiRepository openAiRepository;
+    private final OpenAiCommunicationProvider openAiCommunicationProvider;
+
+    private final Set<Long> summarizingRooms = ConcurrentHashMap.newKeySet(); // 요약을 생성 중인 채팅방 (중복 요약 방지)
+
+    /**
+     * 채팅방의 설정 프롬프트, 이전 대화 요약, 토큰 예산 안의 최근 대화 내역으로 GPT 요청 메시지 목록을 구성합니다.
+     * 대화 상태는 호출하는 쪽에서 한 번에 조회(또는 메시지 추가 시 함께 반환)한 값을 사용하므로 Redis를 다시 조회하지 않습니다.
+     *
+     * @param roomId 채팅방 ID
+     * @param setupRequest 채팅방의 GPT 대화 설정
+     * @param session 채팅방의 대화 상태
+     * @return GPT에 보낼 메시지 목록
+     */
+    public Mono<List<GptDialogueMessage>> buildMessages(Long roomId, GptSetupRequest setupRequest, GptChatSession session) {
+        return Mono.fromSupplier(() -> assembleMessages(roomId, setupRequest, session));
+    }
+
+    private List<GptDialogueMessage> assembleMessages(Long roomId, GptSetupRequest setupRequest, GptChatSession session) {
+        List<GptDialogueMessage> history = session.history();
+        GptConversationSummary summary = session.summary();
+        int trimmedCount = (int) session.trimmedCount();
+
+        // 대화 내역이 초기화된 경우 이전 요약은 사용하지 않습니다.
+        if (summary != null && summary.summarizedCount() > session.totalCount()) {
+            summary = null;
+        }
+        int windowStart = findWindowStart(history);
+        int absoluteWindowStart = trimmedCount + windowStart; // 전체 대화 기준 위치
+        int summarizedCount = summary == null ? 0 : summary.summarizedCount();
+
+        // 요약에 아직 반영되지 않은 메시지는 예산을 벗어나도 포함하여, 요약과 최근 대화 사이에 빠지는 메시지가 없도록 합니다.
+        // 이 메시지 수는 요약 갱신 주기(summaryBatchMessages)만큼으로 유지됩니다.
+        int unsummarizedStart = Math.min(Math.max(summarizedCount - trimmedCount, 0), history.size());
+        int promptStart = Math.min(windowStart, unsummarizedStart);
+
+        List<GptDialogueMessage> messages = new ArrayList<>(setupRequest.messages());
+        if (summary != null && trimmedCount + promptStart > 0) {
+            messages.add(new GptDialogueMessage("system", "지금까지 나눈 대화 요약 (이 내용을 반복하지 마): " + summary.content()));
+        }
+        messages.addAll(history.subList(promptStart, history.size()));
+
+        // 예산을 벗어났지만 요약에 반영되지 않은 메시지가 충분히 쌓이면 백그라운드에서 요약을 갱신합니다.
+        // 요약 전에 길이 제한으로 삭제된 메시지는 요약에 반영할 수 없으므로 건너뜁니다.
+        if (absoluteWindowStart - summarizedCount >= props.summaryBatchMessages()) {
+            summarizeInBackground(roomId, summary, history.subList(unsummarizedStart, windowStart), absoluteWindowStart);
+        }
+        return messages;
+    }
+
+    /**
+     * 최신 메시지부터 토큰 예산에 들어가는 메시지의 시작 인덱스를 찾습니다.
+     * 최소 {@link GptContextProps#minRecentMessages()}개의 최근 메시지는 예산과 관계없이 포함합니다.
+     */
+    private int findWindowStart(List<GptDialogueMessage> history) {
+        int usedTokens = 0;
+        int start = history.size();
+        while (start > 0) {
+            int tokens = tokenEstimator.estimate(history.get(start - 1));
+            boolean required = history.size() - start < props.minRecentMessages();
+            if (!required && usedTokens + tokens > props.historyTokenBudget()) {
+                break;
+            }
+            usedTokens += tokens;
+            start--;
+        }
+        return start;
+    }
+
+    private void summarizeInBackground(Long roomId, GptConversationSummary previous,
+                                       List<GptDialogueMessage> newMessages, int summarizedCount) {
+        if (!summarizingRooms.add(roomId)) {
+            return;
+        }
+
+        openAiCommunicationProvider.sendSummaryPromptToGpt(buildSummaryRequest(previous, newMessages))
+                .flatMap(content -> openAiRepository.saveAiChatSummary(roomId, new GptConversationSummary(content, summarizedCount))
+                        .thenReturn(content))
+                .doFinally(signal -> summarizingRooms.remove(roomId))
+                .subscribe(
+                        content -> log.debug("이전 대화 요약 갱신 완료. roomId : {}, summarizedCount : {}", roomId, summarizedCount),
+                        e -> log.warn("이전 대화 요약 생성에 실패했습니다. roomId : {}", roomId, e)
+                );
+    }
+
+    private GptChatRequest buildSummaryRequest(GptConversationSummary previous, List<GptDialogueMessage> newMessages) {
+        StringBuilder content = new StringBuilder();
+        if (previous != null) {
+            content.append("[이전 요약]\n").append(previous.content()).append("\n\n");
+        }
+        content.append("[새로 추가된 대화]\n");
+        newMessages.forEach(message -> content.append(message.role()).append(": ").append(message.content()).append('\n'));
+
+        List<GptDialogueMessage> messages = List.of(
+                new GptDialogueMessage("system", SUMMARY_SYSTEM_MESSAGE),
+                new GptDialogueMessage("user", content.toString())
+        );
+        return new GptChatRequest(SUMMARY_MODEL, messages, props.summaryMaxTokens());
+    }
+}
@@ -0,0 +1,21 @@
+package com.ssafy.backend.global.component.openai.context;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * GPT 대화 문맥 구성({@link GptContextManager}) 설정 값을 관리하는 레코드입니다.
+ *
+ * @param historyTokenBudget 설정 프롬프트를 제외하고 최근 대화 내역에 사용할 최대 토큰 수
+ * @param minRecentMessages 토큰 예산과 관계없이 항상 포함할 최근 메시지 수
+ * @param summaryMaxTokens 이전 대화 요약을 생성할 때 사용할 최대 토큰 수
+ * @param summaryBatchMessages 예산을 벗어났지만 아직 요약되지 않은 메시지가 이 수 이상 쌓이면 요약을 갱신 (그 전까지는 예산을 넘어도 프롬프트에 포함)
+ */
+@ConfigurationProperties(prefix = "openai.context")
+public record GptContextProps(
+        @DefaultValue("1500") int historyTokenBudget,
+        @DefaultValue("2") int minRecentMessages,
+        @DefaultValue("300") int summaryMaxTokens,
+        @DefaultValue("4") int summaryBatchMessages
+) {
+}
@@ -0,0 +1,56 @@
+package com.ssafy.backend.global.component.openai.context;
+
+import com.ssafy.backend.global.component.openai.dto.GptDialogueMessage;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * GPT 요청의 토큰 수를 외부 호출 없이 추정하는 컴포넌트입니다.
+ * cl100k 계열 토크나이저의 경향에 맞춰 한글/일본어/한자는 글자당 약 1토큰,
+ * 영문/숫자/기호는 약 4글자당 1토큰으로 계산하며, 메시지마다 역할 표기 등에 쓰이는 고정 토큰을 더합니다.
+ * 정확한 값이 아닌 상한에 가까운 추정치이므로 예산 계산에만 사용합니다.
+ */
+@Component
+public class GptTokenEstimator {
+
+    private static final int TOKENS_PER_MESSAGE = 4;    // 메시지마다 붙는 role, 구분자 토큰
+    private static final int TOKENS_PER_REQUEST = 3;    // 응답 시작을 위한 토큰
+
+    /**
+     * 문자열의 토큰 수를 추정합니다.
+     *
+     * @param text 토큰 수를 추정할 문자열
+     * @return 추정 토큰 수
+     */
+    public int estimate(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        int wideChars = 0;
+        int narrowChars = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                narrowChars++;
+            } else if (!Character.isLowSurrogate(c)) {
+                wideChars++;
+            }
+        }
+        return wideChars + (narrowChars + 3) / 4;
+    }
+
+    /**
+     * 대화 메시지 하나의 토큰 수를 추정합니다.
+     */
+    public int estimate(GptDialogueMessage message) {
+        return TOKENS_PER_MESSAGE + estimate(message.role()) + estimate(message.content());
+    }
+
+    /**
+     * 대화 메시지 목록 전체의 토큰 수를 추정합니다.
+     */
+    public int estimate(List<GptDialogueMessage> messages) {
+        return TOKENS_PER_REQUEST + messages.stream().mapToInt(this::estimate).sum();
+    }
+}
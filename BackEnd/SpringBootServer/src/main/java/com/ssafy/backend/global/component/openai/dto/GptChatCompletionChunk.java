@@ -0,0 +1,51 @@
+package com.ssafy.backend.global.component.openai.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * GPT 스트리밍(stream: true) 응답에서 SSE 이벤트 하나에 담기는 조각을 나타내는 레코드입니다.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record GptChatCompletionChunk(List<Choice> choices) {
+
+    /**
+     * 스트리밍 응답 조각의 선택지를 나타내는 레코드입니다.
+     * 마지막 조각에만 finishReason이 있으며, "length"이면 최대 토큰 수에 도달해 응답이 중간에 끊긴 것입니다.
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Choice(int index, Delta delta, @JsonProperty("finish_reason") String finishReason) {}
+
+    /**
+     * 이전 조각 이후에 새로 생성된 메시지 내용입니다.
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Delta(String role, String content) {}
+
+    /**
+     * 조각에 담긴 텍스트를 반환합니다. 내용이 없는 조각(role 지정, 종료 신호 등)이면 빈 문자열을 반환합니다.
+     *
+     * @return 새로 생성된 텍스트 조각
+     */
+    public String content() {
+        if (choices == null || choices.isEmpty() || choices.get(0).delta() == null) {
+            return "";
+        }
+        String content = choices.get(0).delta().content();
+        return content == null ? "" : content;
+    }
+
+    /**
+     * 응답 생성이 종료된 이유를 반환합니다. 마지막 조각이 아니면 null을 반환합니다.
+     *
+     * @return 종료 이유 (stop, length 등)
+     */
+    public String finishReason() {
+        if (choices == null || choices.isEmpty()) {
+            return null;
+        }
+        return choices.get(0).finishReason();
+    }
+}
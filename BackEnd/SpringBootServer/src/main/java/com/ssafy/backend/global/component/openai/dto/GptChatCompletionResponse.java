@@ -1,5 +1,7 @@
 package com.ssafy.backend.global.component.openai.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import java.util.List;
 
 /**
@@ -9,6 +11,7 @@ public record GptChatCompletionResponse(List<Choice> choices) {
 
     /**
      * GPT 응답에서의 선택지를 나타내는 레코드입니다.
+     * finishReason이 "length"이면 최대 토큰 수에 도달해 응답이 중간에 끊긴 것입니다.
      */
-    public record Choice(int index, GptDialogueMessage message) {}
+    public record Choice(int index, GptDialogueMessage message, @JsonProperty("finish_reason") String finishReason) {}
 }
@@ -1,5 +1,6 @@
 package com.ssafy.backend.global.component.openai.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
 
@@ -7,11 +8,26 @@ import java.util.List;
 /**
  * GPT와의 대화 요청을 나타내는 레코드입니다.
  * 이 레코드는 GPT-3.5-turbo 모델에 전송될 메시지와 관련 설정을 포함합니다.
+ * {@code stream}이 true이면 OpenAI는 응답을 SSE 조각으로 나누어 전송합니다.
  */
 @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record GptChatRequest(
         String model,
         List<GptDialogueMessage> messages,
-        int maxTokens
+        int maxTokens,
+        Boolean stream
 ) {
+    public GptChatRequest(String model, List<GptDialogueMessage> messages, int maxTokens) {
+        this(model, messages, maxTokens, null);
+    }
+
+    /**
+     * 스트리밍 응답을 요청하는 동일한 내용의 요청을 반환합니다.
+     *
+     * @return stream 옵션이 켜진 GptChatRequest
+     */
+    public GptChatRequest withStream() {
+        return new GptChatRequest(model, messages, maxTokens, true);
+    }
 }
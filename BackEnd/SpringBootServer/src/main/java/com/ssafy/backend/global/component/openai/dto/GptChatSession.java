@@ -0,0 +1,27 @@
+package com.ssafy.backend.global.component.openai.dto;
+
+import java.util.List;
+
+/**
+ * Redis에 저장된 채팅방의 대화 상태를 한 번에 조회한 결과를 나타내는 레코드입니다.
+ * 대화 내역은 최근 메시지만 보관되며, {@code trimmedCount}는 길이 제한으로 삭제된 이전 메시지 수입니다.
+ * 요약의 {@code summarizedCount}처럼 전체 대화 기준의 위치는 삭제된 메시지 수를 더해 계산합니다.
+ *
+ * @param setupReference GPT 설정 참조 (없으면 null)
+ * @param summary 이전 대화 요약 (없으면 null)
+ * @param history 보관 중인 최근 대화 내역
+ * @param trimmedCount 길이 제한으로 삭제된 이전 메시지 수
+ */
+public record GptChatSession(
+        GptSetupReference setupReference,
+        GptConversationSummary summary,
+        List<GptDialogueMessage> history,
+        long trimmedCount
+) {
+    /**
+     * 삭제된 메시지를 포함한 전체 대화 메시지 수를 반환합니다.
+     */
+    public long totalCount() {
+        return trimmedCount + history.size();
+    }
+}
@@ -0,0 +1,11 @@
+package com.ssafy.backend.global.component.openai.dto;
+
+/**
+ * 토큰 예산을 벗어난 이전 대화 내역의 요약을 나타내는 레코드입니다.
+ * Redis의 대화 내역과 함께 저장되며, {@code summarizedCount}는 요약에 반영된 대화 내역 메시지 수입니다.
+ */
+public record GptConversationSummary(
+        String content,
+        int summarizedCount
+) {
+}
@@ -23,6 +23,18 @@ public record GptReportRequest(
      */
     @SneakyThrows
     public static GptReportRequest fromAiChatHistories(List<AiChatHistory> conversation) {
+        return fromAiChatHistories(conversation, 0);
+    }
+
+    /**
+     * 긴 대화를 나눈 구간 하나를 평가하는 요청을 생성합니다.
+     * 구간 앞부분의 {@code contextMessages}개 메시지는 이전 구간과 겹치는 문맥이므로 평가하지 않도록 안내합니다.
+     *
+     * @param conversation 평가할 대화 구간
+     * @param contextMessages 구간 앞부분의 문맥용 메시지 수
+     */
+    @SneakyThrows
+    public static GptReportRequest fromAiChatHistories(List<AiChatHistory> conversation, int contextMessages) {
 
         String systemMessage = "당신은 10년 경력의 일본어 전문 강사로서, 학생의 일본어 대화 능력을 평가하고 개선할 방법을 제안하는 임무를 맡고 있습니다. 평가는 대화의 내용을 기반으로 하며,  여기서 중요한 점은 오직 \"user\" 역할을 가진 메시지만 분석 대상임을 명심해야 합니다. 'role'이 \"assistant\" 역할의 메시지는 분석에서 제외하고, \"user\" 메시지에 대한 어휘력, 문법, 유창성 등을 평가해 주세요. 그리고 마찬가지로 'role'이 \"user\"인 메세지에 대해서만 피드백을 자세히 제공해주세요.(잘했으면 왜 잘했는지도 말해주기)\n" +"평가는 다음과 같은 기준에 따라 진행됩니다:\n\n"
                 +"하나씩 하나씩 파악해 봅시다.\n"
@@ -59,6 +71,10 @@ public record GptReportRequest(
         ArrayList<GptDialogueMessage> messageList = new ArrayList<>();
         messageList.add(new GptDialogueMessage("system", systemMessage));
 //        messageList.add(new GptDialogueMessage("system", systemMessage2));
+        if (contextMessages > 0) {
+            messageList.add(new GptDialogueMessage("system", "이 대화는 긴 대화의 일부입니다. 처음 " + contextMessages
+                    + "개의 메시지는 앞 구간의 문맥이므로 점수와 피드백에 포함하지 말고, 그 이후의 메시지만 평가해 주세요."));
+        }
 
         for (AiChatHistory chatHistory: conversation) {
             String role = switch (chatHistory.getSender()) {
@@ -87,6 +103,103 @@ public record GptReportRequest(
         );
     }
 
+    /**
+     * 사용자 메시지 하나를 평가하는 요청을 생성합니다.
+     * 레포트와 같은 기준으로 점수를 매기고 피드백을 작성하며, 직전 GPT 메시지는 문맥 이해 평가에만 사용합니다.
+     *
+     * @param previousGptMessage 사용자가 대답한 직전 GPT 메시지 (없으면 null)
+     * @param userMessage 평가할 사용자 메시지
+     */
+    public static GptReportRequest fromUserTurn(String previousGptMessage, String userMessage) {
+        String systemMessage = "당신은 10년 경력의 일본어 전문 강사로서, 학생의 일본어 대화 능력을 평가하고 개선할 방법을 제안하는 임무를 맡고 있습니다. "
+                + "\"assistant\" 메시지는 학생이 대답한 상대방의 말이며 평가 대상이 아닙니다. 오직 \"user\" 메시지 하나만 다음 기준으로 평가해 주세요:\n\n"
+                + "1. 어휘력: 사용된 어휘의 다양성, 정확성, 상황에 맞는 적절성을 평가합니다.\n"
+                + "2. 단어 점수: 단어 선택의 적합성과 맞춤법 정확도를 평가합니다.\n"
+                + "3. 유창성: 문장의 자연스러움과 문장 간의 연결을 평가합니다.\n"
+                + "4. 문법: 문법 규칙의 정확한 사용과 문장 구조를 평가합니다.\n"
+                + "5. 문맥 이해: 상대방의 말에 대한 이해도 및 의도의 명확성을 평가합니다.\n"
+                + "6. feedback(피드백): 한국어로, 잘했으면 왜 잘했는지 칭찬을, 부족하다면 어떤점이 부족했는지를 알려주고 모범 답안(모범 답안만 일본어로)을 제시해주세요.\n\n"
+                + "각 항목의 평가 점수는 1에서 5 사이의 값으로, 소수점 두 자리까지 표현됩니다. 반드시 아래의 예시처럼 JSON 형식에 맞추어 평가 결과를 제공해 주세요.:\n\n"
+                + "{\n"
+                + "  \"vocabularyScore\": 3.25,\n"
+                + "  \"wordScore\": 3.75,\n"
+                + "  \"fluencyScore\": 4.00,\n"
+                + "  \"grammarScore\": 3.50,\n"
+                + "  \"contextScore\": 4.20,\n"
+                + "  \"feedback\": \"어휘 선택이 더 다양할 수 있습니다. '猫が好きです' 대신 '私は猫を愛しています'라고 표현할 수 있습니다.\"\n"
+                + "}\n\n";
+
+        ArrayList<GptDialogueMessage> messageList = new ArrayList<>();
+        messageList.add(new GptDialogueMessage("system", systemMessage));
+        if (previousGptMessage != null) {
+            messageList.add(new GptDialogueMessage("assistant", previousGptMessage));
+        }
+        messageList.add(new GptDialogueMessage("user", userMessage));
+
+        return new GptReportRequest(
+                "gpt-3.5-turbo-1106",
+                messageList,
+                300,
+                1,
+                Map.of("type", "json_object")
+        );
+    }
+
+    /**
+     * 사용자 메시지별 평가를 모은 뒤, 레포트의 대화 요약만 생성하는 요청을 생성합니다.
+     * 점수와 피드백은 이미 계산되어 있으므로 사용자 메시지와 평균 점수만 보내 짧은 요약을 요청합니다.
+     *
+     * @param userMessages 대화 순서대로 나열한 사용자 메시지
+     * @param averageScores 항목별 평균 점수 (예: "어휘력 3.25, 단어 3.75, ...")
+     */
+    public static GptReportRequest fromUserTurnsForSummary(List<String> userMessages, String averageScores) {
+        String systemMessage = "당신은 10년 경력의 일본어 전문 강사입니다. 학생이 일본어 회화에서 보낸 메시지들과 항목별 평균 점수가 주어집니다. "
+                + "대화 내용의 요약과 점수의 근거를 한국어로 작성해 주세요. 최대 70자를 넘지 않으며, 도중에 내용이 끊기지 않게 잘 정리해서 생성해주세요.\n"
+                + "반드시 아래의 예시처럼 JSON 형식에 맞추어 제공해 주세요.:\n\n"
+                + "{\n"
+                + "  \"conversationSummary\": \"<대화 내용의 요약 + 점수의 근거>\"\n"
+                + "}\n\n";
+
+        ArrayList<GptDialogueMessage> messageList = new ArrayList<>();
+        messageList.add(new GptDialogueMessage("system", systemMessage));
+        messageList.add(new GptDialogueMessage("user", "평균 점수: " + averageScores + "\n학생의 메시지:\n" + String.join("\n", userMessages)));
+
+        return new GptReportRequest(
+                "gpt-3.5-turbo-1106",
+                messageList,
+                200,
+                1,
+                Map.of("type", "json_object")
+        );
+    }
+
+    /**
+     * 구간별 레포트의 대화 요약을 하나의 요약으로 합치는 요청을 생성합니다.
+     *
+     * @param summaries 대화 순서대로 나열한 구간별 요약
+     * @param averageScores 항목별 평균 점수 (예: "어휘력 3.25, 단어 3.75, ...")
+     */
+    public static GptReportRequest fromChunkSummaries(List<String> summaries, String averageScores) {
+        String systemMessage = "당신은 10년 경력의 일본어 전문 강사입니다. 학생과의 긴 일본어 회화를 구간별로 요약한 내용과 항목별 평균 점수가 주어집니다. "
+                + "전체 대화 내용의 요약과 점수의 근거를 한국어로 작성해 주세요. 최대 70자를 넘지 않으며, 도중에 내용이 끊기지 않게 잘 정리해서 생성해주세요.\n"
+                + "반드시 아래의 예시처럼 JSON 형식에 맞추어 제공해 주세요.:\n\n"
+                + "{\n"
+                + "  \"conversationSummary\": \"<대화 내용의 요약 + 점수의 근거>\"\n"
+                + "}\n\n";
+
+        ArrayList<GptDialogueMessage> messageList = new ArrayList<>();
+        messageList.add(new GptDialogueMessage("system", systemMessage));
+        messageList.add(new GptDialogueMessage("user", "평균 점수: " + averageScores + "\n구간별 요약:\n" + String.join("\n", summaries)));
+
+        return new GptReportRequest(
+                "gpt-3.5-turbo-1106",
+                messageList,
+                200,
+                1,
+                Map.of("type", "json_object")
+        );
+    }
+
     private static int calculateMaxToken(int messageCount) {
         // tokenSize 계산 로직 유지 및 필요에 따라 수정
         if (messageCount <= 10) return 2000;
@@ -0,0 +1,20 @@
+package com.ssafy.backend.global.component.openai.dto;
+
+/**
+ * 채팅방 대화 상태가 Redis에서 차지하는 메모리를 나타내는 레코드입니다.
+ * 현재 저장된 값의 실제 메모리와, 같은 값을 바이너리 코덱과 JSON으로 직렬화했을 때의 크기를 비교합니다.
+ *
+ * @param roomId 채팅방 ID
+ * @param messageCount 보관 중인 대화 메시지 수
+ * @param redisMemoryBytes Redis가 보고한 대화 상태 키들의 메모리 사용량 (MEMORY USAGE, 키 오버헤드 포함)
+ * @param compactBytes 값을 바이너리 코덱으로 직렬화한 크기의 합
+ * @param jsonBytes 값을 JSON(@class 포함)으로 직렬화한 크기의 합
+ */
+public record GptSessionMemoryReport(
+        Long roomId,
+        int messageCount,
+        long redisMemoryBytes,
+        long compactBytes,
+        long jsonBytes
+) {
+}
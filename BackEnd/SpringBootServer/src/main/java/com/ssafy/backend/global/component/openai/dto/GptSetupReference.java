@@ -0,0 +1,19 @@
+package com.ssafy.backend.global.component.openai.dto;
+
+import com.ssafy.backend.domain.aichat.entity.enums.AiChatCategory;
+
+/**
+ * 채팅방의 GPT 대화 설정을 가리키는 레코드입니다.
+ * 설정 프롬프트 전체 대신 이 값만 Redis에 저장하고, 실제 요청은
+ * {@link com.ssafy.backend.global.component.openai.prompt.GptPromptRegistry}에서 조립합니다.
+ *
+ * @param category 채팅방 카테고리
+ * @param promptVersion 채팅방 설정 시점의 프롬프트 버전
+ * @param lean 일본어 대답만 생성하는 간소화 프롬프트 사용 여부 (이전에 저장된 값은 false)
+ */
+public record GptSetupReference(
+        AiChatCategory category,
+        int promptVersion,
+        boolean lean
+) {
+}
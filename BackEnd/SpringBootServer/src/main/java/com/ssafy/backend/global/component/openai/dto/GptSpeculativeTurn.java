@@ -0,0 +1,17 @@
+package com.ssafy.backend.global.component.openai.dto;
+
+/**
+ * 사용자가 모범 답변을 그대로 보낼 것으로 가정하고 미리 생성한 다음 대화 응답을 나타내는 레코드입니다.
+ *
+ * @param expectedUserMessage 가정한 사용자 메시지 (모범 답변)
+ * @param response 미리 생성한 GPT 응답 문자열
+ * @param historySize 응답을 생성할 때의 대화 내역 메시지 수 (이후 대화가 진행되었는지 확인하는 데 사용)
+ * @param estimatedTokens 응답 생성에 사용한 추정 토큰 수
+ */
+public record GptSpeculativeTurn(
+        String expectedUserMessage,
+        String response,
+        long historySize,
+        int estimatedTokens
+) {
+}
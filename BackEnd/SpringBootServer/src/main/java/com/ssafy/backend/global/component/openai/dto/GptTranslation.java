@@ -0,0 +1,14 @@
+package com.ssafy.backend.global.component.openai.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * GPT 대답의 한국어 번역과 사용자의 모범 답변을 나타내는 레코드입니다.
+ * 간소화 모드에서는 사용자가 요청할 때 생성하며, 메시지(AiChatHistory)별로 Redis에 캐시합니다.
+ */
+public record GptTranslation(
+        @JsonProperty("gpt_korean") String gptKoreanResponse,
+        @JsonProperty("user_tip_japanese") String userTipJapaneseResponse,
+        @JsonProperty("user_tip_korean") String userTipKoreanResponse
+) {
+}
@@ -0,0 +1,50 @@
+package com.ssafy.backend.global.component.openai.dto;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GPT 대답의 한국어 번역과 사용자의 모범 답변 생성 요청을 나타내는 레코드입니다.
+ */
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record GptTranslationRequest(
+        String model,
+        List<GptDialogueMessage> messages,
+        int maxTokens,
+        double temperature,
+        Map<String, Object> responseFormat
+) {
+    private static final String SYSTEM_MESSAGE = "너는 초보자 ~ 초중급자를 위한 일본어 회화 강사야.\n" +
+            "사용자가 보낸 일본어 문장은 회화 연습 중 강사가 학습자에게 한 말이야.\n" +
+            "이 문장의 한국어 번역, 이 말에 대한 학습자의 모범 답변(일본어, 1마디), 모범 답변의 한국어 번역을 만들어줘.\n" +
+            "반드시 아래 `JSON format`으로만 보내고, 어떤 값도 null이나 빈값으로 보내지 마.\n" +
+            "{\"gpt_korean\":\"${문장의 한국어 번역}\"," +
+            "\"user_tip_japanese\":\"${학습자의 모범 답변 (일본어)}\"," +
+            "\"user_tip_korean\":\"${모범 답변 한국어 번역}\"}";
+
+    /**
+     * GPT 일본어 대답에 대한 번역 및 모범 답변 생성 요청을 만듭니다.
+     *
+     * @param gptJapanese 번역할 GPT의 일본어 대답
+     * @return GptTranslationRequest 요청 객체
+     */
+    public static GptTranslationRequest of(String gptJapanese) {
+        List<GptDialogueMessage> messages = List.of(
+                new GptDialogueMessage("system", SYSTEM_MESSAGE),
+                new GptDialogueMessage("user", gptJapanese)
+        );
+
+        Map<String, Object> responseFormat = Map.of("type", "json_object"); // JSON 형식을 지정
+
+        return new GptTranslationRequest(
+                "gpt-3.5-turbo-1106",
+                messages,
+                200,
+                0.3,
+                responseFormat
+        );
+    }
+}
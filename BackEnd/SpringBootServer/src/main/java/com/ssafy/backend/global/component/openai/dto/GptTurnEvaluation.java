@@ -0,0 +1,24 @@
+package com.ssafy.backend.global.component.openai.dto;
+
+/**
+ * 사용자 메시지 하나에 대한 GPT 평가 결과를 나타내는 레코드입니다.
+ * 채팅방별로 Redis에 보관하며, 레포트 생성 시 모아서 점수 평균과 피드백으로 사용합니다.
+ *
+ * @param historyId 평가한 사용자 메시지의 대화 내역 ID
+ * @param vocabularyScore 어휘력 점수 (1~5)
+ * @param wordScore 단어 점수 (1~5)
+ * @param fluencyScore 유창성 점수 (1~5)
+ * @param grammarScore 문법 점수 (1~5)
+ * @param contextScore 문맥 이해 점수 (1~5)
+ * @param feedback 한국어 피드백
+ */
+public record GptTurnEvaluation(
+        Long historyId,
+        Float vocabularyScore,
+        Float wordScore,
+        Float fluencyScore,
+        Float grammarScore,
+        Float contextScore,
+        String feedback
+) {
+}
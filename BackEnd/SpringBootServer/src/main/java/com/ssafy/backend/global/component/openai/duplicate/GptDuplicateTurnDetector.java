@@ -0,0 +1,101 @@
+package com.ssafy.backend.global.component.openai.duplicate;
+
+import com.ssafy.backend.global.component.openai.dto.GptDialogueMessage;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 사용자가 이전에 보낸 메시지와 거의 같은 메시지를 다시 보냈는지 판단하는 컴포넌트입니다.
+ * 설정 프롬프트는 중복된 메시지에 GPT가 중복 안내 문구로 답하도록 하고 있으므로,
+ * 서버에서 메시지를 저장하기 전에 먼저 감지하여, 중복된 메시지는 저장하거나 평가하지 않고 GPT 호출 없이 같은 안내를 보냅니다.
+ * 메시지를 정규화한 뒤 문자 n-gram 집합의 자카드 유사도로 비교하며, 비교 대상은 Redis에 보관 중인 최근 대화 내역의 사용자 메시지입니다.
+ * 별도의 색인을 보관하지 않으므로 채팅방별 메모리를 사용하지 않고, 비용은 보관 중인 메시지 수에 비례합니다.
+ * 감지 결과는 {@code openai.duplicate.turns}(duplicate, unique) 메트릭으로 확인합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class GptDuplicateTurnDetector {
+
+    private static final String USER_ROLE = "user";
+    private static final Pattern IGNORED_CHARACTERS = Pattern.compile("[\\p{P}\\p{S}\\s]+"); // 비교 시 무시할 문장 부호, 기호, 공백
+
+    private final GptDuplicateTurnProps props;
+    private final MeterRegistry meterRegistry;
+
+    public boolean isEnabled() {
+        return props.enabled();
+    }
+
+    /**
+     * 새 사용자 메시지가 대화 내역의 이전 사용자 메시지와 중복되는지 확인합니다.
+     * 중복된 메시지는 저장하지 않으므로 대화 내역에 추가하기 전에 확인합니다.
+     *
+     * @param history 사용자 메시지를 추가하기 전의 최근 대화 내역
+     * @param userMessage 새 사용자 메시지
+     * @return 이전 사용자 메시지와 중복되면 true
+     */
+    public boolean isDuplicate(List<GptDialogueMessage> history, String userMessage) {
+        if (!props.enabled()) {
+            return false;
+        }
+        String normalized = normalize(userMessage);
+        if (normalized.length() < props.minLength()) {
+            return false;
+        }
+
+        Set<String> shingles = shinglesOf(normalized);
+        boolean duplicate = false;
+        for (int i = history.size() - 1; i >= 0 && !duplicate; i--) {
+            GptDialogueMessage previous = history.get(i);
+            if (USER_ROLE.equals(previous.role())) {
+                duplicate = similarity(shingles, shinglesOf(normalize(previous.content()))) >= props.similarityThreshold();
+            }
+        }
+        meterRegistry.counter("openai.duplicate.turns", "result", duplicate ? "duplicate" : "unique").increment();
+        return duplicate;
+    }
+
+    // 문장 부호, 공백, 전각/반각 차이를 무시합니다.
+    private String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return IGNORED_CHARACTERS.matcher(normalized).replaceAll("");
+    }
+
+    private Set<String> shinglesOf(String text) {
+        Set<String> shingles = new HashSet<>();
+        if (text.length() <= props.shingleSize()) {
+            shingles.add(text);
+            return shingles;
+        }
+        for (int i = 0; i + props.shingleSize() <= text.length(); i++) {
+            shingles.add(text.substring(i, i + props.shingleSize()));
+        }
+        return shingles;
+    }
+
+    private double similarity(Set<String> a, Set<String> b) {
+        if (a.isEmpty() || b.isEmpty()) {
+            return 0;
+        }
+        Set<String> smaller = a.size() <= b.size() ? a : b;
+        Set<String> larger = smaller == a ? b : a;
+        int intersection = 0;
+        for (String shingle : smaller) {
+            if (larger.contains(shingle)) {
+                intersection++;
+            }
+        }
+        return (double) intersection / (a.size() + b.size() - intersection);
+    }
+}
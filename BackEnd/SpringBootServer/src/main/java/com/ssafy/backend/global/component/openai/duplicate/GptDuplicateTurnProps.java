@@ -0,0 +1,21 @@
+package com.ssafy.backend.global.component.openai.duplicate;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 중복 사용자 메시지 감지({@link GptDuplicateTurnDetector}) 설정 값을 관리하는 레코드입니다.
+ *
+ * @param enabled 중복 사용자 메시지 감지 사용 여부
+ * @param shingleSize 메시지를 나누는 문자 n-gram의 길이
+ * @param minLength 정규화한 메시지가 이 길이보다 짧으면 감지하지 않음 (はい, そうです 같은 짧은 대답 제외)
+ * @param similarityThreshold 이전 사용자 메시지와의 n-gram 자카드 유사도가 이 값 이상이면 중복으로 판단 (0~1)
+ */
+@ConfigurationProperties(prefix = "openai.duplicate-turn")
+public record GptDuplicateTurnProps(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("2") int shingleSize,
+        @DefaultValue("6") int minLength,
+        @DefaultValue("0.8") double similarityThreshold
+) {
+}
@@ -0,0 +1,24 @@
+package com.ssafy.backend.global.component.openai.enums;
+
+/**
+ * OpenAI로 보내는 요청의 종류를 나타내는 열거형입니다.
+ * 요청 종류에 따라 캐시 만료 시간, 대기열 우선순위 등 처리 정책이 달라집니다.
+ */
+public enum GptRequestType {
+    CHAT,       // 사용자와의 대화 응답 (사용자가 응답을 기다리는 요청)
+    SETUP,      // 채팅방 첫 대화 생성 (첫 대화 풀이 비어 채팅방 설정 중에 직접 요청)
+    SETUP_PREFETCH, // 첫 대화 풀을 채우기 위한 첫 대화 생성 (백그라운드)
+    SUMMARY,    // 이전 대화 요약 (백그라운드)
+    REPORT,     // 대화 평가 레포트 생성
+    EVALUATION, // 사용자 메시지별 평가 (백그라운드, 레포트 생성 시 모아서 사용)
+    SPECULATION, // 사용자가 모범 답변을 보낼 것으로 가정하고 미리 생성하는 다음 대화 응답 (백그라운드)
+    TRANSLATION; // 간소화 모드에서 사용자가 요청한 한국어 번역과 모범 답변
+
+    /**
+     * 사용자가 채팅방에서 응답을 기다리는 요청인지 여부를 반환합니다.
+     * OpenAI 요청 대기열에서는 이런 요청을 레포트, 요약보다 먼저 처리합니다.
+     */
+    public boolean isInteractive() {
+        return this == CHAT || this == SETUP || this == TRANSLATION;
+    }
+}
@@ -0,0 +1,21 @@
+package com.ssafy.backend.global.component.openai.evaluation;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 사용자 메시지별 평가({@link GptTurnEvaluator}) 설정 값을 관리하는 레코드입니다.
+ *
+ * @param enabled 사용자 메시지별 평가 사용 여부 (사용하지 않으면 레포트 생성 시 전체 대화를 한 번에 평가)
+ * @param ttl 평가 결과 보관 시간
+ * @param reportConcurrency 레포트 생성 시 아직 평가되지 않은 메시지를 동시에 평가할 최대 요청 수
+ */
+@ConfigurationProperties(prefix = "openai.turn-evaluation")
+public record GptTurnEvaluationProps(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1d") Duration ttl,
+        @DefaultValue("4") int reportConcurrency
+) {
+}
@@ -0,0 +1,160 @@
+package com.ssafy.backend.global.component.openai.evaluation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.backend.domain.aichat.entity.AiChatHistory;
+import com.ssafy.backend.domain.aichat.entity.enums.AiChatSender;
+import com.ssafy.backend.global.component.openai.OpenAiCommunicationProvider;
+import com.ssafy.backend.global.component.openai.dto.GptReportRequest;
+import com.ssafy.backend.global.component.openai.dto.GptTurnEvaluation;
+import com.ssafy.backend.global.component.openai.repository.OpenAiRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사용자 메시지가 저장될 때마다 백그라운드에서 메시지 하나를 평가하여 Redis에 보관하는 컴포넌트입니다.
+ * 레포트 생성 시 전체 대화를 한 번에 평가하지 않고 보관한 평가를 모으기만 하므로,
+ * 레포트 생성 시간이 대화 길이와 관계없이 거의 일정하고 평가 비용은 대화 중에 나누어 발생합니다.
+ * 평가 결과는 {@code openai.evaluation.turns}(evaluated, failed) 메트릭으로 확인합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GptTurnEvaluator {
+
+    private static final List<String> REQUIRED_FIELDS = List.of(
+            "vocabularyScore", "wordScore", "fluencyScore", "grammarScore", "contextScore", "feedback");
+
+    private final GptTurnEvaluationProps props;
+    private final OpenAiRepository openAiRepository;
+    private final OpenAiCommunicationProvider openAiCommunicationProvider;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    public boolean isEnabled() {
+        return props.enabled();
+    }
+
+    /**
+     * 사용자 메시지를 백그라운드에서 평가하여 보관합니다. 실패하면 레포트 생성 시 다시 평가합니다.
+     *
+     * @param roomId 채팅방 ID
+     * @param historyId 사용자 메시지의 대화 내역 ID
+     * @param previousGptMessage 사용자가 대답한 직전 GPT 메시지 (없으면 null)
+     * @param userMessage 사용자 메시지
+     */
+    public void evaluateInBackground(Long roomId, Long historyId, String previousGptMessage, String userMessage) {
+        if (!props.enabled()) {
+            return;
+        }
+        evaluate(roomId, historyId, previousGptMessage, userMessage)
+                .subscribe(
+                        evaluation -> {
+                        },
+                        e -> log.warn("사용자 메시지를 평가하지 못했습니다. roomId : {}, historyId : {}, cause : {}", roomId, historyId, e.getMessage())
+                );
+    }
+
+    /**
+     * 사용자 메시지를 평가하여 보관하고 평가 결과를 반환합니다.
+     *
+     * @param roomId 채팅방 ID
+     * @param historyId 사용자 메시지의 대화 내역 ID
+     * @param previousGptMessage 사용자가 대답한 직전 GPT 메시지 (없으면 null)
+     * @param userMessage 사용자 메시지
+     * @return 평가 결과
+     */
+    public Mono<GptTurnEvaluation> evaluate(Long roomId, Long historyId, String previousGptMessage, String userMessage) {
+        return evaluate(roomId, historyId, previousGptMessage, userMessage, false);
+    }
+
+    // resend가 true이면 캐시된 이전 응답을 사용하지 않고 다시 요청합니다.
+    private Mono<GptTurnEvaluation> evaluate(Long roomId, Long historyId, String previousGptMessage, String userMessage, boolean resend) {
+        GptReportRequest request = GptReportRequest.fromUserTurn(previousGptMessage, userMessage);
+        Mono<String> response = resend
+                ? openAiCommunicationProvider.resendEvaluationPromptToGpt(request)
+                : openAiCommunicationProvider.sendEvaluationPromptToGpt(request);
+        return response
+                .map(responseString -> parse(historyId, responseString))
+                .flatMap(evaluation -> openAiRepository.saveAiChatTurnEvaluation(roomId, evaluation, props.ttl())
+                        .thenReturn(evaluation))
+                .doOnSuccess(evaluation -> record("evaluated"))
+                .doOnError(e -> record("failed"));
+    }
+
+    /**
+     * 대화의 모든 사용자 메시지에 대한 평가를 대화 순서대로 모읍니다.
+     * 보관된 평가를 사용하고, 아직 평가되지 않은 메시지(마지막 메시지 등)만 동시에 최대 {@link GptTurnEvaluationProps#reportConcurrency()}개씩 평가합니다.
+     * 평가에 실패한 메시지는 그 메시지만 한 번 더 평가하고, 다시 실패하면 결과에서 제외합니다.
+     *
+     * @param roomId 채팅방 ID
+     * @param conversation 채팅방의 대화 내역 (대화 순서)
+     * @return 사용자 메시지별 평가 결과
+     */
+    public Mono<List<GptTurnEvaluation>> collectEvaluations(Long roomId, List<AiChatHistory> conversation) {
+        return openAiRepository.findAiChatTurnEvaluations(roomId)
+                .collectMap(GptTurnEvaluation::historyId)
+                .flatMap(evaluations -> Flux.fromIterable(userTurnsOf(conversation))
+                        .flatMapSequential(turn -> evaluations.containsKey(turn.historyId())
+                                ? Mono.just(evaluations.get(turn.historyId()))
+                                : evaluate(roomId, turn.historyId(), turn.previousGptMessage(), turn.userMessage())
+                                .onErrorResume(e -> evaluate(roomId, turn.historyId(), turn.previousGptMessage(), turn.userMessage(), true))
+                                .onErrorResume(e -> {
+                                    log.warn("레포트에 사용할 메시지를 평가하지 못해 제외합니다. roomId : {}, historyId : {}, cause : {}",
+                                            roomId, turn.historyId(), e.getMessage());
+                                    return Mono.empty();
+                                }), props.reportConcurrency())
+                        .collectList());
+    }
+
+    // 사용자 메시지와 직전 GPT 메시지를 짝지어 반환합니다.
+    private List<UserTurn> userTurnsOf(List<AiChatHistory> conversation) {
+        List<UserTurn> turns = new ArrayList<>();
+        String previousGptMessage = null;
+        for (AiChatHistory history : conversation) {
+            if (history.getSender() == AiChatSender.GPT) {
+                previousGptMessage = history.getContent();
+            } else if (history.getSender() == AiChatSender.USER) {
+                turns.add(new UserTurn(history.getId(), previousGptMessage, history.getContent()));
+            }
+        }
+        return turns;
+    }
+
+    private GptTurnEvaluation parse(Long historyId, String response) {
+        try {
+            JsonNode node = objectMapper.readTree(response);
+            for (String field : REQUIRED_FIELDS) {
+                if (!node.hasNonNull(field)) {
+                    throw new IllegalStateException("사용자 메시지 평가 응답에 " + field + " 값이 없습니다.");
+                }
+            }
+            return new GptTurnEvaluation(
+                    historyId,
+                    (float) node.path("vocabularyScore").asDouble(),
+                    (float) node.path("wordScore").asDouble(),
+                    (float) node.path("fluencyScore").asDouble(),
+                    (float) node.path("grammarScore").asDouble(),
+                    (float) node.path("contextScore").asDouble(),
+                    node.path("feedback").asText()
+            );
+        } catch (IOException e) {
+            throw new IllegalStateException("사용자 메시지 평가 응답을 파싱하지 못했습니다.", e);
+        }
+    }
+
+    private void record(String result) {
+        meterRegistry.counter("openai.evaluation.turns", "result", result).increment();
+    }
+
+    private record UserTurn(Long historyId, String previousGptMessage, String userMessage) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.ssafy.backend.global.component.openai.exception;
+
+import java.io.IOException;
+
+/**
+ * GPT 응답이 최대 토큰 수에 도달해 중간에 끊긴 경우(finish_reason이 "length")의 예외입니다.
+ * 잘린 응답은 복구하지 않고, 형식이 잘못된 응답과 같이 {@link IOException}으로 처리해 한 번 다시 요청합니다.
+ */
+public class GptTruncatedResponseException extends IOException {
+
+    public static final String FINISH_REASON_LENGTH = "length";
+
+    public GptTruncatedResponseException() {
+        super("GPT 응답이 최대 토큰 수에 도달해 중간에 끊겼습니다.");
+    }
+}
@@ -0,0 +1,38 @@
+package com.ssafy.backend.global.component.openai.governor;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * OpenAI 요청 조절기({@link GptRequestGovernor}) 설정 값을 관리하는 레코드입니다.
+ * 분당 요청 수와 토큰 수는 OpenAI 계정의 RPM/TPM 한도보다 약간 낮게 설정합니다.
+ *
+ * @param enabled 요청 조절 사용 여부 (false이면 요청을 바로 전송)
+ * @param requestsPerMinute 분당 최대 요청 수
+ * @param tokensPerMinute 분당 최대 토큰 수 (프롬프트 추정치 + max_tokens)
+ * @param initialConcurrency 동시 요청 수 한도의 초기값
+ * @param minConcurrency 동시 요청 수 한도의 최솟값
+ * @param maxConcurrency 동시 요청 수 한도의 최댓값
+ * @param latencyThreshold 지연 기준의 기본 시간, 요청이 이 시간과 토큰당 허용 시간의 합보다 오래 걸리면 과부하 신호로 보고 동시 요청 수 한도를 줄임
+ * @param latencyPerOutputToken 지연 기준에 max_tokens 1개당 더하는 시간 (생성할 토큰이 많은 레포트 요청이 과부하로 판단되지 않도록 함)
+ * @param firstTokenLatencyThreshold 스트리밍 요청의 첫 조각이 이 시간보다 늦게 도착하면 과부하 신호로 판단
+ * @param backgroundAgingTime 백그라운드 요청이 이 시간 이상 기다리면 대화 요청보다 먼저 도착한 경우 먼저 처리
+ * @param maxQueueTime 대기열에서 기다릴 수 있는 최대 시간 (초과하면 요청 실패)
+ */
+@ConfigurationProperties(prefix = "openai.governor")
+public record GptGovernorProps(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("500") int requestsPerMinute,
+        @DefaultValue("60000") int tokensPerMinute,
+        @DefaultValue("8") int initialConcurrency,
+        @DefaultValue("2") int minConcurrency,
+        @DefaultValue("32") int maxConcurrency,
+        @DefaultValue("5s") Duration latencyThreshold,
+        @DefaultValue("20ms") Duration latencyPerOutputToken,
+        @DefaultValue("5s") Duration firstTokenLatencyThreshold,
+        @DefaultValue("10s") Duration backgroundAgingTime,
+        @DefaultValue("30s") Duration maxQueueTime
+) {
+}
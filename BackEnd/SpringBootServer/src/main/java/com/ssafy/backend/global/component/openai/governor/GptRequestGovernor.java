@@ -0,0 +1,366 @@
+package com.ssafy.backend.global.component.openai.governor;
+
+import com.ssafy.backend.global.component.openai.enums.GptRequestType;
+import com.ssafy.backend.global.exception.GlobalErrorCode;
+import com.ssafy.backend.global.exception.GlobalException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 모든 OpenAI 요청의 전송 시점을 조절하는 컴포넌트입니다.
+ * 요청은 대기열에서 기다리다가 아래 조건을 모두 만족할 때 전송됩니다.
+ * <ul>
+ *     <li>최근 1분간 보낸 요청 수와 추정 토큰 수가 분당 한도(RPM/TPM) 안에 있을 것</li>
+ *     <li>현재 진행 중인 요청 수가 동시 요청 수 한도보다 적을 것</li>
+ * </ul>
+ * 동시 요청 수 한도는 AIMD 방식으로 조정합니다. 제시간에 끝난 요청마다 조금씩 늘리고,
+ * 429 응답이나 지연이 발생하면 절반으로 줄입니다.
+ * 응답 시간은 생성할 토큰 수(max_tokens)에 비례하므로 지연 기준은 {@link GptGovernorProps#latencyThreshold()}에
+ * 토큰당 허용 시간({@link GptGovernorProps#latencyPerOutputToken()})을 더해 요청마다 계산하며,
+ * 스트리밍 요청은 첫 조각이 도착하기까지의 시간을 {@link GptGovernorProps#firstTokenLatencyThreshold()}와 비교합니다.
+ * 429 응답을 받으면 Retry-After 동안 새 요청을 보내지 않습니다.
+ * 대기열은 사용자가 응답을 기다리는 요청({@link GptRequestType#isInteractive()})을 먼저 처리하되,
+ * {@link GptGovernorProps#backgroundAgingTime()} 이상 기다린 백그라운드 요청은 도착 순서대로 처리하여
+ * 대화 요청이 계속 몰려도 레포트, 요약 요청이 대기 시간 초과로 실패하지 않도록 합니다.
+ */
+@Slf4j
+@Component
+public class GptRequestGovernor {
+
+    private static final long WINDOW_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final long DECREASE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1); // 한 번의 과부하로 여러 번 줄이지 않도록 하는 간격
+    private static final long DEFAULT_RETRY_AFTER_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final double DECREASE_FACTOR = 0.5;
+
+    private final GptGovernorProps props;
+    private final Counter throttledCounter;
+    private final MeterRegistry meterRegistry;
+
+    // 아래 상태는 모두 this를 잠그고 변경합니다.
+    private final Deque<Waiter> interactiveWaiters = new ArrayDeque<>();
+    private final Deque<Waiter> backgroundWaiters = new ArrayDeque<>();
+    private final Deque<Usage> usages = new ArrayDeque<>(); // 최근 1분간 전송한 요청
+    private long usedTokens;
+    private int inFlight;
+    private double concurrencyLimit;
+    private long pausedUntil;
+    private long lastDecreasedAt;
+    private boolean drainScheduled;
+
+    public GptRequestGovernor(GptGovernorProps props, MeterRegistry meterRegistry) {
+        this.props = props;
+        this.meterRegistry = meterRegistry;
+        this.concurrencyLimit = props.initialConcurrency();
+        this.lastDecreasedAt = System.nanoTime() - DECREASE_INTERVAL_NANOS;
+        this.throttledCounter = meterRegistry.counter("openai.governor.throttled");
+        Gauge.builder("openai.governor.concurrency.limit", this, GptRequestGovernor::getConcurrencyLimit).register(meterRegistry);
+        Gauge.builder("openai.governor.in.flight", this, GptRequestGovernor::getInFlight).register(meterRegistry);
+        Gauge.builder("openai.governor.queued", this, GptRequestGovernor::getQueued).register(meterRegistry);
+    }
+
+    /**
+     * 전송 가능한 시점까지 기다린 뒤 요청을 실행합니다.
+     *
+     * @param requestType 요청 종류 (대기열 우선순위 결정)
+     * @param estimatedTokens 요청의 추정 토큰 수 (프롬프트 + max_tokens)
+     * @param maxTokens 요청의 max_tokens (지연 기준 계산)
+     * @param request OpenAI 요청을 생성하는 함수
+     * @return 요청 결과
+     */
+    public <T> Mono<T> execute(GptRequestType requestType, int estimatedTokens, int maxTokens, Supplier<Mono<T>> request) {
+        if (!props.enabled()) {
+            return request.get();
+        }
+        long latencyThresholdNanos = props.latencyThreshold().toNanos() + props.latencyPerOutputToken().toNanos() * maxTokens;
+        return acquire(requestType, estimatedTokens, latencyThresholdNanos)
+                .flatMap(permit -> request.get()
+                        .doOnSuccess(result -> permit.release(null))
+                        .doOnError(permit::release)
+                        .doOnCancel(permit::cancel));
+    }
+
+    /**
+     * 전송 가능한 시점까지 기다린 뒤 스트리밍 요청을 실행합니다.
+     * 스트림이 끝날 때까지 동시 요청 한 개로 계산하며, 지연 여부는 첫 조각이 도착하기까지의 시간으로 판단합니다.
+     *
+     * @param requestType 요청 종류 (대기열 우선순위 결정)
+     * @param estimatedTokens 요청의 추정 토큰 수 (프롬프트 + max_tokens)
+     * @param request OpenAI 스트리밍 요청을 생성하는 함수
+     * @return 요청 결과 스트림
+     */
+    public <T> Flux<T> executeMany(GptRequestType requestType, int estimatedTokens, Supplier<Flux<T>> request) {
+        if (!props.enabled()) {
+            return request.get();
+        }
+        return acquire(requestType, estimatedTokens, props.firstTokenLatencyThreshold().toNanos())
+                .flatMapMany(permit -> request.get()
+                        .doOnNext(item -> permit.markFirstResponse())
+                        .doOnComplete(() -> permit.release(null))
+                        .doOnError(permit::release)
+                        .doOnCancel(permit::cancel));
+    }
+
+    /**
+     * 대기열에 들어가 전송 허가를 받습니다.
+     * 최대 대기 시간 안에 허가를 받지 못하면 대기열에서 빠지고 OPENAI_SERVER_BUSY 예외가 발생합니다.
+     */
+    private Mono<Permit> acquire(GptRequestType requestType, int estimatedTokens, long latencyThresholdNanos) {
+        // 한 요청이 분당 토큰 한도보다 크면 영원히 전송되지 않으므로 한도로 제한합니다.
+        int tokens = Math.min(estimatedTokens, props.tokensPerMinute());
+        return Mono.<Permit>create(sink -> {
+                    Waiter waiter;
+                    synchronized (this) {
+                        waiter = new Waiter(requestType, tokens, latencyThresholdNanos, System.nanoTime(), sink, new AtomicBoolean());
+                        queueOf(requestType).addLast(waiter);
+                    }
+                    sink.onCancel(() -> withdraw(waiter));
+                    drain();
+                })
+                .timeout(props.maxQueueTime(), Mono.error(() -> new GlobalException(GlobalErrorCode.OPENAI_SERVER_BUSY)));
+    }
+
+    // 허가를 받기 전에 취소된 요청을 대기열에서 제거합니다.
+    private void withdraw(Waiter waiter) {
+        waiter.cancelled().set(true);
+        synchronized (this) {
+            queueOf(waiter.requestType()).remove(waiter);
+        }
+        drain();
+    }
+
+    private Deque<Waiter> queueOf(GptRequestType requestType) {
+        return requestType.isInteractive() ? interactiveWaiters : backgroundWaiters;
+    }
+
+    /**
+     * 다음에 허가를 내줄 요청의 대기열을 고릅니다.
+     * 대화 요청을 먼저 처리하되, 오래 기다린 백그라운드 요청이 있으면 둘 중 먼저 도착한 요청을 처리합니다.
+     */
+    private Deque<Waiter> nextQueue(long now) {
+        Waiter interactive = interactiveWaiters.peekFirst();
+        Waiter background = backgroundWaiters.peekFirst();
+        if (interactive == null) {
+            return background == null ? null : backgroundWaiters;
+        }
+        if (background != null && now - background.enqueuedAt() >= props.backgroundAgingTime().toNanos()
+                && background.enqueuedAt() - interactive.enqueuedAt() < 0) {
+            return backgroundWaiters;
+        }
+        return interactiveWaiters;
+    }
+
+    /**
+     * 대기열 앞쪽부터 전송 가능한 요청에 허가를 내줍니다.
+     * 분당 한도 때문에 기다려야 하면 한도가 풀리는 시점에 다시 확인하도록 예약합니다.
+     */
+    private void drain() {
+        List<Waiter> granted = new ArrayList<>();
+        synchronized (this) {
+            long now = System.nanoTime();
+            expireUsages(now);
+            Deque<Waiter> queue;
+            while ((queue = nextQueue(now)) != null && inFlight < (int) concurrencyLimit) {
+                Waiter head = queue.peekFirst();
+                long waitNanos = nanosUntilAvailable(head, now);
+                if (waitNanos > 0) {
+                    scheduleDrain(waitNanos);
+                    break;
+                }
+                queue.pollFirst();
+                inFlight++;
+                usedTokens += head.tokens();
+                usages.addLast(new Usage(now, head.tokens()));
+                granted.add(head);
+            }
+        }
+        for (Waiter waiter : granted) {
+            long queuedNanos = System.nanoTime() - waiter.enqueuedAt();
+            Timer.builder("openai.governor.queue.time")
+                    .tag("type", waiter.requestType().name())
+                    .register(meterRegistry)
+                    .record(queuedNanos, TimeUnit.NANOSECONDS);
+            Permit permit = new Permit(System.nanoTime(), waiter.latencyThresholdNanos());
+            waiter.sink().success(permit);
+            if (waiter.cancelled().get()) {
+                permit.cancel(); // 허가를 내주는 사이에 취소되어 전달되지 못한 허가를 반납합니다.
+            }
+        }
+    }
+
+    // 가장 앞의 요청을 보내려면 얼마나 기다려야 하는지 계산합니다. (0이면 바로 전송 가능)
+    private long nanosUntilAvailable(Waiter head, long now) {
+        if (pausedUntil - now > 0) {
+            return pausedUntil - now;
+        }
+        if (usages.size() >= props.requestsPerMinute()) {
+            return usages.peekFirst().startedAt() + WINDOW_NANOS - now;
+        }
+        long excessTokens = usedTokens + head.tokens() - props.tokensPerMinute();
+        if (excessTokens <= 0) {
+            return 0;
+        }
+        // 초과한 토큰만큼이 기간 밖으로 빠져나가는 시점까지 기다립니다.
+        for (Usage usage : usages) {
+            excessTokens -= usage.tokens();
+            if (excessTokens <= 0) {
+                return usage.startedAt() + WINDOW_NANOS - now;
+            }
+        }
+        return WINDOW_NANOS;
+    }
+
+    private void expireUsages(long now) {
+        while (!usages.isEmpty() && now - usages.peekFirst().startedAt() >= WINDOW_NANOS) {
+            usedTokens -= usages.pollFirst().tokens();
+        }
+    }
+
+    private void scheduleDrain(long delayNanos) {
+        if (drainScheduled) {
+            return;
+        }
+        drainScheduled = true;
+        Schedulers.parallel().schedule(() -> {
+            synchronized (this) {
+                drainScheduled = false;
+            }
+            drain();
+        }, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 요청이 끝나면 동시 요청 수 한도를 조정하고 다음 요청에 허가를 내줍니다.
+     *
+     * @param latencyNanos 요청 전송부터 종료(스트리밍 요청은 첫 조각 도착)까지 걸린 시간
+     * @param latencyThresholdNanos 요청의 지연 기준
+     * @param error 요청이 실패한 경우의 예외 (성공이면 null)
+     */
+    private void onFinished(long latencyNanos, long latencyThresholdNanos, Throwable error) {
+        synchronized (this) {
+            inFlight--;
+            long now = System.nanoTime();
+            if (error instanceof WebClientResponseException responseException
+                    && responseException.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS) {
+                throttledCounter.increment();
+                pausedUntil = now + retryAfterNanos(responseException);
+                decrease(now);
+            } else if (error instanceof TimeoutException || error instanceof WebClientRequestException
+                    || latencyNanos > latencyThresholdNanos) {
+                // 응답 제한 시간 초과, 연결 실패, 지연 응답은 OpenAI 과부하 신호로 봅니다.
+                decrease(now);
+            } else if (error == null) {
+                concurrencyLimit = Math.min(props.maxConcurrency(), concurrencyLimit + 1 / concurrencyLimit);
+            }
+        }
+        drain();
+    }
+
+    private void onCancelled() {
+        synchronized (this) {
+            inFlight--;
+        }
+        drain();
+    }
+
+    private void decrease(long now) {
+        if (now - lastDecreasedAt < DECREASE_INTERVAL_NANOS) {
+            return;
+        }
+        lastDecreasedAt = now;
+        double decreased = Math.max(props.minConcurrency(), concurrencyLimit * DECREASE_FACTOR);
+        log.warn("OpenAI 동시 요청 수 한도 감소: {} -> {}", (int) concurrencyLimit, (int) decreased);
+        concurrencyLimit = decreased;
+    }
+
+    private long retryAfterNanos(WebClientResponseException exception) {
+        String retryAfter = exception.getHeaders().getFirst("Retry-After");
+        if (retryAfter == null) {
+            return DEFAULT_RETRY_AFTER_NANOS;
+        }
+        try {
+            return Duration.ofMillis((long) (Double.parseDouble(retryAfter) * 1000)).toNanos();
+        } catch (NumberFormatException e) {
+            return DEFAULT_RETRY_AFTER_NANOS;
+        }
+    }
+
+    private synchronized double getConcurrencyLimit() {
+        return concurrencyLimit;
+    }
+
+    private synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    private synchronized int getQueued() {
+        return interactiveWaiters.size() + backgroundWaiters.size();
+    }
+
+    /**
+     * 대기열에서 전송 허가를 기다리는 요청입니다.
+     */
+    private record Waiter(GptRequestType requestType, int tokens, long latencyThresholdNanos, long enqueuedAt,
+                          MonoSink<Permit> sink, AtomicBoolean cancelled) {}
+
+    /**
+     * 최근 1분간의 요청 수와 토큰 수를 계산하기 위한 전송 기록입니다.
+     */
+    private record Usage(long startedAt, int tokens) {}
+
+    /**
+     * 전송 허가입니다. 요청이 끝나면 반드시 한 번만 반납됩니다.
+     */
+    private class Permit {
+        private final long startedAt;
+        private final long latencyThresholdNanos;
+        private final AtomicBoolean released = new AtomicBoolean();
+        private final AtomicLong firstResponseAt = new AtomicLong(); // 스트리밍 요청의 첫 조각 도착 시각 (0이면 아직 도착하지 않음)
+
+        Permit(long startedAt, long latencyThresholdNanos) {
+            this.startedAt = startedAt;
+            this.latencyThresholdNanos = latencyThresholdNanos;
+        }
+
+        void markFirstResponse() {
+            if (firstResponseAt.get() == 0) {
+                firstResponseAt.compareAndSet(0, System.nanoTime());
+            }
+        }
+
+        void release(Throwable error) {
+            if (released.compareAndSet(false, true)) {
+                long firstResponse = firstResponseAt.get();
+                long finishedAt = firstResponse != 0 ? firstResponse : System.nanoTime();
+                onFinished(finishedAt - startedAt, latencyThresholdNanos, error);
+            }
+        }
+
+        void cancel() {
+            if (released.compareAndSet(false, true)) {
+                onCancelled();
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.ssafy.backend.global.component.openai.hedge;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * OpenAI 중복 요청(hedged request, {@link GptHedgedRequestExecutor}) 설정 값을 관리하는 레코드입니다.
+ *
+ * @param enabled 중복 요청 사용 여부
+ * @param percentile 최근 응답 시간 중 이 백분위수만큼 기다려도 응답이 없으면 중복 요청을 보냄
+ * @param budgetRatio 전체 요청 대비 중복 요청의 최대 비율
+ * @param sampleSize 백분위수 계산에 사용할 최근 응답 시간 수
+ * @param minSamples 이 수만큼 응답 시간이 쌓이기 전에는 중복 요청을 보내지 않음
+ * @param minDelay 중복 요청을 보내기 전 최소 대기 시간
+ */
+@ConfigurationProperties(prefix = "openai.hedge")
+public record GptHedgeProps(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("0.9") double percentile,
+        @DefaultValue("0.05") double budgetRatio,
+        @DefaultValue("200") int sampleSize,
+        @DefaultValue("20") int minSamples,
+        @DefaultValue("500ms") Duration minDelay
+) {
+}
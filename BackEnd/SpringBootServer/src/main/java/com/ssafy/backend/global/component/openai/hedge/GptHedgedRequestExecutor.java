@@ -0,0 +1,201 @@
+package com.ssafy.backend.global.component.openai.hedge;
+
+import com.ssafy.backend.global.component.openai.enums.GptRequestType;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 사용자가 응답을 기다리는 OpenAI 요청의 꼬리 지연(tail latency)을 줄이기 위해 중복 요청을 보내는 컴포넌트입니다.
+ * 최근 응답 시간의 백분위수(기본 p90)만큼 기다려도 응답이 없으면 같은 요청을 한 번 더 보내고,
+ * 먼저 응답한 쪽을 사용하며 나머지 요청은 취소합니다.
+ * 스트리밍 요청은 첫 조각이 도착한 시점을 응답 시점으로 봅니다.
+ * 요청 조절기({@code GptRequestGovernor})의 허가를 받은 뒤 실행되므로, 응답 시간과 중복 요청까지의 대기 시간에 대기열 시간은 포함되지 않으며
+ * 중복 요청은 원래 요청의 허가를 함께 사용합니다.
+ * 중복 요청을 보낸 뒤에는 원래 요청이 (스트리밍은 첫 조각 전에) 실패해도 중복 요청의 결과를 기다리며, 둘 다 실패하면 원래 요청의 에러를 전달합니다.
+ * 중복 요청은 전체 요청의 {@link GptHedgeProps#budgetRatio()} 비율을 넘지 않으며,
+ * 레포트, 요약처럼 사용자가 기다리지 않는 요청({@link GptRequestType#isInteractive()}이 false)에는 사용하지 않습니다.
+ */
+@Component
+public class GptHedgedRequestExecutor {
+
+    private static final double MAX_BUDGET = 10; // 한가한 시간에 쌓아둘 수 있는 최대 중복 요청 수
+
+    private final GptHedgeProps props;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, LatencyTracker> latencyTrackers = new ConcurrentHashMap<>();
+
+    private double budget; // 남은 중복 요청 수 (요청마다 budgetRatio만큼 쌓임)
+
+    public GptHedgedRequestExecutor(GptHedgeProps props, MeterRegistry meterRegistry) {
+        this.props = props;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 응답이 늦어지면 중복 요청을 보내 먼저 도착한 응답을 반환합니다.
+     *
+     * @param requestType 요청 종류
+     * @param request OpenAI 요청을 생성하는 함수 (중복 요청 시 한 번 더 호출됨)
+     * @return 먼저 도착한 응답
+     */
+    public <T> Mono<T> execute(GptRequestType requestType, Supplier<Mono<T>> request) {
+        if (!props.enabled() || !requestType.isInteractive()) {
+            return request.get();
+        }
+        String metricType = requestType.name();
+        LatencyTracker tracker = trackerOf(metricType);
+        return Mono.defer(() -> {
+            long startedAt = System.nanoTime();
+            Duration hedgeDelay = hedgeDelayOf(metricType, tracker);
+            Mono<T> primary = request.get()
+                    .doOnSuccess(result -> tracker.record(System.nanoTime() - startedAt));
+            if (hedgeDelay == null) {
+                return primary;
+            }
+            HedgeRace race = new HedgeRace();
+            Mono<T> hedged = Mono.delay(hedgeDelay)
+                    .filter(tick -> tryAcquireBudget(metricType))
+                    .doOnNext(tick -> race.fire())
+                    .flatMap(tick -> request.get())
+                    .doOnSuccess(result -> {
+                        if (result != null) {
+                            meterRegistry.counter("openai.hedge.won", "type", metricType).increment();
+                        }
+                    })
+                    .onErrorResume(e -> race.hedgeFailed() ? Mono.error(race.primaryError()) : Mono.never())
+                    .switchIfEmpty(Mono.defer(() -> race.isFired() && race.hedgeFailed() ? Mono.error(race.primaryError()) : Mono.never()));
+            return Mono.firstWithSignal(
+                    primary.onErrorResume(e -> race.primaryFailed(e) ? Mono.error(e) : Mono.never()), // 중복 요청이 진행 중이면 그 결과를 기다립니다.
+                    hedged);
+        });
+    }
+
+    /**
+     * 첫 조각이 늦어지면 중복 스트리밍 요청을 보내 먼저 조각을 보내기 시작한 스트림을 반환합니다.
+     *
+     * @param requestType 요청 종류
+     * @param request OpenAI 스트리밍 요청을 생성하는 함수 (중복 요청 시 한 번 더 호출됨)
+     * @return 먼저 조각을 보내기 시작한 응답 스트림
+     */
+    public <T> Flux<T> executeMany(GptRequestType requestType, Supplier<Flux<T>> request) {
+        if (!props.enabled() || !requestType.isInteractive()) {
+            return request.get();
+        }
+        String metricType = requestType.name() + "_STREAM";
+        LatencyTracker tracker = trackerOf(metricType);
+        return Flux.defer(() -> {
+            long startedAt = System.nanoTime();
+            Duration hedgeDelay = hedgeDelayOf(metricType, tracker);
+            AtomicBoolean primaryStarted = new AtomicBoolean();
+            Flux<T> primary = request.get()
+                    .switchOnFirst((first, flux) -> {
+                        if (first.hasValue()) {
+                            primaryStarted.set(true);
+                            tracker.record(System.nanoTime() - startedAt);
+                        }
+                        return flux;
+                    });
+            if (hedgeDelay == null) {
+                return primary;
+            }
+            HedgeRace race = new HedgeRace();
+            AtomicBoolean hedgeStarted = new AtomicBoolean();
+            Flux<T> hedged = Mono.delay(hedgeDelay)
+                    .filter(tick -> tryAcquireBudget(metricType))
+                    .doOnNext(tick -> race.fire())
+                    .flatMapMany(tick -> request.get())
+                    .switchOnFirst((first, flux) -> {
+                        if (first.hasValue()) {
+                            hedgeStarted.set(true);
+                            meterRegistry.counter("openai.hedge.won", "type", metricType).increment();
+                        }
+                        return flux;
+                    })
+                    // 조각을 보내기 시작한 뒤의 실패는 그대로 전달합니다.
+                    .onErrorResume(e -> hedgeStarted.get() ? Flux.error(e) : race.hedgeFailed() ? Flux.error(race.primaryError()) : Flux.never())
+                    .switchIfEmpty(Flux.defer(() -> race.isFired() && race.hedgeFailed() ? Flux.error(race.primaryError()) : Flux.never()));
+            return Flux.firstWithSignal(
+                    primary.onErrorResume(e -> primaryStarted.get() || race.primaryFailed(e) ? Flux.error(e) : Flux.never()),
+                    hedged);
+        });
+    }
+
+    private LatencyTracker trackerOf(String metricType) {
+        return latencyTrackers.computeIfAbsent(metricType, key -> new LatencyTracker(props.sampleSize()));
+    }
+
+    /**
+     * 요청마다 중복 요청 예산을 쌓고, 중복 요청을 보내기까지 기다릴 시간을 반환합니다.
+     * 응답 시간 표본이 부족하면 null을 반환하여 중복 요청을 보내지 않습니다.
+     */
+    private Duration hedgeDelayOf(String metricType, LatencyTracker tracker) {
+        meterRegistry.counter("openai.hedge.calls", "type", metricType).increment();
+        synchronized (this) {
+            budget = Math.min(MAX_BUDGET, budget + props.budgetRatio());
+        }
+        Duration percentile = tracker.percentile(props.percentile(), props.minSamples());
+        if (percentile == null) {
+            return null;
+        }
+        return percentile.compareTo(props.minDelay()) < 0 ? props.minDelay() : percentile;
+    }
+
+    private boolean tryAcquireBudget(String metricType) {
+        synchronized (this) {
+            if (budget < 1) {
+                meterRegistry.counter("openai.hedge.skipped", "type", metricType).increment();
+                return false;
+            }
+            budget--;
+        }
+        meterRegistry.counter("openai.hedge.fired", "type", metricType).increment();
+        return true;
+    }
+
+    /**
+     * 원래 요청과 중복 요청의 실패를 기록합니다.
+     * 중복 요청을 보낸 뒤에는 먼저 실패한 쪽의 에러를 보류하고, 두 요청이 모두 실패했을 때만 원래 요청의 에러를 전달합니다.
+     */
+    private static final class HedgeRace {
+
+        private final AtomicBoolean fired = new AtomicBoolean();
+        private final AtomicInteger failures = new AtomicInteger();
+        private volatile Throwable primaryError;
+
+        void fire() {
+            fired.set(true);
+        }
+
+        boolean isFired() {
+            return fired.get();
+        }
+
+        /**
+         * @return 원래 요청의 에러를 바로 전달해야 하면 true (중복 요청을 보내지 않았거나 중복 요청도 실패한 경우)
+         */
+        boolean primaryFailed(Throwable e) {
+            primaryError = e;
+            return !fired.get() || failures.incrementAndGet() == 2;
+        }
+
+        /**
+         * @return 원래 요청도 이미 실패해 에러를 전달해야 하면 true
+         */
+        boolean hedgeFailed() {
+            return failures.incrementAndGet() == 2;
+        }
+
+        Throwable primaryError() {
+            return primaryError;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.ssafy.backend.global.component.openai.hedge;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * 최근 응답 시간을 고정 크기 원형 버퍼에 보관하고 백분위수를 계산하는 클래스입니다.
+ * 오래된 값은 새 값으로 덮어쓰므로 최근 OpenAI 응답 속도 변화를 따라갑니다.
+ */
+class LatencyTracker {
+
+    private final long[] samples;
+    private int next;
+    private int count;
+
+    LatencyTracker(int sampleSize) {
+        this.samples = new long[sampleSize];
+    }
+
+    synchronized void record(long latencyNanos) {
+        samples[next] = latencyNanos;
+        next = (next + 1) % samples.length;
+        count = Math.min(count + 1, samples.length);
+    }
+
+    /**
+     * 최근 응답 시간의 백분위수를 반환합니다.
+     *
+     * @param percentile 0과 1 사이의 백분위 (예: 0.9)
+     * @param minSamples 계산에 필요한 최소 표본 수
+     * @return 백분위수 응답 시간 (표본이 부족하면 null)
+     */
+    synchronized Duration percentile(double percentile, int minSamples) {
+        if (count < minSamples) {
+            return null;
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int index = Math.min(count - 1, (int) Math.ceil(percentile * count) - 1);
+        return Duration.ofNanos(sorted[Math.max(index, 0)]);
+    }
+}
@@ -0,0 +1,148 @@
+package com.ssafy.backend.global.component.openai.parser;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.ssafy.backend.global.component.openai.dto.Conversation;
+import com.ssafy.backend.global.component.openai.dto.GptTranslation;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * GPT 대화 응답 문자열을 {@link Conversation}으로 변환하는 컴포넌트입니다.
+ * 애플리케이션의 ObjectMapper로 미리 만든 ObjectReader를 재사용하며(스레드 안전),
+ * JsonNode 트리를 만들지 않고 {@code conversation} 필드만 스트리밍 방식으로 읽어 바로 바인딩합니다.
+ * GPT가 JSON 앞뒤에 설명 문구나 코드 블록 기호를 붙여도 첫 '{'부터 마지막 '}'까지만 파싱합니다.
+ * 파싱에 실패하면 {@link GptJsonRepairer}로 흔한 구조 오류를 고쳐 한 번 더 파싱하며,
+ * 사용자에게 보여줄 필수 필드가 모두 있는지 확인합니다.
+ * 필수 필드는 응답 내용으로 추측하지 않고 채팅방 설정({@code GptSetupReference#lean()})의 모드로 정합니다.
+ * 간소화 모드는 일본어 대답만, 일반 모드는 번역과 모범 답변까지 모두 있어야 하므로, 일반 모드에서 길이 제한에 걸려 뒷부분이 잘린 응답은 실패로 처리됩니다.
+ * 파싱 결과(valid, repaired, failed)는 {@code openai.parse.results} 메트릭으로 기록합니다.
+ */
+@Slf4j
+@Component
+public class GptConversationParser {
+
+    private static final String CONVERSATION_POINTER = "/conversation";
+
+    private final ObjectReader conversationReader;
+    private final ObjectReader translationReader;
+    private final MeterRegistry meterRegistry;
+
+    public GptConversationParser(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.conversationReader = objectMapper.readerFor(Conversation.class).at(CONVERSATION_POINTER);
+        this.translationReader = objectMapper.readerFor(GptTranslation.class);
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * GPT 응답 문자열에서 대화 내용을 추출합니다.
+     *
+     * @param response GPT 응답 문자열
+     * @param lean 간소화 모드 응답 여부 (true이면 일본어 대답만 필수)
+     * @return 파싱된 대화 내용
+     * @throws IOException 고쳐도 JSON 형식이 아니거나 conversation의 필수 필드가 없는 경우
+     */
+    public Conversation parse(String response, boolean lean) throws IOException {
+        Conversation conversation;
+        String result = "valid";
+        try {
+            conversation = conversationReader.readValue(trimToJsonObject(response));
+        } catch (IOException e) {
+            try {
+                conversation = conversationReader.readValue(GptJsonRepairer.repair(response));
+                result = "repaired";
+                log.info("형식이 잘못된 GPT 응답을 복구했습니다: {}", e.getMessage());
+            } catch (IOException repairFailure) {
+                recordResult("failed");
+                throw e;
+            }
+        }
+
+        try {
+            validate(conversation, lean);
+        } catch (IOException e) {
+            recordResult("failed");
+            throw e;
+        }
+        recordResult(result);
+        return conversation;
+    }
+
+    /**
+     * GPT 번역 응답 문자열에서 한국어 번역과 모범 답변을 추출합니다.
+     *
+     * @param response GPT 번역 응답 문자열
+     * @return 파싱된 번역 및 모범 답변
+     * @throws IOException 고쳐도 JSON 형식이 아니거나 필수 필드가 없는 경우
+     */
+    public GptTranslation parseTranslation(String response) throws IOException {
+        GptTranslation translation;
+        try {
+            translation = translationReader.readValue(trimToJsonObject(response));
+        } catch (IOException e) {
+            try {
+                translation = translationReader.readValue(GptJsonRepairer.repair(response));
+            } catch (IOException repairFailure) {
+                throw e;
+            }
+        }
+        if (translation == null || isBlank(translation.gptKoreanResponse())
+                || translation.userTipJapaneseResponse() == null || translation.userTipKoreanResponse() == null) {
+            throw JsonMappingException.from((JsonParser) null, "번역 응답의 필수 필드가 없습니다.");
+        }
+        return translation;
+    }
+
+    /**
+     * GPT 응답이 사용자에게 보여줄 수 있는 대화인지 확인합니다.
+     *
+     * @param response GPT 응답 문자열
+     * @param lean 간소화 모드 응답 여부
+     * @return 유효한 대화이면 true
+     */
+    public boolean isValid(String response, boolean lean) {
+        try {
+            parse(response, lean);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    // 사용자에게 보여줄 필드가 모두 있는지 확인합니다. 간소화 모드의 대화는 일본어 대답만 있습니다.
+    private void validate(Conversation conversation, boolean lean) throws JsonMappingException {
+        if (conversation == null) {
+            throw JsonMappingException.from((JsonParser) null, "conversation 필드가 없습니다.");
+        }
+        if (isBlank(conversation.gptJapaneseResponse())) {
+            throw JsonMappingException.from((JsonParser) null, "conversation의 필수 필드가 없습니다.");
+        }
+        if (!lean && (isBlank(conversation.gptKoreanResponse())
+                || isBlank(conversation.userTipJapaneseResponse()) || isBlank(conversation.userTipKoreanResponse()))) {
+            throw JsonMappingException.from((JsonParser) null, "conversation의 필수 필드가 없습니다.");
+        }
+    }
+
+    private boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private void recordResult(String result) {
+        meterRegistry.counter("openai.parse.results", "result", result).increment();
+    }
+
+    // JSON 객체 앞뒤의 텍스트를 제거합니다. 앞뒤에 다른 텍스트가 없으면 복사하지 않습니다.
+    private String trimToJsonObject(String response) {
+        int start = response.indexOf('{');
+        int end = response.lastIndexOf('}');
+        if (start < 0 || end < start || (start == 0 && end == response.length() - 1)) {
+            return response;
+        }
+        return response.substring(start, end + 1);
+    }
+}
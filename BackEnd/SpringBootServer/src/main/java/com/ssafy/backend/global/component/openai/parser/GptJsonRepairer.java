@@ -0,0 +1,114 @@
+package com.ssafy.backend.global.component.openai.parser;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * GPT가 생성한 JSON의 흔한 구조 오류를 고치는 클래스입니다.
+ * 첫 '{'부터 최상위 객체가 닫힐 때까지만 읽어 앞뒤의 설명 문구나 코드 블록 기호(```)를 버리고,
+ * 다음 오류만 고칩니다.
+ * <ul>
+ *     <li>닫는 괄호 앞의 불필요한 쉼표 ({@code {"a":"b",}})</li>
+ *     <li>문자열 안의 줄바꿈, 탭 문자</li>
+ *     <li>빠진 최상위 객체의 마지막 닫는 괄호</li>
+ * </ul>
+ * 닫히지 않은 문자열이나 값이 없는 필드처럼 응답이 중간에 끊긴 형태는 내용을 추측해 채우지 않고 그대로 두므로,
+ * 파서가 실패로 처리합니다. 결과가 올바른 JSON인지는 파서가 다시 확인합니다.
+ */
+final class GptJsonRepairer {
+
+    private GptJsonRepairer() {
+    }
+
+    static String repair(String text) {
+        int start = text.indexOf('{');
+        if (start < 0) {
+            return text;
+        }
+
+        StringBuilder out = new StringBuilder(text.length() + 8);
+        Deque<Character> closers = new ArrayDeque<>();
+        boolean inString = false;
+        boolean escaped = false;
+
+        for (int i = start; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                    out.append(c);
+                } else if (c == '\\') {
+                    escaped = true;
+                    out.append(c);
+                } else if (c == '"') {
+                    inString = false;
+                    out.append(c);
+                } else if (c == '\n') {
+                    out.append("\\n");
+                } else if (c == '\r') {
+                    out.append("\\r");
+                } else if (c == '\t') {
+                    out.append("\\t");
+                } else {
+                    out.append(c);
+                }
+                continue;
+            }
+
+            switch (c) {
+                case '"' -> {
+                    inString = true;
+                    out.append(c);
+                }
+                case '{' -> {
+                    closers.push('}');
+                    out.append(c);
+                }
+                case '[' -> {
+                    closers.push(']');
+                    out.append(c);
+                }
+                case '}', ']' -> {
+                    if (closers.isEmpty()) {
+                        return out.toString();
+                    }
+                    removeTrailingComma(out);
+                    if (closers.pop() != c) {
+                        return text; // 짝이 맞지 않는 괄호는 고치지 않습니다.
+                    }
+                    out.append(c);
+                    if (closers.isEmpty()) {
+                        return out.toString(); // 최상위 객체가 닫히면 나머지 텍스트는 버립니다.
+                    }
+                }
+                default -> out.append(c);
+            }
+        }
+
+        // 최상위 객체의 닫는 괄호만 빠진 경우에만 닫습니다. 끊긴 문자열, 값, 안쪽 객체나 배열은 고치지 않습니다.
+        removeTrailingComma(out);
+        if (inString || closers.size() != 1 || endsWith(out, ':')) {
+            return text;
+        }
+        out.append(closers.pop());
+        return out.toString();
+    }
+
+    private static void removeTrailingComma(StringBuilder out) {
+        int end = out.length();
+        while (end > 0 && Character.isWhitespace(out.charAt(end - 1))) {
+            end--;
+        }
+        if (end > 0 && out.charAt(end - 1) == ',') {
+            out.setLength(end - 1);
+        }
+    }
+
+    private static boolean endsWith(StringBuilder out, char c) {
+        int end = out.length();
+        while (end > 0 && Character.isWhitespace(out.charAt(end - 1))) {
+            end--;
+        }
+        return end > 0 && out.charAt(end - 1) == c;
+    }
+}
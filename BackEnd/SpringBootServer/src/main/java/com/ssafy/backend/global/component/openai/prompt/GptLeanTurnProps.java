@@ -0,0 +1,21 @@
+package com.ssafy.backend.global.component.openai.prompt;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 간소화 대화(lean turn) 설정 값을 관리하는 레코드입니다.
+ * 간소화 모드에서는 GPT가 매 대화마다 일본어 대답만 생성하고, 한국어 번역과 모범 답변은
+ * 클라이언트가 번역 API로 요청할 때 생성합니다. 클라이언트가 번역 API를 사용해야 하므로 기본적으로 사용하지 않습니다.
+ *
+ * @param enabled 새로 설정하는 채팅방에 간소화 모드 사용 여부 (이미 설정된 채팅방은 설정 시점의 모드를 유지)
+ * @param translationTtl 메시지별 번역 및 모범 답변 캐시 만료 시간
+ */
+@ConfigurationProperties(prefix = "openai.lean-turn")
+public record GptLeanTurnProps(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("24h") Duration translationTtl
+) {
+}
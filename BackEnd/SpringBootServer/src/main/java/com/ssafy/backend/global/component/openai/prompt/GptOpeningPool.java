@@ -0,0 +1,99 @@
+package com.ssafy.backend.global.component.openai.prompt;
+
+import com.ssafy.backend.domain.aichat.entity.enums.AiChatCategory;
+import com.ssafy.backend.global.component.openai.OpenAiCommunicationProvider;
+import com.ssafy.backend.global.component.openai.dto.GptSetupReference;
+import com.ssafy.backend.global.component.openai.parser.GptConversationParser;
+import com.ssafy.backend.global.component.openai.repository.OpenAiRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * 카테고리별로 미리 생성해 둔 GPT 첫 대화(설정 응답)를 관리하는 풀입니다.
+ * 첫 대화는 사용자와 무관하게 카테고리에 의해서만 결정되므로, 백그라운드에서 미리 생성하여 Redis 리스트에 보관합니다.
+ * 채팅방 설정 시 {@link #poll(AiChatCategory)}로 하나를 꺼내 바로 사용하며, 꺼낸 첫 대화는 풀에서 제거되므로 다른 사용자에게 반복되지 않습니다.
+ * 남은 첫 대화가 {@link GptOpeningPoolProps#lowWatermark()} 미만이 되면 스케줄러가 다시 채웁니다.
+ * 풀 조회는 리액티브 Redis 클라이언트로 처리하므로 대화 처리 스레드를 막지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GptOpeningPool {
+
+    private static final Duration REFILL_LOCK_TIMEOUT = Duration.ofMinutes(5);  // 여러 서버가 동시에 채우지 않도록 잡는 락의 만료 시간
+    private static final Duration REFILL_TIMEOUT = Duration.ofMinutes(2);       // 카테고리 하나를 채우는 최대 시간
+
+    private final GptOpeningPoolProps props;
+    private final OpenAiRepository openAiRepository;
+    private final OpenAiCommunicationProvider openAiCommunicationProvider;
+    private final GptConversationParser gptConversationParser;
+    private final GptPromptRegistry gptPromptRegistry;
+
+    /**
+     * 카테고리의 미리 생성된 첫 대화를 하나 꺼냅니다.
+     *
+     * @param category 채팅방 카테고리
+     * @return GPT 설정 응답 문자열, 풀이 비어있으면 빈 Mono
+     */
+    public Mono<String> poll(AiChatCategory category) {
+        if (!props.enabled()) {
+            return Mono.empty();
+        }
+        return Mono.defer(() -> openAiRepository.popOpening(gptPromptRegistry.referenceOf(category)))
+                .onErrorResume(e -> {
+                    log.warn("첫 대화 풀 조회에 실패하여 GPT를 직접 호출합니다. category : {}", category, e);
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * 남은 첫 대화가 부족한 카테고리의 풀을 다시 채웁니다.
+     * 스케줄러 스레드에서 실행되므로 모든 카테고리를 채울 때까지 기다립니다.
+     */
+    @Scheduled(initialDelayString = "${openai.opening-pool.initial-delay-ms:10000}",
+            fixedDelayString = "${openai.opening-pool.refill-interval-ms:30000}")
+    public void refill() {
+        if (!props.enabled()) {
+            return;
+        }
+        try {
+            Mono.usingWhen(openAiRepository.acquireOpeningRefillLock(REFILL_LOCK_TIMEOUT),
+                            locked -> locked
+                                    ? Flux.fromArray(AiChatCategory.values()).concatMap(this::refill).then()
+                                    : Mono.<Void>empty(),
+                            locked -> locked ? openAiRepository.releaseOpeningRefillLock() : Mono.empty())
+                    .block();
+        } catch (RuntimeException e) {
+            log.warn("첫 대화 풀을 채우지 못했습니다.", e);
+        }
+    }
+
+    private Mono<Void> refill(AiChatCategory category) {
+        GptSetupReference setupReference = gptPromptRegistry.referenceOf(category);
+        return openAiRepository.countOpenings(setupReference)
+                .filter(remaining -> remaining < props.lowWatermark())
+                .flatMap(remaining -> Flux.range(0, (int) (props.size() - remaining))
+                        .flatMap(i -> openAiCommunicationProvider.prefetchSetupPromptToGpt(category)
+                                .filter(opening -> gptConversationParser.isValid(opening, setupReference.lean())) // 파싱할 수 없는 응답은 사용자에게 에러로 보이므로 풀에 넣지 않습니다.
+                                .onErrorResume(e -> {
+                                    log.warn("첫 대화 생성에 실패했습니다. category : {}", category, e);
+                                    return Mono.empty();
+                                }), props.refillConcurrency())
+                        .collectList()
+                        .timeout(REFILL_TIMEOUT))
+                .filter(openings -> !openings.isEmpty())
+                .flatMap(openings -> openAiRepository.pushOpenings(setupReference, openings)
+                        .doOnNext(size -> log.info("첫 대화 풀을 채웠습니다. category : {}, added : {}", category, openings.size())))
+                .onErrorResume(e -> {
+                    log.warn("첫 대화 풀을 채우지 못했습니다. category : {}", category, e);
+                    return Mono.empty();
+                })
+                .then();
+    }
+}
@@ -0,0 +1,21 @@
+package com.ssafy.backend.global.component.openai.prompt;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 카테고리별 첫 대화 풀({@link GptOpeningPool}) 설정 값을 관리하는 레코드입니다.
+ *
+ * @param enabled 첫 대화 풀 사용 여부 (false이면 항상 GPT를 직접 호출)
+ * @param size 카테고리별로 미리 생성해 둘 첫 대화 수
+ * @param lowWatermark 남은 첫 대화가 이 수 미만이면 {@code size}까지 다시 채움
+ * @param refillConcurrency 다시 채울 때 동시에 보낼 GPT 요청 수
+ */
+@ConfigurationProperties(prefix = "openai.opening-pool")
+public record GptOpeningPoolProps(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10") int size,
+        @DefaultValue("3") int lowWatermark,
+        @DefaultValue("2") int refillConcurrency
+) {
+}
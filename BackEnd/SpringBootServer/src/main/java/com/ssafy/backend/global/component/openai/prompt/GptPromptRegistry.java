@@ -0,0 +1,117 @@
+package com.ssafy.backend.global.component.openai.prompt;
+
+import com.ssafy.backend.domain.aichat.entity.enums.AiChatCategory;
+import com.ssafy.backend.global.component.openai.dto.GptSetupReference;
+import com.ssafy.backend.global.component.openai.dto.GptSetupRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 카테고리별 GPT 설정 프롬프트를 보관하는 레지스트리입니다.
+ * 애플리케이션 시작 시 등록된 모든 프롬프트 버전과 {@link AiChatCategory}의 {@link GptSetupRequest}를 한 번만 생성하고, 이후에는 변경 없이 재사용합니다.
+ * 채팅방에는 {@link GptSetupReference}(카테고리, 프롬프트 버전, 간소화 모드 여부)만 저장하고, 요청 시 이 레지스트리에서 설정을 조회합니다.
+ * 채팅방은 설정 시점의 프롬프트 버전으로 끝까지 대화하므로, 프롬프트를 변경해도 배포 전에 시작한 대화의 말투나 응답 형식이 중간에 바뀌지 않습니다.
+ * 간소화 모드({@link GptLeanTurnProps})는 채팅방 설정 시점에 결정되며, 설정이 바뀌어도 기존 채팅방은 같은 모드로 대화를 이어갑니다.
+ */
+@Slf4j
+@Component
+public class GptPromptRegistry {
+
+    /**
+     * 새로 설정하는 채팅방에 사용할 설정 프롬프트 버전입니다.
+     * 프롬프트를 변경할 때는 이전 프롬프트 생성 메서드를 남겨 {@link #PROMPT_BUILDERS}에 이전 버전으로 등록하고, 새 버전을 추가한 뒤 이 값을 올려야 합니다.
+     * 이전 버전은 채팅방 설정의 만료 시간이 지나 해당 버전으로 진행 중인 대화가 없어지면 제거합니다.
+     */
+    public static final int PROMPT_VERSION = 1;
+
+    /**
+     * 버전별 설정 프롬프트 생성 함수입니다.
+     */
+    private static final Map<Integer, PromptBuilder> PROMPT_BUILDERS = Map.of(
+            1, new PromptBuilder(GptSetupRequest::from, GptSetupRequest::fromLean)
+    );
+
+    private final GptLeanTurnProps leanTurnProps;
+    private final Map<Integer, Map<AiChatCategory, GptSetupRequest>> setupRequests;
+    private final Map<Integer, Map<AiChatCategory, GptSetupRequest>> leanSetupRequests;
+
+    public GptPromptRegistry(GptLeanTurnProps leanTurnProps) {
+        if (!PROMPT_BUILDERS.containsKey(PROMPT_VERSION)) {
+            throw new IllegalStateException("현재 프롬프트 버전이 등록되지 않았습니다. version : " + PROMPT_VERSION);
+        }
+        this.leanTurnProps = leanTurnProps;
+        Map<Integer, Map<AiChatCategory, GptSetupRequest>> requests = new HashMap<>();
+        Map<Integer, Map<AiChatCategory, GptSetupRequest>> leanRequests = new HashMap<>();
+        PROMPT_BUILDERS.forEach((version, builder) -> {
+            Map<AiChatCategory, GptSetupRequest> versionRequests = new EnumMap<>(AiChatCategory.class);
+            Map<AiChatCategory, GptSetupRequest> versionLeanRequests = new EnumMap<>(AiChatCategory.class);
+            for (AiChatCategory category : AiChatCategory.values()) {
+                versionRequests.put(category, builder.standard().apply(category));
+                versionLeanRequests.put(category, builder.lean().apply(category));
+            }
+            requests.put(version, Collections.unmodifiableMap(versionRequests));
+            leanRequests.put(version, Collections.unmodifiableMap(versionLeanRequests));
+        });
+        this.setupRequests = Collections.unmodifiableMap(requests);
+        this.leanSetupRequests = Collections.unmodifiableMap(leanRequests);
+    }
+
+    /**
+     * 카테고리의 현재 버전, 현재 모드의 설정을 반환합니다.
+     *
+     * @param category 채팅방 카테고리
+     * @return GPT 설정 요청 객체
+     */
+    public GptSetupRequest getSetupRequest(AiChatCategory category) {
+        return getSetupRequest(category, PROMPT_VERSION, leanTurnProps.enabled());
+    }
+
+    /**
+     * 채팅방에 저장된 참조에 해당하는 버전과 모드의 설정을 반환합니다.
+     * 이미 제거된 버전으로 설정된 채팅방은 현재 버전의 프롬프트로 대화를 이어갑니다.
+     *
+     * @param reference 채팅방의 GPT 설정 참조
+     * @return GPT 설정 요청 객체
+     */
+    public GptSetupRequest getSetupRequest(GptSetupReference reference) {
+        int version = reference.promptVersion();
+        if (!setupRequests.containsKey(version)) {
+            log.warn("등록되지 않은 프롬프트 버전으로 설정된 채팅방이므로 현재 버전으로 대화합니다. category : {}, version : {}",
+                    reference.category(), version);
+            version = PROMPT_VERSION;
+        }
+        return getSetupRequest(reference.category(), version, reference.lean());
+    }
+
+    /**
+     * 카테고리의 현재 버전, 현재 모드의 설정 참조를 생성합니다.
+     *
+     * @param category 채팅방 카테고리
+     * @return 채팅방에 저장할 GPT 설정 참조
+     */
+    public GptSetupReference referenceOf(AiChatCategory category) {
+        return new GptSetupReference(category, PROMPT_VERSION, leanTurnProps.enabled());
+    }
+
+    private GptSetupRequest getSetupRequest(AiChatCategory category, int version, boolean lean) {
+        return lean ? leanSetupRequests.get(version).get(category) : setupRequests.get(version).get(category);
+    }
+
+    /**
+     * 프롬프트 버전 하나의 설정 생성 함수입니다.
+     *
+     * @param standard 번역과 모범 답변을 함께 생성하는 설정
+     * @param lean 일본어 대답만 생성하는 간소화 설정
+     */
+    private record PromptBuilder(
+            Function<AiChatCategory, GptSetupRequest> standard,
+            Function<AiChatCategory, GptSetupRequest> lean
+    ) {
+    }
+}
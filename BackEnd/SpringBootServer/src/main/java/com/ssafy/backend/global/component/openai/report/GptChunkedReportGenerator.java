@@ -0,0 +1,155 @@
+package com.ssafy.backend.global.component.openai.report;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.backend.domain.aichat.dto.AiChatFeedbackCreateRequest;
+import com.ssafy.backend.domain.aichat.dto.AiChatReportCreateRequest;
+import com.ssafy.backend.domain.aichat.entity.AiChatHistory;
+import com.ssafy.backend.domain.aichat.entity.enums.AiChatSender;
+import com.ssafy.backend.global.component.openai.OpenAiCommunicationProvider;
+import com.ssafy.backend.global.component.openai.dto.GptReportRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 전체 대화를 GPT에 보내 레포트를 생성하는 컴포넌트입니다.
+ * 대화가 {@link GptReportChunkProps#chunkMessages()}보다 길면 구간으로 나누어 동시에 평가(map)한 뒤 하나의 레포트로 합칩니다(reduce).
+ * 구간마다 이전 구간의 마지막 메시지 몇 개를 문맥으로 덧붙이되 평가하지 않으므로, 모든 메시지는 정확히 한 구간에서만 평가됩니다.
+ * 합치는 방식은 다음과 같으며 구간별 결과가 같으면 항상 같은 레포트가 만들어집니다.
+ * <ul>
+ *     <li>점수: 구간에서 평가한 사용자 메시지 수로 가중 평균한 뒤 소수점 두 자리로 반올림</li>
+ *     <li>피드백: 구간 순서대로, 구간에서 평가한 사용자 메시지에 대한 피드백만 메시지마다 처음 하나씩 사용</li>
+ *     <li>대화 요약: 구간별 요약과 평균 점수로 짧은 요약을 한 번 더 요청</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GptChunkedReportGenerator {
+
+    private final GptReportChunkProps props;
+    private final OpenAiCommunicationProvider openAiCommunicationProvider;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 대화 내역으로 레포트를 생성합니다.
+     *
+     * @param histories 채팅방의 대화 내역 (대화 순서)
+     * @return GPT가 생성한 레포트
+     */
+    public Mono<AiChatReportCreateRequest> generate(List<AiChatHistory> histories) {
+        List<AiChatHistory> conversation = conversationOf(histories);
+        if (conversation.size() <= props.chunkMessages()) {
+            return evaluate(GptReportRequest.fromAiChatHistories(conversation));
+        }
+
+        List<Chunk> chunks = split(conversation);
+        return Flux.fromIterable(chunks)
+                .flatMapSequential(chunk -> evaluate(GptReportRequest.fromAiChatHistories(chunk.messages(), chunk.contextMessages())),
+                        props.concurrency())
+                .collectList()
+                .flatMap(reports -> merge(chunks, reports));
+    }
+
+    private List<AiChatHistory> conversationOf(List<AiChatHistory> histories) {
+        return histories.stream()
+                .filter(history -> history.getSender() == AiChatSender.USER || history.getSender() == AiChatSender.GPT)
+                .toList();
+    }
+
+    private Mono<AiChatReportCreateRequest> evaluate(GptReportRequest request) {
+        return openAiCommunicationProvider.sendReportPromptToGPT(request)
+                .flatMap(response -> {
+                    log.info("GPT 레포트 결과!!!!: {}", response);
+                    return Mono.fromCallable(() -> objectMapper.readValue(response, AiChatReportCreateRequest.class));
+                });
+    }
+
+    // 대화를 chunkMessages개씩 나누고, 각 구간 앞에 이전 메시지 overlapMessages개를 문맥으로 덧붙입니다.
+    List<Chunk> split(List<AiChatHistory> conversation) {
+        List<Chunk> chunks = new ArrayList<>();
+        for (int start = 0; start < conversation.size(); start += props.chunkMessages()) {
+            int contextStart = Math.max(0, start - props.overlapMessages());
+            int end = Math.min(start + props.chunkMessages(), conversation.size());
+            Set<Long> evaluatedUserIds = new LinkedHashSet<>();
+            for (AiChatHistory history : conversation.subList(start, end)) {
+                if (history.getSender() == AiChatSender.USER) {
+                    evaluatedUserIds.add(history.getId());
+                }
+            }
+            chunks.add(new Chunk(conversation.subList(contextStart, end), start - contextStart, evaluatedUserIds));
+        }
+        return chunks;
+    }
+
+    // 구간 순서대로 받은 구간별 레포트를 하나의 레포트로 합칩니다.
+    Mono<AiChatReportCreateRequest> merge(List<Chunk> chunks, List<AiChatReportCreateRequest> reports) {
+        float vocabularyScore = weightedAverage(chunks, reports, AiChatReportCreateRequest::vocabularyScore);
+        float fluencyScore = weightedAverage(chunks, reports, AiChatReportCreateRequest::fluencyScore);
+        float grammarScore = weightedAverage(chunks, reports, AiChatReportCreateRequest::grammarScore);
+        float wordScore = weightedAverage(chunks, reports, AiChatReportCreateRequest::wordScore);
+        float contextScore = weightedAverage(chunks, reports, AiChatReportCreateRequest::contextScore);
+
+        Map<Long, AiChatFeedbackCreateRequest> feedbacks = new LinkedHashMap<>();
+        for (int i = 0; i < chunks.size(); i++) {
+            List<AiChatFeedbackCreateRequest> chunkFeedbacks = reports.get(i).feedbacks();
+            if (chunkFeedbacks == null) {
+                continue;
+            }
+            Set<Long> evaluatedUserIds = chunks.get(i).evaluatedUserIds();
+            for (AiChatFeedbackCreateRequest feedback : chunkFeedbacks) {
+                if (feedback.chatId() != null && evaluatedUserIds.contains(feedback.chatId())) {
+                    feedbacks.putIfAbsent(feedback.chatId(), feedback);
+                }
+            }
+        }
+
+        List<String> summaries = reports.stream()
+                .map(AiChatReportCreateRequest::conversationSummary)
+                .filter(Objects::nonNull)
+                .toList();
+        String averageScores = "어휘력 " + vocabularyScore + ", 단어 " + wordScore + ", 유창성 " + fluencyScore
+                + ", 문법 " + grammarScore + ", 문맥 이해 " + contextScore;
+        return openAiCommunicationProvider.sendReportPromptToGPT(GptReportRequest.fromChunkSummaries(summaries, averageScores))
+                .flatMap(response -> Mono.fromCallable(() -> objectMapper.readTree(response).path("conversationSummary").asText()))
+                .map(conversationSummary -> new AiChatReportCreateRequest(conversationSummary, vocabularyScore, fluencyScore,
+                        grammarScore, wordScore, contextScore, new ArrayList<>(feedbacks.values())));
+    }
+
+    // 구간에서 평가한 사용자 메시지 수로 가중 평균하며, 점수가 없는 구간은 제외합니다.
+    float weightedAverage(List<Chunk> chunks, List<AiChatReportCreateRequest> reports,
+                          Function<AiChatReportCreateRequest, Float> score) {
+        double total = 0;
+        double weights = 0;
+        for (int i = 0; i < chunks.size(); i++) {
+            Float value = score.apply(reports.get(i));
+            int weight = chunks.get(i).evaluatedUserIds().size();
+            if (value != null && weight > 0) {
+                total += value * weight;
+                weights += weight;
+            }
+        }
+        return weights == 0 ? 0 : Math.round(total / weights * 100) / 100f;
+    }
+
+    /**
+     * 대화 구간을 나타내는 레코드입니다.
+     *
+     * @param messages 문맥용 메시지를 포함한 구간의 메시지
+     * @param contextMessages 구간 앞부분의 문맥용 메시지 수
+     * @param evaluatedUserIds 구간에서 평가할 사용자 메시지 ID (대화 순서)
+     */
+    record Chunk(List<AiChatHistory> messages, int contextMessages, Set<Long> evaluatedUserIds) {
+    }
+}
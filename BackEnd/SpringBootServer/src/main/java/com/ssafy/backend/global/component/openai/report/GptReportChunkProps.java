@@ -0,0 +1,20 @@
+package com.ssafy.backend.global.component.openai.report;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 긴 대화의 구간별 레포트 생성({@link GptChunkedReportGenerator}) 설정 값을 관리하는 레코드입니다.
+ * 레포트 요청 하나에 보낼 수 있는 메시지는 최대 60개이므로 chunkMessages와 overlapMessages의 합은 60 이하여야 합니다.
+ *
+ * @param chunkMessages 구간 하나에서 평가할 메시지 수
+ * @param overlapMessages 문맥 유지를 위해 구간 앞에 덧붙이는 이전 구간의 메시지 수 (평가하지 않음)
+ * @param concurrency 동시에 평가할 최대 구간 수
+ */
+@ConfigurationProperties(prefix = "openai.report-chunk")
+public record GptReportChunkProps(
+        @DefaultValue("30") int chunkMessages,
+        @DefaultValue("4") int overlapMessages,
+        @DefaultValue("3") int concurrency
+) {
+}
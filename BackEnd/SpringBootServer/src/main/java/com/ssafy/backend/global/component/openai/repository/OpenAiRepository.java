@@ -1,74 +1,467 @@
 package com.ssafy.backend.global.component.openai.repository;
 
 
+import com.ssafy.backend.domain.aichat.dto.AiChatReportJob;
+import com.ssafy.backend.domain.aichat.dto.AiChatRoomMetadata;
+import com.ssafy.backend.domain.aichat.dto.PendingAiChatHistory;
+import com.ssafy.backend.global.component.openai.dto.GptChatSession;
+import com.ssafy.backend.global.component.openai.dto.GptConversationSummary;
+import com.ssafy.backend.global.component.openai.dto.GptSessionMemoryReport;
 import com.ssafy.backend.global.component.openai.dto.GptDialogueMessage;
+import com.ssafy.backend.global.component.openai.dto.GptSpeculativeTurn;
+import com.ssafy.backend.global.component.openai.dto.GptTranslation;
+import com.ssafy.backend.global.component.openai.dto.GptTurnEvaluation;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Repository;
-import com.ssafy.backend.global.component.openai.dto.GptSetupRequest;
+import com.ssafy.backend.global.component.openai.dto.GptSetupReference;
 import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
 
 /**
  * AiChatSetupRepository는 AI 채팅봇 설정을 관리하는 데 사용됩니다.
  * 이 클래스는 Redis를 사용하여 설정을 저장, 조회하는 기능을 제공합니다.
+ * 모든 Redis 접근은 {@link ReactiveRedisTemplate}으로 처리하여 호출 스레드를 막지 않습니다.
+ * {@link RedisTemplate}은 메모리 사용량 보고서에서 값 직렬화 크기를 계산할 때만 사용합니다.
  */
 @Repository
 @RequiredArgsConstructor
 public class OpenAiRepository {
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
     private static final String OPEN_AI_SETUP_KEY_PREFIX = "openAiSetup::";
     private static final String AI_CHAT_HISTORY_KEY_PREFIX = "aiChatHistory::";
+    private static final String AI_CHAT_SUMMARY_KEY_PREFIX = "aiChatSummary::";
+    private static final String AI_CHAT_HISTORY_TRIMMED_KEY_PREFIX = "aiChatHistoryTrimmed::";
+    private static final String AI_CHAT_OPENING_KEY_PREFIX = "aiChatOpening::";
+    private static final String AI_CHAT_OPENING_REFILL_LOCK_KEY = "aiChatOpeningRefillLock";
+    private static final String AI_CHAT_SETUP_LOCK_KEY_PREFIX = "aiChatSetupLock::";
+    private static final String AI_CHAT_MESSAGE_ID_KEY_PREFIX = "aiChatMessageId::";
+    private static final String AI_CHAT_ROOM_METADATA_KEY_PREFIX = "aiChatRoomMetadata::";
+    private static final String GPT_RESPONSE_CACHE_KEY_PREFIX = "gptResponseCache::";
+    private static final String AI_CHAT_SPECULATION_KEY_PREFIX = "aiChatSpeculation::";
+    private static final String AI_CHAT_TRANSLATION_KEY_PREFIX = "aiChatTranslation::";
+    private static final String AI_CHAT_HISTORY_PENDING_KEY = "aiChatHistoryPending";
+    private static final String AI_CHAT_HISTORY_RECOVERY_LOCK_KEY = "aiChatHistoryRecoveryLock";
+    private static final String AI_CHAT_REPORT_JOB_KEY_PREFIX = "aiChatReportJob::";
+    private static final String AI_CHAT_TURN_EVALUATION_KEY_PREFIX = "aiChatTurnEvaluation::";
 
     private static final int EXPIRES_MIN = 30;	// 해당 채팅 제한시간 30분
+    private static final int MAX_HISTORY_MESSAGES = 200; // 채팅방별로 보관할 최근 대화 메시지 수 (이전 메시지는 요약으로 대체됨)
+    private static final Duration ROOM_METADATA_EXPIRES = Duration.ofDays(1); // 채팅방 정보는 변경되지 않으므로 길게 보관
+
+    // 대화 상태를 [삭제된 메시지 수, 설정 참조 수(0/1), 요약 수(0/1), 설정 참조?, 요약?, 메시지...] 형태로 반환합니다.
+    // 없는 값은 nil 대신 개수를 0으로 표시합니다. (nil 없이 반환해야 Flux로 받을 수 있음)
+    // KEYS: 대화 내역, 설정 참조, 요약, 삭제된 메시지 수
+    private static final String HISTORY_RESULT = "local setup = redis.call('GET', KEYS[2])\n"
+            + "local summary = redis.call('GET', KEYS[3])\n"
+            + "local result = {tonumber(redis.call('GET', KEYS[4]) or '0'), setup and 1 or 0, summary and 1 or 0}\n"
+            + "if setup then table.insert(result, setup) end\n"
+            + "if summary then table.insert(result, summary) end\n"
+            + "for _, message in ipairs(redis.call('LRANGE', KEYS[1], 0, -1)) do table.insert(result, message) end\n"
+            + "return result";
+
+    // 키들의 메모리 사용량(MEMORY USAGE) 합계를 반환합니다.
+    private static final RedisScript<Long> MEMORY_USAGE_SCRIPT = new DefaultRedisScript<>(
+            "local total = 0\n"
+                    + "for _, key in ipairs(KEYS) do\n"
+                    + "  local usage = redis.call('MEMORY', 'USAGE', key)\n"
+                    + "  if usage then total = total + usage end\n"
+                    + "end\n"
+                    + "return total", Long.class);
+
+    private static final RedisSerializer<Object> JSON_SERIALIZER = new GenericJackson2JsonRedisSerializer(); // 메모리 비교용
+
+    private static final RedisScript<List> FIND_HISTORY_SCRIPT = new DefaultRedisScript<>(HISTORY_RESULT, List.class);
+
+    // 대화 내역에 메시지를 추가하고, 최대 길이를 넘은 이전 메시지를 삭제한 뒤, 대화 상태 키들의 만료 시간을 갱신하고 대화 내역을 반환합니다.
+    // ARGV: 만료 시간(초), 최대 메시지 수, 추가할 메시지...
+    private static final RedisScript<List> APPEND_HISTORY_SCRIPT = new DefaultRedisScript<>(
+            "local length = redis.call('RPUSH', KEYS[1], unpack(ARGV, 3))\n"
+                    + "local excess = length - tonumber(ARGV[2])\n"
+                    + "if excess > 0 then\n"
+                    + "  redis.call('LTRIM', KEYS[1], excess, -1)\n"
+                    + "  redis.call('INCRBY', KEYS[4], excess)\n"
+                    + "end\n"
+                    + "for i = 1, 4 do redis.call('EXPIRE', KEYS[i], ARGV[1]) end\n"
+                    + HISTORY_RESULT, List.class);
+
+    // 채팅방에 작업이 없거나 보관된 작업이 실패(FAILED)한 경우에만 새 작업을 보관합니다. 상태 확인과 저장 사이에 다른 요청이 끼어들지 않습니다.
+    // 작업은 JSON으로 저장되므로 상태 필드를 읽어 비교합니다.
+    // ARGV: 새 작업, 보관 시간(밀리초)
+    private static final RedisScript<Long> SAVE_REPORT_JOB_IF_ABSENT_OR_FAILED_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('GET', KEYS[1])\n"
+                    + "if current and cjson.decode(current).status ~= 'FAILED' then return 0 end\n"
+                    + "redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])\n"
+                    + "return 1", Long.class);
 
     /**
-     * 주어진 roomId와 GptSetupRequest를 Redis에 저장합니다.
+     * 주어진 roomId와 GPT 설정 참조를 Redis에 저장합니다.
+     * 설정 프롬프트 전체가 아닌 카테고리와 프롬프트 버전만 저장합니다.
      *
      * @param roomId 채팅방 ID, Redis에 저장될 키의 일부로 사용됩니다.
-     * @param setupRequest GptSetupRequest 객체, Redis에 값으로 저장됩니다.
+     * @param setupReference GptSetupReference 객체, Redis에 값으로 저장됩니다.
+     * @return 저장 완료 신호
+     */
+    public Mono<Boolean> saveOpenAiSetup(Long roomId, GptSetupReference setupReference) {
+        return reactiveRedisTemplate.opsForValue()
+                .set(OPEN_AI_SETUP_KEY_PREFIX + roomId, setupReference, Duration.ofMinutes(EXPIRES_MIN));
+    }
+
+    public Mono<GptSetupReference> findOpenAiSetup(Long roomId) {
+        // 이전 형식(GptSetupRequest 전체)으로 저장된 값은 카테고리를 알 수 없으므로 설정이 없는 것으로 처리합니다.
+        return reactiveRedisTemplate.opsForValue().get(OPEN_AI_SETUP_KEY_PREFIX + roomId)
+                .ofType(GptSetupReference.class);
+    }
+
+    /**
+     * 대화 내역에 메시지를 추가하고, 추가 후의 대화 상태를 반환합니다.
+     * 추가, 길이 제한, 설정 참조와 요약을 포함한 만료 시간 갱신, 설정 참조와 요약을 포함한 조회를 하나의 스크립트로 실행하므로
+     * Redis 명령과 왕복은 한 번입니다.
+     *
+     * @param roomId 채팅방 ID
+     * @param messages 추가할 메시지
+     * @return 메시지를 추가한 뒤의 대화 상태
+     */
+    public Mono<GptChatSession> appendAiChatHistory(Long roomId, List<GptDialogueMessage> messages) {
+        List<Object> args = new ArrayList<>(messages.size() + 2);
+        args.add(EXPIRES_MIN * 60);
+        args.add(MAX_HISTORY_MESSAGES);
+        args.addAll(messages);
+        return executeHistoryScript(APPEND_HISTORY_SCRIPT, roomId, args).map(this::toChatSession);
+    }
+
+    /**
+     * 채팅방의 대화 상태(설정 참조, 요약, 최근 대화 내역)를 하나의 스크립트로 한 번에 조회합니다.
+     *
+     * @param roomId 채팅방 ID
+     * @return 대화 상태
+     */
+    public Mono<GptChatSession> findAiChatSession(Long roomId) {
+        return executeHistoryScript(FIND_HISTORY_SCRIPT, roomId, List.of()).map(this::toChatSession);
+    }
+
+    /**
+     * 채팅방 대화 상태의 Redis 메모리 사용량과, 바이너리 코덱 적용 전후의 값 크기를 비교한 결과를 반환합니다.
+     *
+     * @param roomId 채팅방 ID
+     * @return 메모리 사용량 보고서
+     */
+    public Mono<GptSessionMemoryReport> reportAiChatSessionMemory(Long roomId) {
+        Mono<Long> redisMemory = reactiveRedisTemplate.execute(MEMORY_USAGE_SCRIPT, sessionKeys(roomId), List.of())
+                .next()
+                .defaultIfEmpty(0L);
+        return Mono.zip(redisMemory, findAiChatSession(roomId))
+                .map(tuple -> toMemoryReport(roomId, tuple.getT1(), tuple.getT2()));
+    }
+
+    private GptSessionMemoryReport toMemoryReport(Long roomId, long redisMemory, GptChatSession session) {
+        List<Object> values = new ArrayList<>(session.history());
+        if (session.setupReference() != null) {
+            values.add(session.setupReference());
+        }
+        if (session.summary() != null) {
+            values.add(session.summary());
+        }
+        RedisSerializer<?> valueSerializer = redisTemplate.getValueSerializer();
+        long compactBytes = 0;
+        long jsonBytes = 0;
+        for (Object value : values) {
+            compactBytes += serializedSize(valueSerializer, value);
+            jsonBytes += serializedSize(JSON_SERIALIZER, value);
+        }
+        return new GptSessionMemoryReport(roomId, session.history().size(), redisMemory, compactBytes, jsonBytes);
+    }
+
+    @SuppressWarnings("unchecked")
+    private long serializedSize(RedisSerializer<?> serializer, Object value) {
+        byte[] bytes = ((RedisSerializer<Object>) serializer).serialize(value);
+        return bytes == null ? 0 : bytes.length;
+    }
+
+    private List<String> sessionKeys(Long roomId) {
+        return List.of(AI_CHAT_HISTORY_KEY_PREFIX + roomId, OPEN_AI_SETUP_KEY_PREFIX + roomId,
+                AI_CHAT_SUMMARY_KEY_PREFIX + roomId, AI_CHAT_HISTORY_TRIMMED_KEY_PREFIX + roomId);
+    }
+
+    /**
+     * 대화 내역 스크립트를 실행하여 [삭제된 메시지 수, 설정 참조 수, 요약 수, 설정 참조?, 요약?, 메시지...] 목록을 반환합니다.
+     * 드라이버에 따라 여러 값을 반환하는 스크립트 결과가 목록 하나 또는 각 요소로 방출되므로 둘 다 처리합니다.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Mono<List<?>> executeHistoryScript(RedisScript<List> script, Long roomId, List<Object> args) {
+        Flux<Object> result = (Flux) reactiveRedisTemplate.execute(script, sessionKeys(roomId), args);
+        return result.collectList()
+                .map(values -> values.size() == 1 && values.get(0) instanceof List<?> nested ? nested : values);
+    }
+
+    private GptChatSession toChatSession(List<?> values) {
+        long trimmedCount = countAt(values, 0);
+        int index = 3;
+        GptSetupReference setupReference = null;
+        if (countAt(values, 1) > 0) {
+            // 이전 형식(GptSetupRequest 전체)으로 저장된 설정은 카테고리를 알 수 없으므로 설정이 없는 것으로 처리합니다.
+            if (values.get(index) instanceof GptSetupReference reference) {
+                setupReference = reference;
+            }
+            index++;
+        }
+        GptConversationSummary summary = null;
+        if (countAt(values, 2) > 0) {
+            if (values.get(index) instanceof GptConversationSummary conversationSummary) {
+                summary = conversationSummary;
+            }
+            index++;
+        }
+        List<GptDialogueMessage> history = new ArrayList<>();
+        for (int i = index; i < values.size(); i++) {
+            if (values.get(i) instanceof GptDialogueMessage dialogueMessage) {
+                history.add(dialogueMessage);
+            }
+        }
+        return new GptChatSession(setupReference, summary, history, trimmedCount);
+    }
+
+    private long countAt(List<?> values, int index) {
+        return index < values.size() && values.get(index) instanceof Number number ? number.longValue() : 0;
+    }
+
+    /**
+     * 토큰 예산을 벗어난 이전 대화 내역의 요약을 대화 내역과 같은 만료 시간으로 저장합니다.
+     *
+     * @param roomId 채팅방 ID
+     * @param summary 이전 대화 요약
+     */
+    public Mono<Boolean> saveAiChatSummary(Long roomId, GptConversationSummary summary) {
+        return reactiveRedisTemplate.opsForValue()
+                .set(AI_CHAT_SUMMARY_KEY_PREFIX + roomId, summary, Duration.ofMinutes(EXPIRES_MIN));
+    }
+
+    public Mono<Long> deleteAiChatSetupAndHistory(Long roomId) {
+        return reactiveRedisTemplate.delete(OPEN_AI_SETUP_KEY_PREFIX + roomId, AI_CHAT_HISTORY_KEY_PREFIX + roomId,
+                AI_CHAT_SUMMARY_KEY_PREFIX + roomId, AI_CHAT_HISTORY_TRIMMED_KEY_PREFIX + roomId,
+                AI_CHAT_SPECULATION_KEY_PREFIX + roomId);
+    }
+
+    /**
+     * 카테고리의 미리 생성된 첫 대화를 하나 꺼내고 풀에서 제거합니다.
+     *
+     * @param setupReference 첫 대화를 생성한 설정 (카테고리, 프롬프트 버전, 간소화 모드 여부)
+     * @return GPT 설정 응답 문자열, 풀이 비어있으면 빈 Mono
+     */
+    public Mono<String> popOpening(GptSetupReference setupReference) {
+        return reactiveRedisTemplate.opsForList().leftPop(openingKey(setupReference))
+                .ofType(String.class);
+    }
+
+    public Mono<Long> pushOpenings(GptSetupReference setupReference, List<String> openings) {
+        return reactiveRedisTemplate.opsForList().rightPushAll(openingKey(setupReference), openings.toArray());
+    }
+
+    public Mono<Long> countOpenings(GptSetupReference setupReference) {
+        return reactiveRedisTemplate.opsForList().size(openingKey(setupReference));
+    }
+
+    /**
+     * 첫 대화 풀을 채우는 작업이 여러 서버에서 동시에 실행되지 않도록 락을 획득합니다.
+     *
+     * @param timeout 락이 해제되지 않았을 때 자동으로 만료될 시간
+     * @return 락 획득 여부
+     */
+    public Mono<Boolean> acquireOpeningRefillLock(Duration timeout) {
+        return reactiveRedisTemplate.opsForValue().setIfAbsent(AI_CHAT_OPENING_REFILL_LOCK_KEY, "locked", timeout);
+    }
+
+    public Mono<Long> releaseOpeningRefillLock() {
+        return reactiveRedisTemplate.delete(AI_CHAT_OPENING_REFILL_LOCK_KEY);
+    }
+
+    public Mono<Boolean> saveAiChatRoomMetadata(AiChatRoomMetadata metadata) {
+        return reactiveRedisTemplate.opsForValue()
+                .set(AI_CHAT_ROOM_METADATA_KEY_PREFIX + metadata.roomId(), metadata, ROOM_METADATA_EXPIRES);
+    }
+
+    public Mono<AiChatRoomMetadata> findAiChatRoomMetadata(Long roomId) {
+        return reactiveRedisTemplate.opsForValue().get(AI_CHAT_ROOM_METADATA_KEY_PREFIX + roomId)
+                .ofType(AiChatRoomMetadata.class);
+    }
+
+    /**
+     * 클라이언트가 보낸 메시지 ID를 처리한 메시지로 기록합니다.
+     * 메시지 ID마다 채팅 제한시간 동안 유지되는 키 하나를 SET NX EX 한 번으로 저장합니다.
+     *
+     * @param roomId 채팅방 ID
+     * @param messageId 클라이언트 메시지 ID
+     * @return 처음 받은 메시지 ID이면 true, 이미 받은 메시지 ID이면 false
+     */
+    public Mono<Boolean> addAiChatMessageId(Long roomId, String messageId) {
+        return reactiveRedisTemplate.opsForValue()
+                .setIfAbsent(AI_CHAT_MESSAGE_ID_KEY_PREFIX + roomId + "::" + messageId, "1", Duration.ofMinutes(EXPIRES_MIN));
+    }
+
+    /**
+     * 채팅방의 GPT 설정 잠금을 획득합니다. 같은 채팅방에 연결이 몰려도 설정은 한 번만 진행됩니다.
+     *
+     * @param roomId 채팅방 ID
+     * @param timeout 잠금 만료 시간 (설정 중 서버가 종료되어도 잠금이 남지 않도록 함)
+     * @return 잠금을 획득하면 true
+     */
+    public Mono<Boolean> acquireAiChatSetupLock(Long roomId, Duration timeout) {
+        return reactiveRedisTemplate.opsForValue().setIfAbsent(AI_CHAT_SETUP_LOCK_KEY_PREFIX + roomId, "locked", timeout);
+    }
+
+    public Mono<Long> releaseAiChatSetupLock(Long roomId) {
+        return reactiveRedisTemplate.delete(AI_CHAT_SETUP_LOCK_KEY_PREFIX + roomId);
+    }
+
+    private String openingKey(GptSetupReference setupReference) {
+        String version = "v" + setupReference.promptVersion() + (setupReference.lean() ? "-lean" : "");
+        return AI_CHAT_OPENING_KEY_PREFIX + version + "::" + setupReference.category().name();
+    }
+
+    /**
+     * 요청 내용의 해시로 캐시된 GPT 응답을 조회합니다.
+     *
+     * @param key 요청 내용의 해시
+     * @return 캐시된 GPT 응답 문자열, 없으면 빈 Mono
+     */
+    public Mono<String> findCachedResponse(String key) {
+        return reactiveRedisTemplate.opsForValue().get(GPT_RESPONSE_CACHE_KEY_PREFIX + key)
+                .ofType(String.class);
+    }
+
+    public Mono<Boolean> saveCachedResponse(String key, String response, Duration ttl) {
+        return reactiveRedisTemplate.opsForValue().set(GPT_RESPONSE_CACHE_KEY_PREFIX + key, response, ttl);
+    }
+
+    public Mono<Long> deleteCachedResponse(String key) {
+        return reactiveRedisTemplate.delete(GPT_RESPONSE_CACHE_KEY_PREFIX + key);
+    }
+
+    /**
+     * 미리 생성한 다음 대화 응답을 저장합니다. 채팅방마다 하나만 보관하며, 이전 값은 덮어씁니다.
+     *
+     * @param roomId 채팅방 ID
+     * @param speculativeTurn 미리 생성한 다음 대화 응답
+     * @param ttl 만료 시간
+     */
+    public Mono<Boolean> saveSpeculativeTurn(Long roomId, GptSpeculativeTurn speculativeTurn, Duration ttl) {
+        return reactiveRedisTemplate.opsForValue().set(AI_CHAT_SPECULATION_KEY_PREFIX + roomId, speculativeTurn, ttl);
+    }
+
+    /**
+     * 미리 생성한 다음 대화 응답을 꺼내고 삭제합니다. 한 번 꺼낸 응답은 사용 여부와 관계없이 다시 사용하지 않습니다.
+     *
+     * @param roomId 채팅방 ID
+     * @return 미리 생성한 다음 대화 응답, 없으면 빈 Mono
      */
-    public void saveOpenAiSetup(Long roomId, GptSetupRequest setupRequest) {
-        String key = OPEN_AI_SETUP_KEY_PREFIX + roomId;
-        redisTemplate.opsForValue().set(key, setupRequest);
-        redisTemplate.expire(key, EXPIRES_MIN, TimeUnit.MINUTES);
+    public Mono<GptSpeculativeTurn> popSpeculativeTurn(Long roomId) {
+        return reactiveRedisTemplate.opsForValue().getAndDelete(AI_CHAT_SPECULATION_KEY_PREFIX + roomId)
+                .ofType(GptSpeculativeTurn.class);
     }
 
-    // Mono로 변경
-    public Mono<GptSetupRequest> findOpenAiSetup(Long roomId) {
-        return Mono.justOrEmpty((GptSetupRequest) redisTemplate.opsForValue().get(OPEN_AI_SETUP_KEY_PREFIX + roomId));
+    /**
+     * 메시지(AiChatHistory)의 한국어 번역과 모범 답변을 저장합니다.
+     *
+     * @param historyId 대화 메시지 ID
+     * @param translation 번역 및 모범 답변
+     * @param ttl 만료 시간
+     */
+    public Mono<Boolean> saveAiChatTranslation(Long historyId, GptTranslation translation, Duration ttl) {
+        return reactiveRedisTemplate.opsForValue().set(AI_CHAT_TRANSLATION_KEY_PREFIX + historyId, translation, ttl);
     }
 
-    public void saveAiChatHistory(Long roomId, List<GptDialogueMessage> messages) {
-        String key = AI_CHAT_HISTORY_KEY_PREFIX + roomId;
-        // List의 각 요소를 Redis 리스트에 저장
-        messages.forEach(message -> redisTemplate.opsForList().rightPush(key, message));
-        redisTemplate.expire(key, EXPIRES_MIN, TimeUnit.MINUTES);
+    public Mono<GptTranslation> findAiChatTranslation(Long historyId) {
+        return reactiveRedisTemplate.opsForValue().get(AI_CHAT_TRANSLATION_KEY_PREFIX + historyId)
+                .ofType(GptTranslation.class);
     }
 
-    public Mono<List<GptDialogueMessage>> findAiChatHistory(Long roomId) {
-        String key = AI_CHAT_HISTORY_KEY_PREFIX + roomId;
-        // Redis에서 리스트의 모든 요소를 조회
-        List<Object> historyObjects = redisTemplate.opsForList().range(key, 0, -1);
-        if (historyObjects == null) {
-            return Mono.empty();
+    /**
+     * DB에 저장하기 전의 대화 내역을 보관합니다. 쓰기 버퍼에 넣기 전에 호출해야 합니다.
+     *
+     * @param history DB에 저장되지 않은 대화 내역
+     * @return 저장 완료 신호
+     */
+    public Mono<Boolean> savePendingAiChatHistory(PendingAiChatHistory history) {
+        return reactiveRedisTemplate.<String, Object>opsForHash().put(AI_CHAT_HISTORY_PENDING_KEY, history.id(), history);
+    }
+
+    /**
+     * DB에 저장된 대화 내역을 보관 목록에서 삭제합니다.
+     *
+     * @param ids 보관용 ID 목록
+     * @return 삭제한 대화 내역 수
+     */
+    public Mono<Long> deletePendingAiChatHistories(List<String> ids) {
+        if (ids.isEmpty()) {
+            return Mono.just(0L);
         }
-        // 조회된 요소들을 GptDialogueMessage로 변환
-        List<GptDialogueMessage> history = historyObjects.stream()
-                .filter(obj -> obj instanceof GptDialogueMessage)
-                .map(obj -> (GptDialogueMessage) obj)
-                .collect(Collectors.toList());
+        return reactiveRedisTemplate.<String, Object>opsForHash().remove(AI_CHAT_HISTORY_PENDING_KEY, ids.toArray());
+    }
 
-        return Mono.just(history);
+    public Flux<PendingAiChatHistory> findPendingAiChatHistories() {
+        return reactiveRedisTemplate.<String, Object>opsForHash().values(AI_CHAT_HISTORY_PENDING_KEY)
+                .ofType(PendingAiChatHistory.class);
     }
 
-    public void deleteAiChatSetupAndHistory(Long roomId) {
-        redisTemplate.delete(OPEN_AI_SETUP_KEY_PREFIX + roomId);
-        redisTemplate.delete(AI_CHAT_HISTORY_KEY_PREFIX + roomId);
+    public Mono<Boolean> acquireAiChatHistoryRecoveryLock(Duration timeout) {
+        return reactiveRedisTemplate.opsForValue().setIfAbsent(AI_CHAT_HISTORY_RECOVERY_LOCK_KEY, "locked", timeout);
     }
 
+    public Mono<Long> releaseAiChatHistoryRecoveryLock() {
+        return reactiveRedisTemplate.delete(AI_CHAT_HISTORY_RECOVERY_LOCK_KEY);
+    }
+
+    /**
+     * 채팅방에 레포트 생성 작업이 없거나 이전 작업이 실패한 경우에만 작업을 보관합니다.
+     * 상태 확인과 저장을 하나의 스크립트로 실행하므로, 실패한 작업에 동시에 다시 요청해도 한 요청만 새 작업을 보관합니다.
+     *
+     * @param job 레포트 생성 작업
+     * @param ttl 보관 시간
+     * @return 보관했으면 true, 이미 같은 채팅방의 진행 중이거나 완료된 작업이 있으면 false
+     */
+    public Mono<Boolean> saveAiChatReportJobIfAbsentOrFailed(AiChatReportJob job, Duration ttl) {
+        return reactiveRedisTemplate.execute(SAVE_REPORT_JOB_IF_ABSENT_OR_FAILED_SCRIPT,
+                        List.of(AI_CHAT_REPORT_JOB_KEY_PREFIX + job.roomId()), List.of(job, ttl.toMillis()))
+                .next()
+                .map(saved -> saved == 1L);
+    }
+
+    public Mono<Boolean> saveAiChatReportJob(AiChatReportJob job, Duration ttl) {
+        return reactiveRedisTemplate.opsForValue().set(AI_CHAT_REPORT_JOB_KEY_PREFIX + job.roomId(), job, ttl);
+    }
+
+    public Mono<AiChatReportJob> findAiChatReportJob(Long roomId) {
+        return reactiveRedisTemplate.opsForValue().get(AI_CHAT_REPORT_JOB_KEY_PREFIX + roomId)
+                .ofType(AiChatReportJob.class);
+    }
+
+    /**
+     * 사용자 메시지별 평가를 채팅방의 평가 목록(대화 내역 ID별 Hash)에 보관하고 목록의 만료 시간을 갱신합니다.
+     *
+     * @param roomId 채팅방 ID
+     * @param evaluation 사용자 메시지 평가
+     * @param ttl 평가 목록 보관 시간
+     * @return 저장 완료 신호
+     */
+    public Mono<Boolean> saveAiChatTurnEvaluation(Long roomId, GptTurnEvaluation evaluation, Duration ttl) {
+        String key = AI_CHAT_TURN_EVALUATION_KEY_PREFIX + roomId;
+        return reactiveRedisTemplate.<String, Object>opsForHash().put(key, String.valueOf(evaluation.historyId()), evaluation)
+                .then(reactiveRedisTemplate.expire(key, ttl));
+    }
+
+    public Flux<GptTurnEvaluation> findAiChatTurnEvaluations(Long roomId) {
+        return reactiveRedisTemplate.<String, Object>opsForHash().values(AI_CHAT_TURN_EVALUATION_KEY_PREFIX + roomId)
+                .ofType(GptTurnEvaluation.class);
+    }
 }
@@ -0,0 +1,151 @@
+package com.ssafy.backend.global.component.openai.speculation;
+
+import com.ssafy.backend.global.component.openai.OpenAiCommunicationProvider;
+import com.ssafy.backend.global.component.openai.context.GptContextManager;
+import com.ssafy.backend.global.component.openai.context.GptTokenEstimator;
+import com.ssafy.backend.global.component.openai.dto.Conversation;
+import com.ssafy.backend.global.component.openai.dto.GptChatRequest;
+import com.ssafy.backend.global.component.openai.dto.GptDialogueMessage;
+import com.ssafy.backend.global.component.openai.dto.GptSpeculativeTurn;
+import com.ssafy.backend.global.component.openai.parser.GptConversationParser;
+import com.ssafy.backend.global.component.openai.prompt.GptPromptRegistry;
+import com.ssafy.backend.global.component.openai.repository.OpenAiRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.text.similarity.LevenshteinDistance;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 사용자가 GPT가 제안한 모범 답변(user_tip_japanese)을 그대로 보낼 것으로 가정하고 다음 대화 응답을 미리 생성하는 컴포넌트입니다.
+ * GPT 응답을 채팅방에 전송한 뒤 백그라운드에서 다음 응답을 요청하여 Redis에 잠시 보관하고,
+ * 다음 사용자 메시지가 모범 답변과 같거나 충분히 비슷하면 GPT를 호출하지 않고 보관한 응답을 바로 사용합니다.
+ * 그 사이 대화가 진행되었거나 메시지가 다르면 보관한 응답은 버립니다.
+ * 효과는 {@code openai.speculation.turns}(fired, hit, miss)와 {@code openai.speculation.tokens}(spent, used) 메트릭으로 판단합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GptSpeculationManager {
+
+    // 대화 응답 요청과 같은 모델과 최대 토큰을 사용해야 같은 응답을 기대할 수 있습니다.
+    private static final String CHAT_MODEL = "gpt-3.5-turbo-1106";
+    private static final int CHAT_MAX_TOKENS = 500;
+    private static final Pattern IGNORED_CHARACTERS = Pattern.compile("[\\p{P}\\p{S}\\s]+"); // 비교 시 무시할 문장 부호, 기호, 공백
+
+    private final GptSpeculationProps props;
+    private final OpenAiRepository openAiRepository;
+    private final OpenAiCommunicationProvider openAiCommunicationProvider;
+    private final GptContextManager gptContextManager;
+    private final GptPromptRegistry gptPromptRegistry;
+    private final GptConversationParser gptConversationParser;
+    private final GptTokenEstimator gptTokenEstimator;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 사용자가 모범 답변을 보낼 것으로 가정한 다음 대화 응답을 백그라운드에서 생성하여 보관합니다.
+     * GPT 응답이 대화 내역에 저장된 뒤에 호출해야 합니다.
+     *
+     * @param roomId 채팅방 ID
+     * @param conversation 방금 채팅방에 전송한 GPT 대화
+     */
+    public void speculate(Long roomId, Conversation conversation) {
+        if (!props.enabled() || conversation == null || isBlank(conversation.userTipJapaneseResponse())) {
+            return;
+        }
+        String expectedUserMessage = conversation.userTipJapaneseResponse();
+
+        Mono.defer(() -> openAiRepository.findAiChatSession(roomId))
+                .filter(session -> session.setupReference() != null)
+                .flatMap(session -> gptContextManager.buildMessages(roomId, gptPromptRegistry.getSetupRequest(session.setupReference()), session)
+                        .flatMap(messages -> requestSpeculativeTurn(messages, expectedUserMessage, session.totalCount(), session.setupReference().lean())))
+                .flatMap(speculativeTurn -> openAiRepository.saveSpeculativeTurn(roomId, speculativeTurn, props.ttl()))
+                .subscribe(
+                        saved -> {
+                        },
+                        e -> log.warn("다음 대화 응답을 미리 생성하지 못했습니다. roomId : {}, cause : {}", roomId, e.getMessage())
+                );
+    }
+
+    private Mono<GptSpeculativeTurn> requestSpeculativeTurn(List<GptDialogueMessage> messages, String expectedUserMessage, long historySize,
+                                                       boolean lean) {
+        List<GptDialogueMessage> speculativeMessages = new ArrayList<>(messages);
+        speculativeMessages.add(new GptDialogueMessage("user", expectedUserMessage));
+        int estimatedTokens = gptTokenEstimator.estimate(speculativeMessages) + CHAT_MAX_TOKENS;
+
+        record("fired");
+        meterRegistry.counter("openai.speculation.tokens", "result", "spent").increment(estimatedTokens);
+        return openAiCommunicationProvider.sendSpeculativePromptToGpt(new GptChatRequest(CHAT_MODEL, speculativeMessages, CHAT_MAX_TOKENS))
+                .filter(response -> gptConversationParser.isValid(response, lean)) // 사용할 수 없는 응답은 보관하지 않습니다.
+                .map(response -> new GptSpeculativeTurn(expectedUserMessage, response, historySize, estimatedTokens));
+    }
+
+    /**
+     * 사용자 메시지에 맞는 미리 생성한 응답이 있으면 꺼내 반환합니다.
+     * 사용자 메시지가 대화 내역에 저장된 뒤에 호출해야 하며, 보관한 응답은 사용 여부와 관계없이 삭제됩니다.
+     *
+     * @param roomId 채팅방 ID
+     * @param userMessage 사용자가 보낸 메시지
+     * @param historySize 사용자 메시지를 저장한 뒤의 전체 대화 메시지 수
+     * @return 미리 생성한 GPT 응답 문자열, 사용할 수 없으면 빈 Mono
+     */
+    public Mono<String> take(Long roomId, String userMessage, long historySize) {
+        if (!props.enabled()) {
+            return Mono.empty();
+        }
+        return openAiRepository.popSpeculativeTurn(roomId)
+                .filter(speculativeTurn -> {
+                    // 응답을 생성한 뒤 대화 내역에 사용자 메시지 하나만 추가되었고, 그 메시지가 모범 답변과 같아야 사용합니다.
+                    boolean hit = historySize == speculativeTurn.historySize() + 1
+                            && matches(speculativeTurn.expectedUserMessage(), userMessage);
+                    record(hit ? "hit" : "miss");
+                    if (hit) {
+                        meterRegistry.counter("openai.speculation.tokens", "result", "used").increment(speculativeTurn.estimatedTokens());
+                    }
+                    return hit;
+                })
+                .map(GptSpeculativeTurn::response)
+                .onErrorResume(e -> {
+                    log.warn("미리 생성한 대화 응답을 조회하지 못했습니다. roomId : {}", roomId, e);
+                    return Mono.empty();
+                });
+    }
+
+    // 문장 부호, 공백, 전각/반각 차이를 무시하고 비교하며, 완전히 같지 않으면 편집 거리 기반 유사도로 판단합니다.
+    private boolean matches(String expected, String actual) {
+        String normalizedExpected = normalize(expected);
+        String normalizedActual = normalize(actual);
+        if (normalizedExpected.isEmpty() || normalizedActual.isEmpty()) {
+            return false;
+        }
+        if (normalizedExpected.equals(normalizedActual)) {
+            return true;
+        }
+        int distance = LevenshteinDistance.getDefaultInstance().apply(normalizedExpected, normalizedActual);
+        double similarity = 1 - (double) distance / Math.max(normalizedExpected.length(), normalizedActual.length());
+        return similarity >= props.similarityThreshold();
+    }
+
+    private String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return IGNORED_CHARACTERS.matcher(normalized).replaceAll("");
+    }
+
+    private boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private void record(String result) {
+        meterRegistry.counter("openai.speculation.turns", "result", result).increment();
+    }
+}
@@ -0,0 +1,22 @@
+package com.ssafy.backend.global.component.openai.speculation;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 다음 대화 응답 미리 생성({@link GptSpeculationManager}) 설정 값을 관리하는 레코드입니다.
+ * 사용되지 않은 응답만큼 OpenAI 비용이 추가되므로 기본적으로 사용하지 않습니다.
+ *
+ * @param enabled 다음 대화 응답 미리 생성 사용 여부
+ * @param ttl 미리 생성한 응답의 보관 시간
+ * @param similarityThreshold 사용자 메시지와 모범 답변의 유사도가 이 값 이상이면 미리 생성한 응답을 사용 (0~1)
+ */
+@ConfigurationProperties(prefix = "openai.speculation")
+public record GptSpeculationProps(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("2m") Duration ttl,
+        @DefaultValue("0.9") double similarityThreshold
+) {
+}
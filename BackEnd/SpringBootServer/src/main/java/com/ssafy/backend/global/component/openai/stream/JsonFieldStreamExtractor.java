@@ -0,0 +1,140 @@
+package com.ssafy.backend.global.component.openai.stream;
+
+/**
+ * GPT 스트리밍 응답(JSON 조각)에서 특정 문자열 필드의 값만 점진적으로 추출하는 클래스입니다.
+ * 예를 들어 {@code "gpt_japanese"} 필드의 값이 도착하는 즉시 잘라서 사용자에게 전달할 수 있도록 합니다.
+ * 조각이 JSON 토큰 중간에서 끊겨도 동작하며, 이스케이프 문자를 해석한 결과를 반환합니다.
+ * 하나의 응답 스트림마다 새 인스턴스를 사용해야 하며, 스레드 안전하지 않습니다.
+ */
+public class JsonFieldStreamExtractor {
+
+    private enum State { SEARCHING, VALUE, DONE }
+
+    private final String fieldToken;
+    private final StringBuilder buffer = new StringBuilder();
+
+    private State state = State.SEARCHING;
+    private int cursor = 0;
+
+    /**
+     * @param fieldName 값을 추출할 JSON 필드 이름
+     */
+    public JsonFieldStreamExtractor(String fieldName) {
+        this.fieldToken = "\"" + fieldName + "\"";
+    }
+
+    /**
+     * 새로 도착한 조각을 추가하고, 이번 조각으로 인해 새로 확정된 필드 값의 일부를 반환합니다.
+     *
+     * @param chunk 스트리밍으로 도착한 응답 조각
+     * @return 새로 확정된 필드 값 (없으면 빈 문자열)
+     */
+    public String append(String chunk) {
+        buffer.append(chunk);
+        if (state == State.SEARCHING) {
+            findValueStart();
+        }
+        if (state != State.VALUE) {
+            return "";
+        }
+        return readValue();
+    }
+
+    /**
+     * 필드 값의 끝(닫는 따옴표)까지 모두 읽었는지 여부를 반환합니다.
+     */
+    public boolean isDone() {
+        return state == State.DONE;
+    }
+
+    // "필드명" 다음의 ':' 과 여는 따옴표까지 찾으면 VALUE 상태로 전환합니다.
+    private void findValueStart() {
+        int fieldIndex = buffer.indexOf(fieldToken, cursor);
+        if (fieldIndex < 0) {
+            // 필드명이 조각 경계에서 잘렸을 수 있으므로 마지막 일부는 다시 탐색합니다.
+            cursor = Math.max(cursor, buffer.length() - fieldToken.length());
+            return;
+        }
+
+        int i = skipWhitespace(fieldIndex + fieldToken.length());
+        if (i < buffer.length() && buffer.charAt(i) == ':') {
+            i = skipWhitespace(i + 1);
+            if (i < buffer.length() && buffer.charAt(i) == '"') {
+                cursor = i + 1;
+                state = State.VALUE;
+                return;
+            }
+        }
+        if (i >= buffer.length()) {
+            cursor = fieldIndex;    // 값의 시작이 아직 도착하지 않았습니다.
+            return;
+        }
+        // 키가 아니거나 문자열 값이 아니므로 이어서 탐색합니다.
+        cursor = fieldIndex + fieldToken.length();
+        findValueStart();
+    }
+
+    private int skipWhitespace(int index) {
+        while (index < buffer.length() && Character.isWhitespace(buffer.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    // 확정된 문자까지만 해석하며, 잘린 이스케이프 시퀀스는 다음 조각이 올 때까지 남겨둡니다.
+    private String readValue() {
+        StringBuilder out = new StringBuilder();
+        while (cursor < buffer.length()) {
+            char c = buffer.charAt(cursor);
+            if (c == '"') {
+                state = State.DONE;
+                cursor++;
+                break;
+            }
+            if (c != '\\') {
+                out.append(c);
+                cursor++;
+                continue;
+            }
+            if (cursor + 1 >= buffer.length()) {
+                break;
+            }
+            char escaped = buffer.charAt(cursor + 1);
+            if (escaped == 'u') {
+                int hexDigits = countHexDigits(cursor + 2);
+                if (hexDigits == 4) {
+                    out.append((char) Integer.parseInt(buffer.substring(cursor + 2, cursor + 6), 16));
+                    cursor += 6;
+                    continue;
+                }
+                if (cursor + 2 + hexDigits >= buffer.length()) {
+                    break;  // 아직 도착하지 않은 자리가 있습니다.
+                }
+                // 16진수가 아닌 문자가 섞인 유니코드 이스케이프는 'u'와 뒤따르는 문자를 그대로 출력합니다.
+                out.append(escaped);
+                cursor += 2;
+                continue;
+            }
+            out.append(switch (escaped) {
+                case 'n' -> '\n';
+                case 't' -> '\t';
+                case 'r' -> '\r';
+                case 'b' -> '\b';
+                case 'f' -> '\f';
+                default -> escaped;
+            });
+            cursor += 2;
+        }
+        return out.toString();
+    }
+
+    // index부터 연속된 16진수 문자 수를 최대 4개까지 셉니다.
+    private int countHexDigits(int index) {
+        int count = 0;
+        while (count < 4 && index + count < buffer.length()
+                && Character.digit(buffer.charAt(index + count), 16) >= 0) {
+            count++;
+        }
+        return count;
+    }
+}
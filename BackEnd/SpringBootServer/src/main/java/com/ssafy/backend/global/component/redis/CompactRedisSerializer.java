@@ -0,0 +1,84 @@
+package com.ssafy.backend.global.component.redis;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 코덱({@link RedisValueCodec})이 등록된 타입은 바이너리로, 나머지 타입은 기존 JSON 직렬화기로 저장하는 Redis 직렬화기입니다.
+ * 바이너리 값은 [MAGIC, 태그, 버전, 내용] 형식이며, MAGIC(0xC1)은 JSON과 UTF-8 어디에도 나올 수 없는 바이트이므로
+ * 첫 바이트만 보고 형식을 구분합니다. 따라서 이전에 JSON으로 저장된 값도 그대로 읽을 수 있고,
+ * 값을 다시 저장하거나 만료되면서 자연스럽게 바이너리로 바뀝니다.
+ * 바이너리 저장을 끄더라도(compactEnabled가 false) 이미 저장된 바이너리 값은 계속 읽을 수 있습니다.
+ */
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+    static final byte MAGIC = (byte) 0xC1;
+
+    private final RedisSerializer<Object> fallback;
+    private final boolean compactEnabled;
+    private final Map<Class<?>, RedisValueCodec<?>> codecsByType = new HashMap<>();
+    private final Map<Byte, RedisValueCodec<?>> codecsByTag = new HashMap<>();
+
+    public CompactRedisSerializer(RedisSerializer<Object> fallback, List<RedisValueCodec<?>> codecs, boolean compactEnabled) {
+        this.fallback = fallback;
+        this.compactEnabled = compactEnabled;
+        for (RedisValueCodec<?> codec : codecs) {
+            if (codecsByTag.put(codec.tag(), codec) != null) {
+                throw new IllegalStateException("Redis 값 코덱의 태그가 중복되었습니다: " + codec.tag());
+            }
+            codecsByType.put(codec.type(), codec);
+        }
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        RedisValueCodec<?> codec = value == null || !compactEnabled ? null : codecsByType.get(value.getClass());
+        if (codec == null) {
+            return fallback.serialize(value);
+        }
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(MAGIC);
+            out.writeByte(codec.tag());
+            out.writeByte(codec.version());
+            encode(codec, value, out);
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new SerializationException("Redis 값을 바이너리로 직렬화하지 못했습니다.", e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0 || bytes[0] != MAGIC) {
+            return fallback.deserialize(bytes); // JSON으로 저장된 값
+        }
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1));
+            byte tag = in.readByte();
+            int version = in.readUnsignedByte();
+            RedisValueCodec<?> codec = codecsByTag.get(tag);
+            if (codec == null) {
+                throw new SerializationException("알 수 없는 Redis 값 코덱 태그입니다: " + tag);
+            }
+            return codec.decode(in, version);
+        } catch (IOException e) {
+            throw new SerializationException("바이너리 Redis 값을 읽지 못했습니다.", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> void encode(RedisValueCodec<T> codec, Object value, DataOutputStream out) throws IOException {
+        codec.encode((T) value, out);
+    }
+}
@@ -0,0 +1,80 @@
+package com.ssafy.backend.global.component.redis;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Redis에 저장하는 값 하나의 타입을 JSON 대신 바이너리로 직렬화하는 코덱입니다.
+ * 빈으로 등록하면 {@link CompactRedisSerializer}가 해당 타입의 값을 이 코덱으로 저장합니다.
+ * 필드 구성이 바뀌면 {@link #version()}을 올리고, {@link #decode(DataInput, int)}에서 이전 버전도 읽을 수 있어야 합니다.
+ *
+ * @param <T> 직렬화할 값의 타입
+ */
+public interface RedisValueCodec<T> {
+
+    /**
+     * 저장된 값의 타입을 구분하는 태그입니다. 코덱마다 달라야 하며, 한 번 정한 값은 바꾸면 안 됩니다.
+     */
+    byte tag();
+
+    /**
+     * 현재 저장 형식의 버전입니다.
+     */
+    byte version();
+
+    Class<T> type();
+
+    void encode(T value, DataOutput out) throws IOException;
+
+    /**
+     * @param in 값을 읽을 입력
+     * @param version 값을 저장할 때의 형식 버전
+     * @return 읽은 값
+     */
+    T decode(DataInput in, int version) throws IOException;
+
+    /**
+     * 문자열을 길이(가변 길이 정수)와 UTF-8 바이트로 씁니다. null은 길이 0으로 구분합니다.
+     */
+    static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            writeVarInt(out, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length + 1);
+        out.write(bytes);
+    }
+
+    static String readString(DataInput in) throws IOException {
+        int length = readVarInt(in);
+        if (length == 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length - 1];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static void writeVarInt(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    static int readVarInt(DataInput in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = in.readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("가변 길이 정수 형식이 잘못되었습니다.");
+    }
+}
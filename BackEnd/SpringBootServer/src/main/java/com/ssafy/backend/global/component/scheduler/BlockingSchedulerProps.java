@@ -0,0 +1,19 @@
+package com.ssafy.backend.global.component.scheduler;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 블로킹 작업 전용 스케줄러({@link BlockingSchedulers}) 설정 값을 관리하는 레코드입니다.
+ *
+ * @param jpaThreads JPA 작업 스레드 수 (DB 커넥션 풀 크기를 넘으면 커넥션을 기다리는 스레드만 늘어남)
+ * @param messagingThreads RabbitMQ 전송 스레드 수
+ * @param queueCapacity 스레드마다 대기할 수 있는 최대 작업 수 (초과 시 작업이 거절됨)
+ */
+@ConfigurationProperties(prefix = "scheduler.blocking")
+public record BlockingSchedulerProps(
+        @DefaultValue("10") int jpaThreads,
+        @DefaultValue("4") int messagingThreads,
+        @DefaultValue("1000") int queueCapacity
+) {
+}
@@ -0,0 +1,44 @@
+package com.ssafy.backend.global.component.scheduler;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 리액티브 흐름 안에서 블로킹 작업을 실행할 전용 스케줄러를 제공하는 컴포넌트입니다.
+ * 공용 {@link Schedulers#boundedElastic()}를 함께 쓰면 DB 커넥션을 기다리는 작업이 다른 작업의 스레드까지 차지하므로,
+ * JPA 작업과 RabbitMQ 전송은 크기가 제한된 각자의 스레드 풀에서 실행합니다.
+ * Redis는 리액티브 클라이언트를 사용하므로 이 스케줄러를 거치지 않습니다.
+ */
+@Component
+public class BlockingSchedulers {
+
+    private final Scheduler jpaScheduler;
+    private final Scheduler messagingScheduler;
+
+    public BlockingSchedulers(BlockingSchedulerProps props) {
+        this.jpaScheduler = Schedulers.newBoundedElastic(props.jpaThreads(), props.queueCapacity(), "jpa");
+        this.messagingScheduler = Schedulers.newBoundedElastic(props.messagingThreads(), props.queueCapacity(), "messaging");
+    }
+
+    /**
+     * @return JPA(DB) 작업을 실행할 스케줄러
+     */
+    public Scheduler jpa() {
+        return jpaScheduler;
+    }
+
+    /**
+     * @return RabbitMQ 메시지 전송을 실행할 스케줄러
+     */
+    public Scheduler messaging() {
+        return messagingScheduler;
+    }
+
+    @PreDestroy
+    public void dispose() {
+        jpaScheduler.dispose();
+        messagingScheduler.dispose();
+    }
+}
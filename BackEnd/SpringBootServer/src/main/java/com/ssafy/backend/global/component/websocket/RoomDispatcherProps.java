@@ -0,0 +1,21 @@
+package com.ssafy.backend.global.component.websocket;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 채팅방별 메시지 실행 큐({@link RoomMessageDispatcher}) 설정 값을 관리하는 레코드입니다.
+ *
+ * @param maxQueuePerRoom 채팅방 하나에 대기할 수 있는 최대 메시지 수 (초과 시 거절)
+ * @param taskTimeout 메시지 하나의 처리를 기다리는 최대 시간 (초과 시 다음 메시지 처리로 넘어감)
+ * @param rejectRetryDelay 작업 스레드 풀이 포화되어 작업이 거절된 뒤, 채팅방의 남은 작업을 다시 실행하기까지 기다리는 시간
+ */
+@ConfigurationProperties(prefix = "websocket.dispatcher")
+public record RoomDispatcherProps(
+        @DefaultValue("5") int maxQueuePerRoom,
+        @DefaultValue("60s") Duration taskTimeout,
+        @DefaultValue("1s") Duration rejectRetryDelay
+) {
+}
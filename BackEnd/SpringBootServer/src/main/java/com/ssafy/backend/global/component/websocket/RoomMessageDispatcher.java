@@ -0,0 +1,187 @@
+package com.ssafy.backend.global.component.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 채팅방 단위로 메시지 처리를 직렬화하는 실행기입니다.
+ * 같은 채팅방의 작업은 도착한 순서대로 하나씩 실행되며, 앞선 작업이 반환한 Mono가 완료된 뒤에 다음 작업이 시작됩니다.
+ * 서로 다른 채팅방의 작업은 제한된 작업 스레드 풀에서 병렬로 실행되므로, STOMP 인바운드 스레드는 작업을 등록만 하고 바로 반환됩니다.
+ * 한 채팅방의 대기 작업이 {@link RoomDispatcherProps#maxQueuePerRoom()}를 넘으면 새 작업은 거절됩니다.
+ * 작업 스레드 풀이 포화되어 실행하지 못한 작업은 그 작업만 실패 처리하고, 남은 작업은 잠시 뒤 다시 실행합니다.
+ */
+@Slf4j
+@Component
+public class RoomMessageDispatcher {
+
+    private final Map<Long, RoomMailbox> mailboxes = new ConcurrentHashMap<>();
+    private final TaskExecutor taskExecutor;
+    private final RoomDispatcherProps props;
+    private final Counter rejectedCounter;
+    private final Timer queueTimer;
+
+    public RoomMessageDispatcher(@Qualifier("roomMessageTaskExecutor") TaskExecutor taskExecutor,
+                                 RoomDispatcherProps props,
+                                 MeterRegistry meterRegistry) {
+        this.taskExecutor = taskExecutor;
+        this.props = props;
+        this.rejectedCounter = meterRegistry.counter("websocket.dispatcher.rejected");
+        this.queueTimer = meterRegistry.timer("websocket.dispatcher.queue.time");
+        Gauge.builder("websocket.dispatcher.active.rooms", mailboxes, Map::size).register(meterRegistry);
+        Gauge.builder("websocket.dispatcher.queued.messages", this, RoomMessageDispatcher::totalQueueDepth).register(meterRegistry);
+    }
+
+    /**
+     * 채팅방의 실행 큐에 작업을 등록합니다.
+     * 실행 중인 작업이 없으면 바로 작업 스레드에서 실행하고, 있으면 앞선 작업이 끝난 뒤 순서대로 실행합니다.
+     *
+     * @param roomId 채팅방 ID
+     * @param task 실행할 작업, 반환한 Mono가 완료되어야 같은 채팅방의 다음 작업이 실행됩니다.
+     * @param onRejected 등록된 작업을 작업 스레드 풀이 포화되어 실행하지 못했을 때 호출할 함수
+     * @return 작업이 등록되었으면 true, 채팅방의 대기열이 가득 차 거절되었으면 false
+     */
+    public boolean dispatch(Long roomId, Supplier<Mono<?>> task, Runnable onRejected) {
+        RoomTask roomTask = new RoomTask(task, onRejected, System.nanoTime());
+        boolean[] accepted = {false};
+        boolean[] start = {false};
+
+        // 같은 채팅방에 대한 등록/완료 처리가 섞이지 않도록 맵의 원자적 연산 안에서 상태를 변경합니다.
+        mailboxes.compute(roomId, (id, mailbox) -> {
+            RoomMailbox target = mailbox != null ? mailbox : new RoomMailbox();
+            if (target.depth() >= props.maxQueuePerRoom()) {
+                return target;
+            }
+            target.queue.add(roomTask);
+            accepted[0] = true;
+            if (!target.running) {
+                target.running = true;
+                start[0] = true;
+            }
+            return target;
+        });
+
+        if (!accepted[0]) {
+            rejectedCounter.increment();
+            log.warn("채팅방 메시지 대기열이 가득 차 요청을 거절합니다. roomId : {}", roomId);
+            return false;
+        }
+        if (start[0]) {
+            runNext(roomId);
+        }
+        return true;
+    }
+
+    /**
+     * 채팅방의 대기 중인 작업 수(실행 중인 작업 포함)를 반환합니다.
+     */
+    public int getQueueDepth(Long roomId) {
+        RoomMailbox mailbox = mailboxes.get(roomId);
+        return mailbox == null ? 0 : mailbox.depth();
+    }
+
+    /**
+     * 작업이 남아있는 모든 채팅방의 대기 작업 수를 반환합니다.
+     */
+    public Map<Long, Integer> getQueueDepths() {
+        return mailboxes.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().depth()));
+    }
+
+    private double totalQueueDepth() {
+        return mailboxes.values().stream().mapToInt(RoomMailbox::depth).sum();
+    }
+
+    // 채팅방의 다음 작업을 꺼내 작업 스레드에서 실행합니다. 남은 작업이 없으면 채팅방의 실행 큐를 정리합니다.
+    private void runNext(Long roomId) {
+        RoomTask[] next = {null};
+        mailboxes.computeIfPresent(roomId, (id, mailbox) -> {
+            next[0] = mailbox.queue.poll();
+            if (next[0] == null) {
+                return null;
+            }
+            mailbox.inFlight = 1;
+            return mailbox;
+        });
+        if (next[0] == null) {
+            return;
+        }
+
+        RoomTask roomTask = next[0];
+        try {
+            taskExecutor.execute(() -> execute(roomId, roomTask));
+        } catch (RuntimeException e) {
+            // 작업 스레드 풀이 포화 상태이면 이 작업만 실패 처리하고, 남은 작업은 잠시 뒤 다시 실행합니다.
+            log.error("작업 스레드 풀이 포화되어 채팅방 메시지 작업을 실행하지 못했습니다. roomId : {}", roomId, e);
+            rejectedCounter.increment();
+            notifyRejected(roomId, roomTask);
+            mailboxes.computeIfPresent(roomId, (id, mailbox) -> {
+                mailbox.inFlight = 0;
+                return mailbox;
+            });
+            Mono.delay(props.rejectRetryDelay())
+                    .subscribe(tick -> runNext(roomId));
+        }
+    }
+
+    private void notifyRejected(Long roomId, RoomTask roomTask) {
+        try {
+            roomTask.onRejected().run();
+        } catch (RuntimeException e) {
+            log.error("거절된 채팅방 메시지 작업을 안내하지 못했습니다. roomId : {}", roomId, e);
+        }
+    }
+
+    private void execute(Long roomId, RoomTask roomTask) {
+        queueTimer.record(System.nanoTime() - roomTask.enqueuedAt(), TimeUnit.NANOSECONDS);
+
+        Mono<?> result;
+        try {
+            result = roomTask.task().get();
+        } catch (RuntimeException e) {
+            result = Mono.error(e);
+        }
+
+        result.timeout(props.taskTimeout())
+                .doOnError(e -> log.error("채팅방 메시지 처리 중 오류가 발생했습니다. roomId : {}", roomId, e))
+                .onErrorComplete()
+                .doFinally(signal -> {
+                    mailboxes.computeIfPresent(roomId, (id, mailbox) -> {
+                        mailbox.inFlight = 0;
+                        return mailbox;
+                    });
+                    runNext(roomId);
+                })
+                .subscribe();
+    }
+
+    private record RoomTask(Supplier<Mono<?>> task, Runnable onRejected, long enqueuedAt) {}
+
+    /**
+     * 채팅방 하나의 대기 작업과 실행 상태를 담는 객체입니다.
+     * 모든 상태 변경은 {@code mailboxes}의 원자적 연산 안에서만 이루어집니다.
+     */
+    private static class RoomMailbox {
+        private final Queue<RoomTask> queue = new ArrayDeque<>();
+        private boolean running;
+        private int inFlight;
+
+        private int depth() {
+            return queue.size() + inFlight;
+        }
+    }
+}
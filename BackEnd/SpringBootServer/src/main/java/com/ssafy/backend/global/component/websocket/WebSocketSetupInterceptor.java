@@ -6,7 +6,6 @@ import com.ssafy.backend.global.component.jwt.JwtTokenProvider;
 import com.ssafy.backend.global.component.jwt.exception.JwtErrorCode;
 import com.ssafy.backend.global.component.jwt.exception.JwtException;
 import com.ssafy.backend.global.component.jwt.security.MemberLoginActive;
-import com.ssafy.backend.global.component.openai.repository.OpenAiRepository;
 import com.sun.security.auth.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,7 +23,7 @@ import org.springframework.stereotype.Component;
 /**
  * 웹소켓 연결 설정 및 인증을 담당하는 인터셉터입니다.
  * STOMP 연결 및 메시지 전송 시 토큰 검증을 수행하고,
- * 연결 시에는 GPT 프롬프트 설정을 초기화합니다.
+ * 연결 시에는 GPT 프롬프트 설정을 진행하며, 이미 설정된 채팅방에 다시 연결하면 기존 대화를 이어갑니다.
  */
 @Slf4j
 @Component
@@ -33,7 +32,6 @@ import org.springframework.stereotype.Component;
 public class WebSocketSetupInterceptor implements ChannelInterceptor {
     private final JwtTokenProvider jwtTokenProvider; // JWT 토큰을 검증하는 컴포넌트
     private final AiChatService aiChatService; // AI 채팅 관련 서비스
-    private final OpenAiRepository openAiRepository;
 
     /**
      * 메시지가 전송되기 전에 인증과 초기 설정을 수행합니다.
@@ -51,7 +49,7 @@ public class WebSocketSetupInterceptor implements ChannelInterceptor {
             validateAndAuthenticateUser(accessor);
         }
 
-        // 연결 시 GPT 설정을 초기화합니다.
+        // 연결 시 GPT 설정을 진행합니다.
         if (StompCommand.CONNECT.equals(accessor.getCommand())) {
             String roomIdStr = accessor.getFirstNativeHeader("roomId");
             String categoryStr = accessor.getFirstNativeHeader("category");
@@ -61,11 +59,11 @@ public class WebSocketSetupInterceptor implements ChannelInterceptor {
                 Long roomId = Long.parseLong(roomIdStr);
                 AiChatCategory category = AiChatCategory.valueOf(categoryStr.toUpperCase());
 
-                // Redis에서 기존 설정과 히스토리 삭제
-                openAiRepository.deleteAiChatSetupAndHistory(roomId);
-                
-                // GPT 프롬프트 설정을 비동기적으로 호출합니다.
-                aiChatService.setupAiChatBot(roomId, category).subscribe();
+                // GPT 프롬프트 설정을 비동기적으로 호출합니다. 재연결이 반복되어도 설정은 한 번만 진행됩니다.
+                aiChatService.connectAiChatBot(roomId, category).subscribe(
+                        conversation -> { },
+                        e -> log.warn("채팅방 설정에 실패했습니다. roomId : {}, cause : {}", roomId, e.getMessage())
+                );
             }
         }
 
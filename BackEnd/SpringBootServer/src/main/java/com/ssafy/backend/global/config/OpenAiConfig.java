@@ -1,10 +1,15 @@
 package com.ssafy.backend.global.config;
 
+import io.netty.channel.ChannelOption;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+
+import java.time.Duration;
 
 /**
  * OpenAI와의 통신을 위한 WebClient 구성 클래스입니다.
@@ -17,19 +22,34 @@ public class OpenAiConfig {
     @Value("${openai.key}")
     private String openAiKey; // OpenAI API를 사용하기 위한 API 키
 
+    @Value("${openai.base-url:https://api.openai.com/v1}")
+    private String openAiBaseUrl; // OpenAI API의 기본 URL (테스트 시 로컬 가짜 서버로 변경 가능)
+
+    @Value("${openai.connect-timeout:5s}")
+    private Duration connectTimeout; // 연결 수립 제한 시간
+
+    @Value("${openai.response-timeout:60s}")
+    private Duration responseTimeout; // 응답 데이터 수신 간격 제한 시간 (스트리밍 응답은 조각 사이의 간격)
+
     /**
      * OpenAI API 요청을 위한 WebClient를 구성하고 빈으로 등록합니다.
      * WebClient는 비동기, 논블로킹 I/O를 지원하는 Spring WebFlux의 일부로,
      * RESTful API 호출에 사용됩니다. 이 메소드는 OpenAI API에 요청을 보내는 데 필요한
-     * 기본 URL과 인증 헤더를 설정합니다.
+     * 기본 URL과 인증 헤더, 연결 및 응답 제한 시간을 설정합니다.
      *
      * @return 구성된 WebClient 인스턴스
      */
     @Bean
     public WebClient openAiWebClient() {
+        // 응답이 오지 않는 요청이 동시 요청 수 한도를 계속 차지하지 않도록 제한 시간을 설정합니다.
+        HttpClient httpClient = HttpClient.create()
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(responseTimeout);
+
         // WebClient 인스턴스를 생성하고 기본 설정을 적용합니다.
         return WebClient.builder()
-                .baseUrl("https://api.openai.com/v1") // OpenAI API의 기본 URL 설정
+                .baseUrl(openAiBaseUrl) // OpenAI API의 기본 URL 설정
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .defaultHeader("Authorization", "Bearer " + openAiKey) // API 요청 시 사용될 기본 인증 헤더 설정
                 .build();
     }
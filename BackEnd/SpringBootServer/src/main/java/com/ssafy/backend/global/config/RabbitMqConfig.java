@@ -3,12 +3,18 @@ package com.ssafy.backend.global.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ssafy.backend.domain.aichat.job.AiChatReportJobProps;
+import com.ssafy.backend.domain.aichat.job.AiChatReportJobWorker;
 import com.ssafy.backend.global.component.websocket.RabbitMqProps;
 import lombok.RequiredArgsConstructor;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
 import org.springframework.amqp.core.TopicExchange;
 import org.springframework.amqp.rabbit.annotation.EnableRabbit;
+import org.springframework.amqp.rabbit.config.RetryInterceptorBuilder;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
@@ -27,6 +33,7 @@ import org.springframework.context.annotation.Configuration;
 @RequiredArgsConstructor
 public class RabbitMqConfig {
     private final RabbitMqProps rabbitMqProps; // RabbitMQ 접속 설정을 담고 있는 프로퍼티 객체
+    private final AiChatReportJobProps aiChatReportJobProps; // 레포트 생성 작업 대기열 설정
 
     private static final String TOPIC_EXCHANGE_NAME = "amq.topic"; // 토픽 교환의 이름
 
@@ -78,6 +85,40 @@ public class RabbitMqConfig {
         return container;
     }
 
+    /**
+     * 레포트 생성 작업 대기열을 정의하고 스프링 빈으로 등록합니다.
+     * 서버가 재시작되어도 작업이 남아있도록 durable 큐로 선언합니다.
+     * @return 생성된 Queue 객체
+     */
+    @Bean
+    public Queue aiChatReportJobQueue() {
+        return QueueBuilder.durable(aiChatReportJobProps.queue()).build();
+    }
+
+    /**
+     * 레포트 생성 작업 워커의 리스너 컨테이너 팩토리를 스프링 빈으로 등록합니다.
+     * 워커 하나가 작업을 하나씩 가져가며(prefetch 1), 실패한 작업은 간격을 늘려가며 다시 시도한 뒤 워커가 실패로 기록합니다.
+     * @param aiChatReportJobWorker 모든 시도가 실패한 작업을 처리할 워커
+     * @return 구성된 SimpleRabbitListenerContainerFactory 객체
+     */
+    @Bean
+    public SimpleRabbitListenerContainerFactory aiChatReportListenerContainerFactory(AiChatReportJobWorker aiChatReportJobWorker) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory());
+        factory.setMessageConverter(jsonMessageConverter());
+        factory.setConcurrentConsumers(aiChatReportJobProps.concurrency());
+        factory.setMaxConcurrentConsumers(aiChatReportJobProps.maxConcurrency());
+        factory.setPrefetchCount(1);
+        factory.setDefaultRequeueRejected(false);
+        factory.setAdviceChain(RetryInterceptorBuilder.stateless()
+                .maxAttempts(aiChatReportJobProps.maxAttempts())
+                .backOffOptions(aiChatReportJobProps.initialBackoff().toMillis(), aiChatReportJobProps.backoffMultiplier(),
+                        aiChatReportJobProps.maxBackoff().toMillis())
+                .recoverer(aiChatReportJobWorker)
+                .build());
+        return factory;
+    }
+
     /**
      * RabbitMQ 서버와의 연결을 위한 ConnectionFactory를 스프링 빈으로 등록합니다.
      * RabbitMQ 서버의 호스트, 사용자 이름, 비밀번호 등의 접속 정보를 설정합니다.
@@ -1,15 +1,20 @@
 package com.ssafy.backend.global.config;
 
+import com.ssafy.backend.global.component.redis.CompactRedisSerializer;
+import com.ssafy.backend.global.component.redis.RedisValueCodec;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.util.List;
+
 /**
  * Redis 데이터 저장소 구성을 위한 설정 클래스입니다.
  */
@@ -23,28 +28,57 @@ public class RedisConfig {
     @Value("${spring.data.redis.port}")
     private int port;
 
+    @Value("${redis.compact-codec.enabled:true}")
+    private boolean compactCodecEnabled;
+
     /**
      * Redis 연결을 관리하는 커넥션 팩토리 빈을 생성합니다.
+     * 레티스 연결 팩토리는 블로킹 템플릿과 리액티브 템플릿에서 함께 사용합니다.
      *
-     * @return RedisConnectionFactory 레티스 연결 팩토리 인스턴스
+     * @return LettuceConnectionFactory 레티스 연결 팩토리 인스턴스
      */
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
+    public LettuceConnectionFactory redisConnectionFactory() {
         return new LettuceConnectionFactory(host, port);
     }
 
     /**
      * Redis 작업을 수행하기 위한 템플릿 빈을 설정합니다.
      * 이 템플릿은 문자열 키와 JSON 직렬화된 값을 사용합니다.
+     * 대화 내역처럼 많이 저장되는 값은 등록된 코덱({@link RedisValueCodec})으로 바이너리 직렬화하며, 기존 JSON 값도 그대로 읽습니다.
      *
+     * @param codecs 바이너리로 저장할 값의 코덱 목록
      * @return RedisTemplate 문자열 키와 객체 값을 처리할 수 있는 레디스 템플릿
      */
     @Bean
-    public RedisTemplate<String, Object> redisTemplate() {
+    public RedisTemplate<String, Object> redisTemplate(List<RedisValueCodec<?>> codecs) {
         RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
         redisTemplate.setKeySerializer(new StringRedisSerializer());
-        redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        redisTemplate.setValueSerializer(compactRedisSerializer(codecs));
+        redisTemplate.setHashKeySerializer(new StringRedisSerializer());
+        redisTemplate.setHashValueSerializer(compactRedisSerializer(codecs));
         redisTemplate.setConnectionFactory(redisConnectionFactory());
         return redisTemplate;
     }
+
+    /**
+     * Redis 작업을 호출 스레드를 막지 않고 수행하기 위한 리액티브 템플릿 빈을 설정합니다.
+     * 대화 중 접근하는 설정과 대화 내역에 사용하며, {@link #redisTemplate}과 같은 직렬화 방식을 사용하므로 서로의 값을 그대로 읽습니다.
+     *
+     * @param codecs 바이너리로 저장할 값의 코덱 목록
+     * @return ReactiveRedisTemplate 문자열 키와 객체 값을 처리할 수 있는 리액티브 레디스 템플릿
+     */
+    @Bean
+    public ReactiveRedisTemplate<String, Object> reactiveRedisTemplate(List<RedisValueCodec<?>> codecs) {
+        RedisSerializationContext<String, Object> serializationContext = RedisSerializationContext
+                .<String, Object>newSerializationContext(compactRedisSerializer(codecs))
+                .key(new StringRedisSerializer())
+                .hashKey(new StringRedisSerializer())
+                .build();
+        return new ReactiveRedisTemplate<>(redisConnectionFactory(), serializationContext);
+    }
+
+    private CompactRedisSerializer compactRedisSerializer(List<RedisValueCodec<?>> codecs) {
+        return new CompactRedisSerializer(new GenericJackson2JsonRedisSerializer(), codecs, compactCodecEnabled);
+    }
 }
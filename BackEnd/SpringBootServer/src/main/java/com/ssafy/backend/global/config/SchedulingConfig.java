@@ -0,0 +1,13 @@
+package com.ssafy.backend.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 기능을 활성화하는 설정 클래스입니다.
+ * {@link EnableScheduling} 어노테이션을 통해 {@code @Scheduled} 메서드가 주기적으로 실행되도록 합니다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -43,5 +43,21 @@ public class SpringAsyncConfig {
 
         return taskExecutor;
     }
-}
 
+    /**
+     * 채팅방별 메시지 처리({@link com.ssafy.backend.global.component.websocket.RoomMessageDispatcher})에 사용될 Executor를 구성합니다.
+     * STOMP 인바운드 스레드 대신 이 스레드 풀에서 DB/Redis 작업을 수행하며,
+     * 채팅방별 대기열이 이미 요청량을 제한하므로 작업 큐는 넉넉하게 설정합니다.
+     *
+     * @return 구성된 TaskExecutor 인스턴스를 반환합니다.
+     */
+    @Bean(name = "roomMessageTaskExecutor")
+    public ThreadPoolTaskExecutor roomMessageTaskExecutor() {
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(8);
+        taskExecutor.setMaxPoolSize(32);
+        taskExecutor.setQueueCapacity(1000);
+        taskExecutor.setThreadNamePrefix("RoomMessage-");
+        return taskExecutor;
+    }
+}
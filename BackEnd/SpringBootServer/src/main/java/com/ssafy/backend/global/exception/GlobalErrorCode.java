@@ -9,7 +9,8 @@ import org.springframework.http.HttpStatus;
 public enum GlobalErrorCode {
     REDIS_CONNECTION_FAILURE(HttpStatus.INTERNAL_SERVER_ERROR, "Redis 연결에 실패했습니다."),
     INVALID_EMAIL_VERIFICATION_CODE(HttpStatus.BAD_REQUEST, "이메일 인증코드를 잘못 입력하였습니다."),
-    INVALID_EMAIL_ADDRESS(HttpStatus.BAD_REQUEST, "유효하지 않은 이메일 주소입니다.");
+    INVALID_EMAIL_ADDRESS(HttpStatus.BAD_REQUEST, "유효하지 않은 이메일 주소입니다."),
+    OPENAI_SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "AI 요청이 많아 처리가 지연되고 있습니다. 잠시 후 다시 시도해주세요.");
 
 
     private final HttpStatus httpStatus; // 에러 상황에 해당하는 HTTP 상태 코드
@@ -0,0 +1,25 @@
+-- V4__Add_id_sequence.sql
+-- IDENTITY 대신 pooled 방식으로 ID를 미리 할당받아 INSERT를 배치로 묶기 위한 시퀀스 테이블입니다. (IdSequence 참고)
+-- 기존 AUTO_INCREMENT 컬럼은 그대로 두며, 초기값은 할당 단위(100)를 더해 기존 최대 ID와 겹치지 않도록 설정합니다.
+-- vocabulary 테이블은 FastAPI 서버가 AUTO_INCREMENT로 저장하므로 제외합니다.
+CREATE TABLE `id_sequence` (
+                               `sequence_name` varchar(64) NOT NULL,
+                               `next_val` bigint NOT NULL,
+                               PRIMARY KEY (`sequence_name`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+INSERT INTO `id_sequence` (`sequence_name`, `next_val`)
+SELECT 'member', COALESCE(MAX(`id`), 0) + 101 FROM `member`
+UNION ALL SELECT 'news', COALESCE(MAX(`id`), 0) + 101 FROM `news`
+UNION ALL SELECT 'keyword', COALESCE(MAX(`id`), 0) + 101 FROM `keyword`
+UNION ALL SELECT 'news_image', COALESCE(MAX(`id`), 0) + 101 FROM `news_image`
+UNION ALL SELECT 'news_keyword_mapping', COALESCE(MAX(`id`), 0) + 101 FROM `news_keyword_mapping`
+UNION ALL SELECT 'news_keyword_history', COALESCE(MAX(`id`), 0) + 101 FROM `news_keyword_history`
+UNION ALL SELECT 'news_shadowing', COALESCE(MAX(`id`), 0) + 101 FROM `news_shadowing`
+UNION ALL SELECT 'shadowing_evaluation', COALESCE(MAX(`id`), 0) + 101 FROM `shadowing_evaluation`
+UNION ALL SELECT 'ai_chat_room', COALESCE(MAX(`id`), 0) + 101 FROM `ai_chat_room`
+UNION ALL SELECT 'ai_chat_history', COALESCE(MAX(`id`), 0) + 101 FROM `ai_chat_history`
+UNION ALL SELECT 'ai_chat_feedback', COALESCE(MAX(`id`), 0) + 101 FROM `ai_chat_feedback`
+UNION ALL SELECT 'ai_chat_report', COALESCE(MAX(`id`), 0) + 101 FROM `ai_chat_report`
+UNION ALL SELECT 'personal_vocabulary', COALESCE(MAX(`id`), 0) + 101 FROM `personal_vocabulary`
+UNION ALL SELECT 'attendance', COALESCE(MAX(`id`), 0) + 101 FROM `attendance`;
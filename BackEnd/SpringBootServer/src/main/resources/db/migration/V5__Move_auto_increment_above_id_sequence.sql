@@ -0,0 +1,84 @@
+-- V5__Move_auto_increment_above_id_sequence.sql
+-- V4 이후 애플리케이션은 id_sequence에서 할당받은 ID로 INSERT하지만, ID 없이 INSERT하는 쓰기(배포 중 아직 남아있는 이전 버전 서버,
+-- 수동 SQL, 데이터 적재 스크립트 등)는 여전히 테이블의 AUTO_INCREMENT 값을 사용하므로 시퀀스가 앞으로 할당할 ID와 겹칠 수 있습니다.
+-- 각 테이블의 AUTO_INCREMENT를 시퀀스 값보다 10억 크게 옮겨 두 범위를 분리합니다.
+-- InnoDB는 AUTO_INCREMENT보다 작은 ID를 직접 지정한 INSERT에는 AUTO_INCREMENT를 바꾸지 않으므로, 시퀀스가 10억 개를 할당하기 전까지 두 범위는 겹치지 않습니다.
+-- (ID 컬럼은 INT UNSIGNED로 최대 약 42억입니다.)
+--
+-- 배포 절차
+-- 1. V4, V5는 서버 시작 시 Flyway로 함께 적용됩니다. 이전 버전 서버가 남아있어도 V5 이후 그 서버의 INSERT는 분리된 범위를 사용합니다.
+-- 2. V4 적용과 V5 적용 사이(같은 서버 시작 과정)에 이전 버전 서버가 INSERT한 행은 시퀀스 초기값(기존 최대 ID + 101)보다 작은 범위에 들어가므로,
+--    그 사이 INSERT가 100건을 넘지 않는 한 겹치지 않습니다. 트래픽이 많은 시간에는 이전 버전 서버를 먼저 내린 뒤 배포합니다.
+-- 3. Flyway를 사용하지 않는 로컬 환경은 id_sequence.sql(spring.sql.init)로 같은 테이블과 초기값을 만듭니다.
+-- vocabulary 테이블은 FastAPI 서버가 AUTO_INCREMENT로 저장하며 시퀀스를 사용하지 않으므로 제외합니다.
+SET @auto_increment_offset = 1000000000;
+
+SET @ddl = (SELECT CONCAT('ALTER TABLE `member` AUTO_INCREMENT = ', `next_val` + @auto_increment_offset) FROM `id_sequence` WHERE `sequence_name` = 'member');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = (SELECT CONCAT('ALTER TABLE `news` AUTO_INCREMENT = ', `next_val` + @auto_increment_offset) FROM `id_sequence` WHERE `sequence_name` = 'news');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = (SELECT CONCAT('ALTER TABLE `keyword` AUTO_INCREMENT = ', `next_val` + @auto_increment_offset) FROM `id_sequence` WHERE `sequence_name` = 'keyword');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = (SELECT CONCAT('ALTER TABLE `news_image` AUTO_INCREMENT = ', `next_val` + @auto_increment_offset) FROM `id_sequence` WHERE `sequence_name` = 'news_image');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = (SELECT CONCAT('ALTER TABLE `news_keyword_mapping` AUTO_INCREMENT = ', `next_val` + @auto_increment_offset) FROM `id_sequence` WHERE `sequence_name` = 'news_keyword_mapping');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = (SELECT CONCAT('ALTER TABLE `news_keyword_history` AUTO_INCREMENT = ', `next_val` + @auto_increment_offset) FROM `id_sequence` WHERE `sequence_name` = 'news_keyword_history');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = (SELECT CONCAT('ALTER TABLE `news_shadowing` AUTO_INCREMENT = ', `next_val` + @auto_increment_offset) FROM `id_sequence` WHERE `sequence_name` = 'news_shadowing');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = (SELECT CONCAT('ALTER TABLE `shadowing_evaluation` AUTO_INCREMENT = ', `next_val` + @auto_increment_offset) FROM `id_sequence` WHERE `sequence_name` = 'shadowing_evaluation');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = (SELECT CONCAT('ALTER TABLE `ai_chat_room` AUTO_INCREMENT = ', `next_val` + @auto_increment_offset) FROM `id_sequence` WHERE `sequence_name` = 'ai_chat_room');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = (SELECT CONCAT('ALTER TABLE `ai_chat_history` AUTO_INCREMENT = ', `next_val` + @auto_increment_offset) FROM `id_sequence` WHERE `sequence_name` = 'ai_chat_history');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = (SELECT CONCAT('ALTER TABLE `ai_chat_feedback` AUTO_INCREMENT = ', `next_val` + @auto_increment_offset) FROM `id_sequence` WHERE `sequence_name` = 'ai_chat_feedback');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = (SELECT CONCAT('ALTER TABLE `ai_chat_report` AUTO_INCREMENT = ', `next_val` + @auto_increment_offset) FROM `id_sequence` WHERE `sequence_name` = 'ai_chat_report');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = (SELECT CONCAT('ALTER TABLE `personal_vocabulary` AUTO_INCREMENT = ', `next_val` + @auto_increment_offset) FROM `id_sequence` WHERE `sequence_name` = 'personal_vocabulary');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = (SELECT CONCAT('ALTER TABLE `attendance` AUTO_INCREMENT = ', `next_val` + @auto_increment_offset) FROM `id_sequence` WHERE `sequence_name` = 'attendance');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,99 @@
+-- id_sequence.sql
+-- Flyway를 사용하지 않는 로컬 환경에서 V4(id_sequence 테이블), V5(AUTO_INCREMENT 분리) 마이그레이션과 같은 상태를 만듭니다.
+-- 서버를 시작할 때마다 DB 백업본을 다시 실행하므로, 이미 있는 시퀀스 값은 줄이지 않고 백업본의 최대 ID보다 작을 때만 올립니다.
+CREATE TABLE IF NOT EXISTS `id_sequence` (
+                               `sequence_name` varchar(64) NOT NULL,
+                               `next_val` bigint NOT NULL,
+                               PRIMARY KEY (`sequence_name`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+INSERT INTO `id_sequence` (`sequence_name`, `next_val`)
+SELECT `initial`.`sequence_name`, `initial`.`next_val` FROM (
+    SELECT 'member' AS `sequence_name`, COALESCE(MAX(`id`), 0) + 101 AS `next_val` FROM `member`
+    UNION ALL SELECT 'news', COALESCE(MAX(`id`), 0) + 101 FROM `news`
+    UNION ALL SELECT 'keyword', COALESCE(MAX(`id`), 0) + 101 FROM `keyword`
+    UNION ALL SELECT 'news_image', COALESCE(MAX(`id`), 0) + 101 FROM `news_image`
+    UNION ALL SELECT 'news_keyword_mapping', COALESCE(MAX(`id`), 0) + 101 FROM `news_keyword_mapping`
+    UNION ALL SELECT 'news_keyword_history', COALESCE(MAX(`id`), 0) + 101 FROM `news_keyword_history`
+    UNION ALL SELECT 'news_shadowing', COALESCE(MAX(`id`), 0) + 101 FROM `news_shadowing`
+    UNION ALL SELECT 'shadowing_evaluation', COALESCE(MAX(`id`), 0) + 101 FROM `shadowing_evaluation`
+    UNION ALL SELECT 'ai_chat_room', COALESCE(MAX(`id`), 0) + 101 FROM `ai_chat_room`
+    UNION ALL SELECT 'ai_chat_history', COALESCE(MAX(`id`), 0) + 101 FROM `ai_chat_history`
+    UNION ALL SELECT 'ai_chat_feedback', COALESCE(MAX(`id`), 0) + 101 FROM `ai_chat_feedback`
+    UNION ALL SELECT 'ai_chat_report', COALESCE(MAX(`id`), 0) + 101 FROM `ai_chat_report`
+    UNION ALL SELECT 'personal_vocabulary', COALESCE(MAX(`id`), 0) + 101 FROM `personal_vocabulary`
+    UNION ALL SELECT 'attendance', COALESCE(MAX(`id`), 0) + 101 FROM `attendance`
+) AS `initial`
+ON DUPLICATE KEY UPDATE `next_val` = GREATEST(`id_sequence`.`next_val`, `initial`.`next_val`);
+
+SET @auto_increment_offset = 1000000000;
+
+SET @ddl = (SELECT CONCAT('ALTER TABLE `member` AUTO_INCREMENT = ', `next_val` + @auto_increment_offset) FROM `id_sequence` WHERE `sequence_name` = 'member');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = (SELECT CONCAT('ALTER TABLE `news` AUTO_INCREMENT = ', `next_val` + @auto_increment_offset) FROM `id_sequence` WHERE `sequence_name` = 'news');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = (SELECT CONCAT('ALTER TABLE `keyword` AUTO_INCREMENT = ', `next_val` + @auto_increment_offset) FROM `id_sequence` WHERE `sequence_name` = 'keyword');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = (SELECT CONCAT('ALTER TABLE `news_image` AUTO_INCREMENT = ', `next_val` + @auto_increment_offset) FROM `id_sequence` WHERE `sequence_name` = 'news_image');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = (SELECT CONCAT('ALTER TABLE `news_keyword_mapping` AUTO_INCREMENT = ', `next_val` + @auto_increment_offset) FROM `id_sequence` WHERE `sequence_name` = 'news_keyword_mapping');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = (SELECT CONCAT('ALTER TABLE `news_keyword_history` AUTO_INCREMENT = ', `next_val` + @auto_increment_offset) FROM `id_sequence` WHERE `sequence_name` = 'news_keyword_history');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = (SELECT CONCAT('ALTER TABLE `news_shadowing` AUTO_INCREMENT = ', `next_val` + @auto_increment_offset) FROM `id_sequence` WHERE `sequence_name` = 'news_shadowing');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = (SELECT CONCAT('ALTER TABLE `shadowing_evaluation` AUTO_INCREMENT = ', `next_val` + @auto_increment_offset) FROM `id_sequence` WHERE `sequence_name` = 'shadowing_evaluation');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = (SELECT CONCAT('ALTER TABLE `ai_chat_room` AUTO_INCREMENT = ', `next_val` + @auto_increment_offset) FROM `id_sequence` WHERE `sequence_name` = 'ai_chat_room');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = (SELECT CONCAT('ALTER TABLE `ai_chat_history` AUTO_INCREMENT = ', `next_val` + @auto_increment_offset) FROM `id_sequence` WHERE `sequence_name` = 'ai_chat_history');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = (SELECT CONCAT('ALTER TABLE `ai_chat_feedback` AUTO_INCREMENT = ', `next_val` + @auto_increment_offset) FROM `id_sequence` WHERE `sequence_name` = 'ai_chat_feedback');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = (SELECT CONCAT('ALTER TABLE `ai_chat_report` AUTO_INCREMENT = ', `next_val` + @auto_increment_offset) FROM `id_sequence` WHERE `sequence_name` = 'ai_chat_report');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = (SELECT CONCAT('ALTER TABLE `personal_vocabulary` AUTO_INCREMENT = ', `next_val` + @auto_increment_offset) FROM `id_sequence` WHERE `sequence_name` = 'personal_vocabulary');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = (SELECT CONCAT('ALTER TABLE `attendance` AUTO_INCREMENT = ', `next_val` + @auto_increment_offset) FROM `id_sequence` WHERE `sequence_name` = 'attendance');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,128 @@
+package com.ssafy.backend.domain.aichat.service;
+
+import com.ssafy.backend.domain.aichat.dto.AiChatFeedbackCreateRequest;
+import com.ssafy.backend.domain.aichat.dto.AiChatReportCreateRequest;
+import com.ssafy.backend.domain.aichat.entity.AiChatFeedback;
+import com.ssafy.backend.domain.aichat.entity.AiChatHistory;
+import com.ssafy.backend.domain.aichat.entity.AiChatReport;
+import com.ssafy.backend.domain.aichat.entity.AiChatRoom;
+import com.ssafy.backend.domain.aichat.entity.enums.AiChatCategory;
+import com.ssafy.backend.domain.aichat.entity.enums.AiChatSender;
+import com.ssafy.backend.domain.member.entity.Member;
+import com.ssafy.backend.domain.member.entity.enums.MemberRole;
+import com.ssafy.backend.global.config.JpaAuditConfig;
+import com.ssafy.backend.global.config.QuerydslConfig;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hibernate 통계로 {@link AiChatReportWriter}가 피드백 수와 관계없이 채팅방 조회 한 번, 대화 내역 조회 한 번과
+ * 배치로 묶인 INSERT만 실행하는지 검증합니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QuerydslConfig.class, JpaAuditConfig.class, AiChatReportWriter.class})
+class AiChatReportWriterTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private AiChatReportWriter aiChatReportWriter;
+
+    private Statistics statistics;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        member = Member.builder()
+                .email("test@talkydoki.com")
+                .name("테스트")
+                .nickname("테스트")
+                .role(MemberRole.USER)
+                .build();
+        entityManager.persist(member);
+    }
+
+    @Test
+    @DisplayName("피드백 수가 늘어나도 실행되는 쿼리 수는 같다")
+    void savesFeedbacksWithConstantStatements() {
+        List<AiChatHistory> warmUp = createHistories(1);
+        List<AiChatHistory> few = createHistories(5);
+        List<AiChatHistory> many = createHistories(40);
+        entityManager.flush();
+
+        // 레포트, 피드백 ID를 처음 할당받을 때의 시퀀스 조회가 측정에 섞이지 않도록 먼저 저장합니다.
+        save(warmUp, List.of());
+        long fewStatements = save(few, warmUp);
+        long manyStatements = save(many, warmUp);
+
+        // 채팅방 조회, 대화 내역 IN 조회, 레포트 INSERT, 피드백 INSERT 배치
+        assertThat(manyStatements).isEqualTo(fewStatements);
+        assertThat(manyStatements).isLessThanOrEqualTo(4);
+    }
+
+    /**
+     * 대화 내역마다 피드백을 만들어 저장하고, 실행된 쿼리를 검증한 뒤 준비된 쿼리 수를 반환합니다.
+     * 첫 번째 대화 내역에 대한 중복 피드백과 다른 채팅방의 대화 내역에 대한 피드백을 함께 요청합니다.
+     */
+    private long save(List<AiChatHistory> histories, List<AiChatHistory> otherRoomHistories) {
+        List<AiChatFeedbackCreateRequest> feedbacks = new ArrayList<>();
+        histories.forEach(history -> feedbacks.add(new AiChatFeedbackCreateRequest(history.getId(), "피드백 " + history.getId())));
+        feedbacks.add(new AiChatFeedbackCreateRequest(histories.get(0).getId(), "중복 피드백"));
+        otherRoomHistories.forEach(history -> feedbacks.add(new AiChatFeedbackCreateRequest(history.getId(), "다른 채팅방")));
+        AiChatReportCreateRequest request = new AiChatReportCreateRequest("대화 요약", 3.5f, 3.5f, 3.5f, 3.5f, 3.5f, feedbacks);
+        Long roomId = histories.get(0).getAiChatRoom().getId();
+
+        entityManager.clear();
+        statistics.clear();
+        aiChatReportWriter.save(roomId, request);
+        entityManager.flush();
+
+        assertThat(statistics.getEntityStatistics(AiChatRoom.class.getName()).getLoadCount()).isEqualTo(1);
+        assertThat(statistics.getQueryExecutionCount()).isEqualTo(1);
+        assertThat(statistics.getEntityStatistics(AiChatReport.class.getName()).getInsertCount()).isEqualTo(1);
+        assertThat(statistics.getEntityStatistics(AiChatFeedback.class.getName()).getInsertCount()).isEqualTo(histories.size());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private List<AiChatHistory> createHistories(int size) {
+        AiChatRoom aiChatRoom = AiChatRoom.builder()
+                .member(member)
+                .category(AiChatCategory.HOTEL_CHECK_IN)
+                .build();
+        entityManager.persist(aiChatRoom);
+
+        List<AiChatHistory> histories = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            AiChatHistory history = AiChatHistory.builder()
+                    .aiChatRoom(aiChatRoom)
+                    .sender(AiChatSender.USER)
+                    .content("メッセージ " + i)
+                    .build();
+            entityManager.persist(history);
+            histories.add(history);
+        }
+        return histories;
+    }
+}
@@ -0,0 +1,241 @@
+package com.ssafy.backend.domain.aichat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.backend.domain.aichat.buffer.AiChatHistoryWriteBuffer;
+import com.ssafy.backend.domain.aichat.cache.AiChatRoomMetadataCache;
+import com.ssafy.backend.domain.aichat.dto.AiChatMessage;
+import com.ssafy.backend.domain.aichat.entity.AiChatRoom;
+import com.ssafy.backend.domain.aichat.entity.enums.AiChatCategory;
+import com.ssafy.backend.domain.aichat.entity.enums.AiChatSender;
+import com.ssafy.backend.domain.aichat.exception.AiChatErrorCode;
+import com.ssafy.backend.domain.aichat.repository.AiChatHistoryRepository;
+import com.ssafy.backend.domain.aichat.repository.AiChatRoomRepository;
+import com.ssafy.backend.domain.member.entity.Member;
+import com.ssafy.backend.domain.member.repository.MemberRepository;
+import com.ssafy.backend.global.component.openai.OpenAiCommunicationProvider;
+import com.ssafy.backend.global.component.openai.context.GptContextManager;
+import com.ssafy.backend.global.component.openai.duplicate.GptDuplicateTurnDetector;
+import com.ssafy.backend.global.component.openai.dto.GptChatSession;
+import com.ssafy.backend.global.component.openai.dto.GptDialogueMessage;
+import com.ssafy.backend.global.component.openai.dto.GptSetupReference;
+import com.ssafy.backend.global.component.openai.dto.GptSetupRequest;
+import com.ssafy.backend.global.component.openai.evaluation.GptTurnEvaluator;
+import com.ssafy.backend.global.component.openai.parser.GptConversationParser;
+import com.ssafy.backend.global.component.openai.prompt.GptLeanTurnProps;
+import com.ssafy.backend.global.component.openai.prompt.GptOpeningPool;
+import com.ssafy.backend.global.component.openai.prompt.GptPromptRegistry;
+import com.ssafy.backend.global.component.openai.repository.OpenAiRepository;
+import com.ssafy.backend.global.component.openai.speculation.GptSpeculationManager;
+import com.ssafy.backend.global.component.scheduler.BlockingSchedulerProps;
+import com.ssafy.backend.global.component.scheduler.BlockingSchedulers;
+import com.ssafy.backend.global.component.websocket.RoomDispatcherProps;
+import com.ssafy.backend.global.component.websocket.RoomMessageDispatcher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import reactor.blockhound.BlockingOperationError;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * BlockHound를 설치한 상태에서 {@link AiChatServiceImpl#sendAiChatMessageByUser}로 사용자 메시지 하나를 끝까지 처리하며,
+ * 논블로킹 스레드에서 블로킹 호출이 일어나지 않는지 검증합니다.
+ * Redis와 OpenAI 응답은 실제 클라이언트처럼 Reactor의 논블로킹 스레드(parallel)에서 방출하고,
+ * 블로킹 작업(DB 조회, RabbitMQ 전송)은 실제로 스레드를 잠시 멈추게 하여 논블로킹 스레드에서 호출되면 BlockHound가 감지하도록 합니다.
+ */
+class AiChatServiceBlockingTest {
+
+    private static final Long ROOM_ID = 1L;
+    private static final Long MEMBER_ID = 2L;
+    private static final String MESSAGE_ID = "message-1";
+    private static final AiChatCategory CATEGORY = AiChatCategory.values()[0];
+
+    private static final String OPENING = "{\"conversation\":{" +
+            "\"gpt_japanese\":\"いらっしゃいませ。\"," +
+            "\"gpt_korean\":\"어서 오세요.\"," +
+            "\"user_tip_japanese\":\"二名です。\"," +
+            "\"user_tip_korean\":\"두 명입니다.\"}}";
+
+    private static final String RESPONSE = "{\"conversation\":{" +
+            "\"gpt_japanese\":\"かしこまりました。こちらへどうぞ。\"," +
+            "\"gpt_korean\":\"알겠습니다. 이쪽으로 오세요.\"," +
+            "\"user_tip_japanese\":\"ありがとうございます。\"," +
+            "\"user_tip_korean\":\"감사합니다.\"}}";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OpenAiRepository openAiRepository = mock(OpenAiRepository.class);
+    private final AiChatRoomRepository aiChatRoomRepository = mock(AiChatRoomRepository.class);
+    private final AiChatHistoryWriteBuffer aiChatHistoryWriteBuffer = mock(AiChatHistoryWriteBuffer.class);
+    private final RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+    private final OpenAiCommunicationProvider openAiCommunicationProvider = mock(OpenAiCommunicationProvider.class);
+    private final GptContextManager gptContextManager = mock(GptContextManager.class);
+    private final GptPromptRegistry gptPromptRegistry = mock(GptPromptRegistry.class);
+    private final GptSpeculationManager gptSpeculationManager = mock(GptSpeculationManager.class);
+    private final GptDuplicateTurnDetector gptDuplicateTurnDetector = mock(GptDuplicateTurnDetector.class);
+    private final GptTurnEvaluator gptTurnEvaluator = mock(GptTurnEvaluator.class);
+    private final Queue<AiChatMessage> sentMessages = new ConcurrentLinkedQueue<>();
+    private final CountDownLatch userTipSent = new CountDownLatch(1);
+    private final CountDownLatch gptSent = new CountDownLatch(1);
+    private final AtomicLong historyIds = new AtomicLong();
+
+    private BlockingSchedulers blockingSchedulers;
+    private AiChatServiceImpl aiChatService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        blockingSchedulers = new BlockingSchedulers(new BlockingSchedulerProps(2, 2, 100));
+        GptConversationParser gptConversationParser = new GptConversationParser(new ObjectMapper(), meterRegistry);
+        gptConversationParser.parse(OPENING, false); // 파서 초기화(클래스 로딩)는 측정 대상에서 제외합니다.
+
+        AiChatRoom room = AiChatRoom.builder()
+                .id(ROOM_ID)
+                .member(Member.builder().id(MEMBER_ID).build())
+                .category(CATEGORY)
+                .build();
+        when(aiChatRoomRepository.findById(ROOM_ID)).thenAnswer(invocation -> {
+            Thread.sleep(5); // DB 조회
+            return Optional.of(room);
+        });
+        doAnswer(invocation -> {
+            Thread.sleep(1); // RabbitMQ 전송
+            AiChatMessage message = invocation.getArgument(2);
+            sentMessages.add(message);
+            if (message.sender() == AiChatSender.USER_TIP) {
+                userTipSent.countDown();
+            } else if (message.sender() == AiChatSender.GPT) {
+                gptSent.countDown();
+            }
+            return null;
+        }).when(rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class));
+
+        GptSetupReference setupReference = new GptSetupReference(CATEGORY, 1, false);
+        GptChatSession session = new GptChatSession(setupReference, null,
+                List.of(new GptDialogueMessage("assistant", OPENING), new GptDialogueMessage("user", "二名です。")), 0);
+        GptChatSession previousSession = new GptChatSession(setupReference, null,
+                List.of(new GptDialogueMessage("assistant", OPENING)), 0);
+        when(openAiRepository.addAiChatMessageId(ROOM_ID, MESSAGE_ID)).thenReturn(later(true));
+        when(openAiRepository.findAiChatSession(ROOM_ID)).thenReturn(later(previousSession));
+        when(gptDuplicateTurnDetector.isEnabled()).thenReturn(true);
+        when(openAiRepository.findAiChatRoomMetadata(ROOM_ID)).thenReturn(later(null));
+        when(openAiRepository.saveAiChatRoomMetadata(any())).thenReturn(later(true));
+        when(openAiRepository.appendAiChatHistory(eq(ROOM_ID), anyList())).thenReturn(later(session));
+        when(openAiRepository.saveAiChatTranslation(anyLong(), any(), any())).thenReturn(later(true));
+        when(aiChatHistoryWriteBuffer.write(eq(ROOM_ID), any(), anyString()))
+                .thenAnswer(invocation -> Mono.delay(Duration.ofMillis(1)).map(tick -> historyIds.incrementAndGet()));
+        when(gptPromptRegistry.getSetupRequest(setupReference))
+                .thenReturn(new GptSetupRequest("gpt-3.5-turbo-1106", List.of(), 500, 0.7, Map.of()));
+        when(gptSpeculationManager.take(eq(ROOM_ID), anyString(), anyLong())).thenReturn(Mono.empty());
+        when(gptContextManager.buildMessages(eq(ROOM_ID), any(), eq(session))).thenReturn(later(session.history()));
+        when(openAiCommunicationProvider.streamPromptToGpt(any())).thenReturn(Flux.fromArray(chunks(RESPONSE, 8))
+                .delayElements(Duration.ofMillis(1)));
+
+        AiChatRoomMetadataCache aiChatRoomMetadataCache = new AiChatRoomMetadataCache(openAiRepository, aiChatRoomRepository, blockingSchedulers);
+        RoomMessageDispatcher roomMessageDispatcher = new RoomMessageDispatcher(new SimpleAsyncTaskExecutor("room-"),
+                new RoomDispatcherProps(5, Duration.ofSeconds(10), Duration.ofSeconds(1)), meterRegistry);
+        aiChatService = new AiChatServiceImpl(mock(AiChatHistoryRepository.class), aiChatHistoryWriteBuffer,
+                mock(MemberRepository.class), aiChatRoomRepository, aiChatRoomMetadataCache, rabbitTemplate,
+                new TopicExchange("chat.exchange"), openAiCommunicationProvider, openAiRepository, roomMessageDispatcher,
+                blockingSchedulers, gptContextManager, gptPromptRegistry, mock(GptOpeningPool.class), gptConversationParser,
+                gptSpeculationManager, gptDuplicateTurnDetector, gptTurnEvaluator, new GptLeanTurnProps(false, Duration.ofHours(24)),
+                meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        blockingSchedulers.dispose();
+    }
+
+    @Test
+    @DisplayName("BlockHound가 설치되어 논블로킹 스레드의 블로킹 호출을 감지한다")
+    void detectsBlockingCalls() {
+        Throwable error = Mono.fromCallable(() -> {
+                    Thread.sleep(1);
+                    return "";
+                })
+                .subscribeOn(Schedulers.parallel())
+                .then(Mono.<Throwable>empty())
+                .onErrorResume(Mono::just)
+                .block(Duration.ofSeconds(1));
+
+        assertThat(error).isInstanceOf(BlockingOperationError.class);
+    }
+
+    @Test
+    @DisplayName("사용자 메시지 처리 중 논블로킹 스레드에서 블로킹 호출이 일어나지 않는다")
+    void processesUserMessageWithoutBlockingNonBlockingThreads() throws InterruptedException {
+        AiChatMessage userMessage = AiChatMessage.builder()
+                .sender(AiChatSender.USER)
+                .japanese("二名です。")
+                .build();
+
+        aiChatService.sendAiChatMessageByUser(MEMBER_ID, ROOM_ID, MESSAGE_ID, userMessage);
+
+        // 블로킹 호출이 감지되면 처리 흐름이 에러로 끝나 마지막 메시지(모범 답변)가 전송되지 않습니다.
+        assertThat(userTipSent.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(sentMessages).extracting(AiChatMessage::sender)
+                .contains(AiChatSender.USER, AiChatSender.GPT_STREAM, AiChatSender.GPT, AiChatSender.USER_TIP);
+        verify(aiChatRoomRepository).findById(ROOM_ID); // Redis에 없는 채팅방 정보는 JPA 전용 스케줄러에서 조회합니다.
+    }
+
+    @Test
+    @DisplayName("이전 메시지와 중복된 사용자 메시지는 저장하거나 평가하지 않고 중복 안내만 전송한다")
+    void skipsDuplicateUserMessage() throws InterruptedException {
+        AiChatMessage userMessage = AiChatMessage.builder()
+                .sender(AiChatSender.USER)
+                .japanese("二名です。")
+                .build();
+        when(gptDuplicateTurnDetector.isDuplicate(anyList(), eq("二名です。"))).thenReturn(true);
+
+        aiChatService.sendAiChatMessageByUser(MEMBER_ID, ROOM_ID, MESSAGE_ID, userMessage);
+
+        assertThat(gptSent.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(sentMessages).extracting(AiChatMessage::japanese)
+                .containsExactly(AiChatErrorCode.DUPLICATE_USER_MESSAGE.getErrorMessage());
+        verify(aiChatHistoryWriteBuffer, never()).write(any(), any(), anyString());
+        verify(openAiRepository, never()).appendAiChatHistory(any(), anyList());
+        verify(gptTurnEvaluator, never()).evaluateInBackground(any(), any(), any(), any());
+        verify(openAiCommunicationProvider, never()).streamPromptToGpt(any());
+    }
+
+    // Redis와 OpenAI 클라이언트처럼 Reactor의 논블로킹 스레드에서 값을 방출합니다.
+    private static <T> Mono<T> later(T value) {
+        return Mono.delay(Duration.ofMillis(1)).flatMap(tick -> Mono.justOrEmpty(value));
+    }
+
+    private static String[] chunks(String response, int count) {
+        int size = (response.length() + count - 1) / count;
+        String[] chunks = new String[count];
+        for (int i = 0; i < count; i++) {
+            chunks[i] = response.substring(Math.min(i * size, response.length()), Math.min((i + 1) * size, response.length()));
+        }
+        return chunks;
+    }
+}
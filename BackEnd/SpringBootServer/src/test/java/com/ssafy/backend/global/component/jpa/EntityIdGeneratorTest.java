@@ -0,0 +1,130 @@
+package com.ssafy.backend.global.component.jpa;
+
+import com.ssafy.backend.domain.aichat.entity.AiChatHistory;
+import com.ssafy.backend.domain.aichat.entity.AiChatRoom;
+import com.ssafy.backend.domain.aichat.entity.enums.AiChatCategory;
+import com.ssafy.backend.domain.member.entity.Member;
+import com.ssafy.backend.domain.member.entity.enums.MemberRole;
+import com.ssafy.backend.global.common.entity.IdSequence;
+import com.ssafy.backend.global.config.JpaAuditConfig;
+import com.ssafy.backend.global.config.QuerydslConfig;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link IdSequence} 시퀀스 테이블로 ID를 할당할 때 INSERT가 배치로 묶이고,
+ * 시퀀스 테이블에는 ID마다가 아닌 {@link IdSequence#ALLOCATION_SIZE}개마다 한 번만 접근하는지 검증합니다.
+ * 대화 내역은 {@link IdSequence#ORDERED_ALLOCATION_SIZE}로 ID를 하나씩 할당받아 시퀀스 값 순서대로 증가하는지 검증합니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QuerydslConfig.class, JpaAuditConfig.class, EntityIdGenerator.class})
+class EntityIdGeneratorTest {
+
+    private static final int ROWS = 250;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityIdGenerator entityIdGenerator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("ID를 연속으로 할당받아도 시퀀스 테이블은 할당 단위마다 한 번만 갱신된다")
+    void allocatesIdsInBlocks() {
+        entityIdGenerator.nextId(AiChatRoom.class); // 시퀀스 행 초기화
+        long before = nextVal("ai_chat_room");
+
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < ROWS; i++) {
+            ids.add(entityIdGenerator.nextId(AiChatRoom.class));
+        }
+
+        long allocations = (nextVal("ai_chat_room") - before) / IdSequence.ALLOCATION_SIZE;
+        assertThat(ids).hasSize(ROWS);
+        assertThat(allocations).isLessThanOrEqualTo(ROWS / IdSequence.ALLOCATION_SIZE + 1);
+    }
+
+    @Test
+    @DisplayName("대화 내역 ID는 하나씩 할당받아 시퀀스 값 순서대로 1씩 증가한다")
+    void allocatesChatHistoryIdsInOrder() {
+        entityIdGenerator.nextId(AiChatHistory.class); // 시퀀스 행 초기화
+        long before = nextVal("ai_chat_history");
+
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            ids.add(entityIdGenerator.nextId(AiChatHistory.class));
+        }
+
+        assertThat(ids.get(0)).isEqualTo(before);
+        for (int i = 1; i < ids.size(); i++) {
+            assertThat(ids.get(i)).isEqualTo(ids.get(i - 1) + 1);
+        }
+        assertThat(nextVal("ai_chat_history")).isEqualTo(before + ids.size());
+    }
+
+    @Test
+    @DisplayName("N개의 엔티티를 저장하면 INSERT는 배치 크기 단위로 묶여 실행된다")
+    void batchesInserts() {
+        Member member = Member.builder()
+                .email("test@talkydoki.com")
+                .name("테스트")
+                .nickname("테스트")
+                .role(MemberRole.USER)
+                .build();
+        entityManager.persist(member);
+        entityManager.flush();
+        statistics.clear();
+
+        for (int i = 0; i < ROWS; i++) {
+            entityManager.persist(AiChatRoom.builder()
+                    .member(member)
+                    .category(AiChatCategory.HOTEL_CHECK_IN)
+                    .build());
+        }
+        entityManager.flush();
+
+        // INSERT 배치 3개(100, 100, 50) + ID 할당마다 시퀀스 조회/갱신(최대 3개씩)
+        long batches = (ROWS + 99) / 100;
+        long allocations = ROWS / IdSequence.ALLOCATION_SIZE + 1;
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ROWS);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(batches + allocations * 3);
+    }
+
+    private long nextVal(String sequenceName) {
+        return jdbcTemplate.queryForObject("SELECT " + IdSequence.VALUE_COLUMN + " FROM " + IdSequence.TABLE
+                + " WHERE " + IdSequence.PK_COLUMN + " = ?", Long.class, sequenceName);
+    }
+}
@@ -0,0 +1,123 @@
+package com.ssafy.backend.global.component.openai.duplicate;
+
+import com.ssafy.backend.global.component.openai.dto.GptDialogueMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link GptDuplicateTurnDetector}의 정규화, n-gram 자카드 유사도 기준을 검증합니다.
+ * 별도로 지정하지 않으면 기본 설정(n-gram 길이 2, 최소 길이 6, 유사도 기준 0.8)을 사용합니다.
+ */
+class GptDuplicateTurnDetectorTest {
+
+    private static final String MESSAGE = "わたしはとうきょうにすんでいます"; // 서로 다른 2-gram 15개
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final GptDuplicateTurnDetector detector = detector(2, 6, 0.8);
+
+    @Test
+    @DisplayName("이전 사용자 메시지와 같은 메시지는 중복이다")
+    void detectsIdenticalTurn() {
+        assertThat(detector.isDuplicate(history(MESSAGE), MESSAGE)).isTrue();
+        assertThat(meterRegistry.get("openai.duplicate.turns").tag("result", "duplicate").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("문장 부호, 공백, 전각/반각, 대소문자 차이는 무시한다")
+    void ignoresPunctuationAndWidth() {
+        assertThat(detector.isDuplicate(history("東京に住んでいます。Tokyo"), "東京に 住んでいます！ＴＯＫＹＯ")).isTrue();
+    }
+
+    @Test
+    @DisplayName("유사도가 기준 이상인 거의 같은 메시지는 중복이다")
+    void detectsNearDuplicateTurn() {
+        // 2-gram 하나(すよ)만 추가되어 유사도 15/16
+        assertThat(detector.isDuplicate(history(MESSAGE), MESSAGE + "よ")).isTrue();
+    }
+
+    @Test
+    @DisplayName("문장 구조가 같아도 내용이 다르면 중복이 아니다")
+    void allowsSimilarlyShapedTurn() {
+        // 공통 2-gram 9개, 합집합 20개로 유사도 0.45
+        assertThat(detector.isDuplicate(history(MESSAGE), "わたしはおおさかにすんでいます")).isFalse();
+        assertThat(meterRegistry.get("openai.duplicate.turns").tag("result", "unique").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("서로 다른 메시지는 중복이 아니다")
+    void allowsDistinctTurn() {
+        assertThat(detector.isDuplicate(history(MESSAGE), "きょうはあめがふっています")).isFalse();
+    }
+
+    @Test
+    @DisplayName("유사도 기준은 경계값을 포함한다")
+    void includesThreshold() {
+        // 유사도 15/16 = 0.9375
+        assertThat(detector(2, 6, 0.9375).isDuplicate(history(MESSAGE), MESSAGE + "よ")).isTrue();
+        assertThat(detector(2, 6, 0.94).isDuplicate(history(MESSAGE), MESSAGE + "よ")).isFalse();
+    }
+
+    @Test
+    @DisplayName("정규화한 길이가 최소 길이보다 짧은 메시지는 같아도 감지하지 않는다")
+    void skipsShortTurn() {
+        assertThat(detector.isDuplicate(history("はい。"), "はい。")).isFalse();
+        assertThat(detector.isDuplicate(history("？！"), "？！")).isFalse();
+        assertThat(meterRegistry.find("openai.duplicate.turns").counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("n-gram 길이 이하의 메시지는 메시지 전체를 하나의 n-gram으로 비교한다")
+    void comparesTurnShorterThanShingleAsWhole() {
+        GptDuplicateTurnDetector shortDetector = detector(3, 1, 0.8);
+
+        assertThat(shortDetector.isDuplicate(history("はい"), "はい")).isTrue();
+        assertThat(shortDetector.isDuplicate(history("いいえ"), "いいえ")).isTrue();
+        assertThat(shortDetector.isDuplicate(history("はい"), "いいえ")).isFalse();
+        // 한쪽만 n-gram 길이 이하이면 공통 n-gram이 없음
+        assertThat(shortDetector.isDuplicate(history("はい"), "はいはい")).isFalse();
+    }
+
+    @Test
+    @DisplayName("사용자 메시지끼리만 비교한다")
+    void comparesOnlyUserTurns() {
+        List<GptDialogueMessage> history = List.of(new GptDialogueMessage("assistant", MESSAGE));
+
+        assertThat(detector.isDuplicate(history, MESSAGE)).isFalse();
+        assertThat(detector.isDuplicate(List.of(), MESSAGE)).isFalse();
+    }
+
+    @Test
+    @DisplayName("최근 메시지가 아니어도 보관 중인 이전 사용자 메시지와 비교한다")
+    void comparesAllPreviousUserTurns() {
+        assertThat(detector.isDuplicate(history(MESSAGE, "きょうはあめがふっています", "えきはどこにありますか"), MESSAGE)).isTrue();
+    }
+
+    @Test
+    @DisplayName("감지를 사용하지 않으면 항상 중복이 아니다")
+    void skipsWhenDisabled() {
+        GptDuplicateTurnDetector disabled = new GptDuplicateTurnDetector(new GptDuplicateTurnProps(false, 2, 6, 0.8), meterRegistry);
+
+        assertThat(disabled.isDuplicate(history(MESSAGE), MESSAGE)).isFalse();
+        assertThat(disabled.isDuplicate(List.of(), MESSAGE)).isFalse();
+    }
+
+    private GptDuplicateTurnDetector detector(int shingleSize, int minLength, double similarityThreshold) {
+        return new GptDuplicateTurnDetector(new GptDuplicateTurnProps(true, shingleSize, minLength, similarityThreshold), meterRegistry);
+    }
+
+    // 사용자 메시지마다 GPT 응답을 덧붙인, 새 사용자 메시지를 추가하기 전의 대화 내역
+    private List<GptDialogueMessage> history(String... userMessages) {
+        List<GptDialogueMessage> history = new ArrayList<>();
+        for (int i = 0; i < userMessages.length; i++) {
+            history.add(new GptDialogueMessage("user", userMessages[i]));
+            history.add(new GptDialogueMessage("assistant", "そうですか。" + i));
+        }
+        return history;
+    }
+}
@@ -0,0 +1,197 @@
+package com.ssafy.backend.global.component.openai.governor;
+
+import com.ssafy.backend.global.component.openai.enums.GptRequestType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 가짜 OpenAI 엔드포인트에 실제 HTTP 요청을 보내며 {@link GptRequestGovernor}의 동시 요청 수 조절과 대기열 처리를 검증합니다.
+ */
+class GptRequestGovernorTest {
+
+    private static final String COMPLETION = "{\"choices\":[]}";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger maxActive = new AtomicInteger();
+    private final AtomicInteger received = new AtomicInteger();
+
+    private DisposableServer server;
+    private WebClient webClient;
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.disposeNow();
+        }
+    }
+
+    @Test
+    @DisplayName("진행 중인 요청 수는 동시 요청 수 한도를 넘지 않는다")
+    void limitsConcurrentRequests() {
+        startServer(Duration.ofMillis(200), 0, null);
+        GptRequestGovernor governor = governor(3, 1, 3, Duration.ofSeconds(5), Duration.ZERO, Duration.ofSeconds(5), Duration.ofSeconds(10));
+
+        Long completed = Flux.range(0, 12)
+                .flatMap(i -> governor.execute(GptRequestType.CHAT, 100, 100, this::post), 12)
+                .count()
+                .block(Duration.ofSeconds(10));
+
+        assertThat(completed).isEqualTo(12);
+        assertThat(maxActive.get()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("429 응답을 받으면 동시 요청 수 한도를 절반으로 줄이고 Retry-After 동안 요청을 보내지 않는다")
+    void pausesAndDecreasesOnTooManyRequests() {
+        AtomicLong throttledAt = new AtomicLong();
+        AtomicLong nextReceivedAt = new AtomicLong();
+        startServer(Duration.ZERO, 1, order -> {
+            if (order == 1) {
+                throttledAt.set(System.nanoTime());
+            } else if (order == 2) {
+                nextReceivedAt.set(System.nanoTime());
+            }
+        });
+        GptRequestGovernor governor = governor(8, 2, 32, Duration.ofSeconds(5), Duration.ZERO, Duration.ofSeconds(5), Duration.ofSeconds(10));
+
+        assertThatThrownBy(() -> governor.execute(GptRequestType.CHAT, 100, 100, this::post).block(Duration.ofSeconds(5)))
+                .isInstanceOf(WebClientResponseException.TooManyRequests.class);
+        governor.execute(GptRequestType.CHAT, 100, 100, this::post).block(Duration.ofSeconds(5));
+
+        assertThat(concurrencyLimit()).isLessThan(8);
+        assertThat(Duration.ofNanos(nextReceivedAt.get() - throttledAt.get())).isGreaterThanOrEqualTo(Duration.ofMillis(900));
+    }
+
+    @Test
+    @DisplayName("생성할 토큰이 많은 요청은 오래 걸려도 과부하로 판단하지 않는다")
+    void scalesLatencyThresholdByMaxTokens() {
+        startServer(Duration.ofMillis(400), 0, null);
+        GptRequestGovernor governor = governor(4, 1, 32, Duration.ofMillis(100), Duration.ofMillis(1), Duration.ofSeconds(5), Duration.ofSeconds(10));
+
+        // 지연 기준 100ms + 1000 x 1ms = 1.1s
+        governor.execute(GptRequestType.REPORT, 2000, 1000, this::post).block(Duration.ofSeconds(5));
+        assertThat(concurrencyLimit()).isGreaterThan(4);
+
+        // 지연 기준 100ms + 10 x 1ms = 110ms
+        governor.execute(GptRequestType.CHAT, 100, 10, this::post).block(Duration.ofSeconds(5));
+        assertThat(concurrencyLimit()).isLessThan(4);
+    }
+
+    @Test
+    @DisplayName("스트리밍 요청은 전체 시간이 아닌 첫 조각까지의 시간으로 지연을 판단한다")
+    void judgesStreamsByFirstResponse() {
+        server = HttpServer.create()
+                .port(0)
+                .route(routes -> routes.post("/chat/completions", (request, response) -> request.receive().then()
+                        .then(response.sendString(Flux.interval(Duration.ZERO, Duration.ofMillis(200))
+                                .take(4)
+                                .map(i -> "chunk" + i + "\n")).then())))
+                .bindNow();
+        webClient = WebClient.create("http://localhost:" + server.port());
+        GptRequestGovernor governor = governor(4, 1, 32, Duration.ofSeconds(5), Duration.ZERO, Duration.ofMillis(300), Duration.ofSeconds(10));
+
+        Long chunks = governor.executeMany(GptRequestType.CHAT, 100, () -> webClient.post()
+                        .uri("/chat/completions")
+                        .retrieve()
+                        .bodyToFlux(String.class))
+                .count()
+                .block(Duration.ofSeconds(5));
+
+        assertThat(chunks).isPositive();
+        assertThat(concurrencyLimit()).isGreaterThan(4);
+    }
+
+    @Test
+    @DisplayName("대화 요청이 계속 몰려도 오래 기다린 백그라운드 요청은 처리된다")
+    void agesBackgroundRequests() {
+        startServer(Duration.ofMillis(100), 0, null);
+        GptRequestGovernor governor = governor(1, 1, 1, Duration.ofSeconds(5), Duration.ZERO, Duration.ofSeconds(5), Duration.ofMillis(300));
+
+        // 처리 속도(초당 10개)보다 빠르게(초당 20개) 3초 동안 대화 요청을 보냅니다.
+        Flux.interval(Duration.ofMillis(50))
+                .take(60)
+                .flatMap(i -> governor.execute(GptRequestType.CHAT, 100, 100, this::post)
+                        .onErrorResume(e -> Mono.empty()))
+                .subscribe();
+
+        long startedAt = System.nanoTime();
+        String report = Mono.delay(Duration.ofMillis(100))
+                .then(governor.execute(GptRequestType.REPORT, 100, 100, this::post))
+                .block(Duration.ofSeconds(5));
+
+        assertThat(report).isEqualTo(COMPLETION);
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(2));
+    }
+
+    /**
+     * 가짜 OpenAI 엔드포인트를 시작합니다.
+     *
+     * @param delay 응답 지연 시간
+     * @param throttledRequests 처음 몇 개의 요청에 429 응답(Retry-After: 1)을 보낼지
+     * @param onReceived 요청을 받을 때마다 받은 순서(1부터)로 호출할 함수
+     */
+    private void startServer(Duration delay, int throttledRequests, IntConsumer onReceived) {
+        server = HttpServer.create()
+                .port(0)
+                .route(routes -> routes.post("/chat/completions", (request, response) -> request.receive().then()
+                        .then(Mono.defer(() -> {
+                            int order = received.incrementAndGet();
+                            if (onReceived != null) {
+                                onReceived.accept(order);
+                            }
+                            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                            if (order <= throttledRequests) {
+                                active.decrementAndGet();
+                                return response.status(429)
+                                        .header("Retry-After", "1")
+                                        .sendString(Mono.just("{}"))
+                                        .then();
+                            }
+                            return Mono.delay(delay)
+                                    .then(Mono.defer(() -> {
+                                        active.decrementAndGet();
+                                        return response.header("Content-Type", "application/json")
+                                                .sendString(Mono.just(COMPLETION))
+                                                .then();
+                                    }));
+                        }))))
+                .bindNow();
+        webClient = WebClient.create("http://localhost:" + server.port());
+    }
+
+    private Mono<String> post() {
+        return webClient.post()
+                .uri("/chat/completions")
+                .retrieve()
+                .bodyToMono(String.class);
+    }
+
+    private GptRequestGovernor governor(int initialConcurrency, int minConcurrency, int maxConcurrency,
+                                        Duration latencyThreshold, Duration latencyPerOutputToken,
+                                        Duration firstTokenLatencyThreshold, Duration backgroundAgingTime) {
+        GptGovernorProps props = new GptGovernorProps(true, 500, 60000, initialConcurrency, minConcurrency, maxConcurrency,
+                latencyThreshold, latencyPerOutputToken, firstTokenLatencyThreshold, backgroundAgingTime, Duration.ofSeconds(5));
+        return new GptRequestGovernor(props, meterRegistry);
+    }
+
+    private double concurrencyLimit() {
+        return meterRegistry.get("openai.governor.concurrency.limit").gauge().value();
+    }
+}
@@ -0,0 +1,87 @@
+package com.ssafy.backend.global.component.openai.hedge;
+
+import com.ssafy.backend.global.component.openai.enums.GptRequestType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link GptHedgedRequestExecutor}가 중복 요청을 보낸 뒤 원래 요청이 실패해도 중복 요청의 결과를 기다리는지 검증합니다.
+ * 응답 시간 표본 하나만으로 중복 요청을 보내도록 설정하며, 중복 요청까지의 대기 시간은 최소 대기 시간(100ms)입니다.
+ */
+class GptHedgedRequestExecutorTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final GptHedgedRequestExecutor executor = new GptHedgedRequestExecutor(
+            new GptHedgeProps(true, 0.9, 1.0, 10, 1, Duration.ofMillis(100)), meterRegistry);
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        // 응답 시간 표본을 쌓아 다음 요청부터 중복 요청을 보내게 합니다.
+        executor.execute(GptRequestType.CHAT, () -> Mono.just("warm-up")).block(TIMEOUT);
+        executor.executeMany(GptRequestType.CHAT, () -> Flux.just("warm-up")).blockLast(TIMEOUT);
+    }
+
+    @Test
+    @DisplayName("중복 요청을 보낸 뒤 원래 요청이 실패하면 중복 요청의 응답을 사용한다")
+    void usesHedgeWhenPrimaryFailsAfterHedgeFired() {
+        String result = executor.<String>execute(GptRequestType.CHAT, () -> calls.incrementAndGet() == 1
+                ? Mono.delay(Duration.ofMillis(300)).then(Mono.<String>error(new IOException("primary")))
+                : Mono.delay(Duration.ofMillis(500)).thenReturn("hedge")).block(TIMEOUT);
+
+        assertThat(result).isEqualTo("hedge");
+        assertThat(meterRegistry.get("openai.hedge.won").tag("type", "CHAT").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("중복 요청을 보내기 전에 원래 요청이 실패하면 바로 실패한다")
+    void failsFastBeforeHedgeFired() {
+        assertThatThrownBy(() -> executor.<String>execute(GptRequestType.CHAT, () -> {
+            calls.incrementAndGet();
+            return Mono.error(new IOException("primary"));
+        }).block(TIMEOUT)).hasCauseInstanceOf(IOException.class);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("원래 요청과 중복 요청이 모두 실패하면 원래 요청의 에러를 전달한다")
+    void propagatesPrimaryErrorWhenBothFail() {
+        assertThatThrownBy(() -> executor.<String>execute(GptRequestType.CHAT, () -> calls.incrementAndGet() == 1
+                ? Mono.delay(Duration.ofMillis(300)).then(Mono.<String>error(new IOException("primary")))
+                : Mono.delay(Duration.ofMillis(100)).then(Mono.<String>error(new IOException("hedge")))).block(TIMEOUT))
+                .hasRootCauseMessage("primary");
+    }
+
+    @Test
+    @DisplayName("스트리밍은 첫 조각 전에 원래 요청이 실패하면 중복 요청의 스트림을 사용한다")
+    void usesHedgeStreamWhenPrimaryFailsBeforeFirstChunk() {
+        List<String> chunks = executor.<String>executeMany(GptRequestType.CHAT, () -> calls.incrementAndGet() == 1
+                ? Mono.delay(Duration.ofMillis(300)).thenMany(Flux.<String>error(new IOException("primary")))
+                : Mono.delay(Duration.ofMillis(300)).thenMany(Flux.just("a", "b"))).collectList().block(TIMEOUT);
+
+        assertThat(chunks).containsExactly("a", "b");
+    }
+
+    @Test
+    @DisplayName("스트리밍은 조각을 보내기 시작한 스트림의 실패를 그대로 전달한다")
+    void propagatesErrorAfterFirstChunk() {
+        assertThatThrownBy(() -> executor.<String>executeMany(GptRequestType.CHAT, () -> calls.incrementAndGet() == 1
+                ? Flux.concat(Flux.just("a"), Mono.delay(Duration.ofMillis(300)).then(Mono.<String>error(new IOException("primary"))))
+                : Mono.delay(Duration.ofMillis(50)).thenMany(Flux.just("b"))).collectList().block(TIMEOUT))
+                .hasRootCauseMessage("primary");
+    }
+}
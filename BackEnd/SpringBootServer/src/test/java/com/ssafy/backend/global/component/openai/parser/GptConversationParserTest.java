@@ -0,0 +1,83 @@
+package com.ssafy.backend.global.component.openai.parser;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.backend.global.component.openai.dto.Conversation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link GptConversationParser}가 채팅방 모드에 맞는 필수 필드를 확인하는지 검증합니다.
+ */
+class GptConversationParserTest {
+
+    private static final String FULL = "{\"conversation\":{" +
+            "\"gpt_japanese\":\"いらっしゃいませ。\"," +
+            "\"gpt_korean\":\"어서 오세요.\"," +
+            "\"user_tip_japanese\":\"二名です。\"," +
+            "\"user_tip_korean\":\"두 명입니다.\"}}";
+
+    private static final String JAPANESE_ONLY = "{\"conversation\":{\"gpt_japanese\":\"いらっしゃいませ。\"}}";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final GptConversationParser parser = new GptConversationParser(new ObjectMapper(), meterRegistry);
+
+    @Test
+    @DisplayName("일반 모드는 번역과 모범 답변까지 모두 있어야 한다")
+    void requiresAllFieldsInFullMode() throws IOException {
+        Conversation conversation = parser.parse(FULL, false);
+
+        assertThat(conversation.userTipJapaneseResponse()).isEqualTo("二名です。");
+        assertThatThrownBy(() -> parser.parse(JAPANESE_ONLY, false)).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> parser.parse(FULL.replace("\"user_tip_korean\":\"두 명입니다.\"", "\"user_tip_korean\":\"\""), false))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("간소화 모드는 일본어 대답만 있으면 된다")
+    void requiresJapaneseOnlyInLeanMode() throws IOException {
+        assertThat(parser.parse(JAPANESE_ONLY, true).gptJapaneseResponse()).isEqualTo("いらっしゃいませ。");
+        assertThat(parser.parse(FULL, true).gptJapaneseResponse()).isEqualTo("いらっしゃいませ。");
+        assertThatThrownBy(() -> parser.parse("{\"conversation\":{\"gpt_korean\":\"어서 오세요.\"}}", true))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("일반 모드에서 일본어 대답 뒤에 끊긴 응답은 간소화 모드 응답으로 받아들이지 않는다")
+    void rejectsTruncatedFullResponse() {
+        String truncated = "{\"conversation\":{\"gpt_japanese\":\"いらっしゃいませ。\",";
+
+        assertThat(parser.isValid(truncated, false)).isFalse();
+        assertThat(meterRegistry.get("openai.parse.results").tag("result", "failed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("코드 블록 기호, 불필요한 쉼표, 문자열 안의 줄바꿈, 빠진 마지막 괄호는 복구한다")
+    void repairsStructuralErrors() throws IOException {
+        String fenced = "```json\n" + FULL.replace("\"}}", "\",}}") + "\n```";
+        String rawNewline = FULL.replace("いらっしゃいませ。", "いらっしゃいませ。\nどうぞ。");
+        String missingLastBrace = FULL.substring(0, FULL.length() - 1);
+
+        assertThat(parser.parse(fenced, false).userTipKoreanResponse()).isEqualTo("두 명입니다.");
+        assertThat(parser.parse(rawNewline, false).gptJapaneseResponse()).isEqualTo("いらっしゃいませ。\nどうぞ。");
+        assertThat(GptJsonRepairer.repair(missingLastBrace)).isEqualTo(FULL);
+        assertThat(meterRegistry.get("openai.parse.results").tag("result", "repaired").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("중간에 끊긴 문자열이나 값은 내용을 채워 복구하지 않는다")
+    void rejectsTruncatedValue() {
+        String truncatedString = "{\"conversation\":{\"gpt_japanese\":\"いらっしゃい";
+        String truncatedValue = "{\"conversation\":{\"gpt_japanese\":";
+
+        assertThatThrownBy(() -> parser.parse(truncatedString, true)).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> parser.parse(truncatedValue, true)).isInstanceOf(IOException.class);
+        assertThat(GptJsonRepairer.repair(truncatedString)).isEqualTo(truncatedString);
+        assertThat(meterRegistry.find("openai.parse.results").tag("result", "repaired").counter()).isNull();
+    }
+}
@@ -0,0 +1,121 @@
+package com.ssafy.backend.global.component.openai.report;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.backend.domain.aichat.dto.AiChatFeedbackCreateRequest;
+import com.ssafy.backend.domain.aichat.dto.AiChatReportCreateRequest;
+import com.ssafy.backend.domain.aichat.entity.AiChatHistory;
+import com.ssafy.backend.domain.aichat.entity.enums.AiChatSender;
+import com.ssafy.backend.global.component.openai.OpenAiCommunicationProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * {@link GptChunkedReportGenerator}의 구간 나누기, 구간별 레포트 합치기, 가중 평균을 검증합니다.
+ * 구간 하나에 메시지 4개를 평가하고 이전 메시지 2개를 문맥으로 덧붙이며,
+ * 대화 내역 ID가 홀수인 메시지는 사용자, 짝수인 메시지는 GPT 메시지입니다.
+ */
+class GptChunkedReportGeneratorTest {
+
+    private final OpenAiCommunicationProvider openAiCommunicationProvider = mock(OpenAiCommunicationProvider.class);
+    private final GptChunkedReportGenerator generator = new GptChunkedReportGenerator(
+            new GptReportChunkProps(4, 2, 2), openAiCommunicationProvider, new ObjectMapper());
+
+    @Test
+    @DisplayName("대화를 구간으로 나누고, 구간 앞에 덧붙인 문맥 메시지는 평가하지 않는다")
+    void splitsWithOverlap() {
+        List<GptChunkedReportGenerator.Chunk> chunks = generator.split(conversation(10));
+
+        assertThat(chunks).hasSize(3);
+        assertThat(idsOf(chunks.get(0))).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(chunks.get(0).contextMessages()).isZero();
+        assertThat(chunks.get(0).evaluatedUserIds()).containsExactly(1L, 3L);
+
+        assertThat(idsOf(chunks.get(1))).containsExactly(3L, 4L, 5L, 6L, 7L, 8L);
+        assertThat(chunks.get(1).contextMessages()).isEqualTo(2);
+        assertThat(chunks.get(1).evaluatedUserIds()).containsExactly(5L, 7L);
+
+        // 마지막 구간은 남은 메시지만 평가합니다.
+        assertThat(idsOf(chunks.get(2))).containsExactly(7L, 8L, 9L, 10L);
+        assertThat(chunks.get(2).contextMessages()).isEqualTo(2);
+        assertThat(chunks.get(2).evaluatedUserIds()).containsExactly(9L);
+    }
+
+    @Test
+    @DisplayName("모든 사용자 메시지는 정확히 한 구간에서만 평가된다")
+    void evaluatesEachUserTurnOnce() {
+        List<Long> evaluated = new ArrayList<>();
+        generator.split(conversation(9)).forEach(chunk -> evaluated.addAll(chunk.evaluatedUserIds()));
+
+        assertThat(evaluated).containsExactly(1L, 3L, 5L, 7L, 9L);
+    }
+
+    @Test
+    @DisplayName("점수는 구간에서 평가한 사용자 메시지 수로 가중 평균하고, 점수가 없는 구간은 제외한다")
+    void weightsScoresByEvaluatedUserTurns() {
+        List<GptChunkedReportGenerator.Chunk> chunks = generator.split(conversation(10)); // 사용자 메시지 2개, 2개, 1개
+        List<AiChatReportCreateRequest> reports = List.of(report(4f, List.of()), report(2f, List.of()), report(5f, List.of()));
+
+        // (4 * 2 + 2 * 2 + 5 * 1) / 5
+        assertThat(generator.weightedAverage(chunks, reports, AiChatReportCreateRequest::vocabularyScore)).isEqualTo(3.4f);
+        assertThat(generator.weightedAverage(chunks, List.of(report(4f, List.of()), report(null, List.of()), report(5f, List.of())),
+                AiChatReportCreateRequest::vocabularyScore)).isEqualTo(4.33f);
+    }
+
+    @Test
+    @DisplayName("구간별 피드백은 그 구간에서 평가한 사용자 메시지에 대한 것만 메시지마다 처음 하나씩 사용한다")
+    void mergesOwnedFeedbacks() {
+        when(openAiCommunicationProvider.sendReportPromptToGPT(any()))
+                .thenReturn(Mono.just("{\"conversationSummary\":\"전체 요약\"}"));
+        List<GptChunkedReportGenerator.Chunk> chunks = generator.split(conversation(10));
+        List<AiChatReportCreateRequest> reports = List.of(
+                report(4f, List.of(feedback(1L, "첫 구간 1"), feedback(1L, "첫 구간 1 중복"), feedback(3L, "첫 구간 3"))),
+                report(2f, List.of(feedback(3L, "문맥 3"), feedback(5L, "둘째 구간 5"), feedback(null, "ID 없음"), feedback(4L, "GPT 메시지"))),
+                report(5f, List.of(feedback(9L, "셋째 구간 9"), feedback(11L, "없는 메시지"))));
+
+        AiChatReportCreateRequest merged = generator.merge(chunks, reports).block(Duration.ofSeconds(5));
+
+        assertThat(merged.conversationSummary()).isEqualTo("전체 요약");
+        assertThat(merged.vocabularyScore()).isEqualTo(3.4f);
+        assertThat(merged.feedbacks())
+                .extracting(AiChatFeedbackCreateRequest::chatId, AiChatFeedbackCreateRequest::content)
+                .containsExactly(
+                        tuple(1L, "첫 구간 1"),
+                        tuple(3L, "첫 구간 3"),
+                        tuple(5L, "둘째 구간 5"),
+                        tuple(9L, "셋째 구간 9"));
+    }
+
+    private List<AiChatHistory> conversation(int size) {
+        return LongStream.rangeClosed(1, size)
+                .mapToObj(id -> AiChatHistory.builder()
+                        .id(id)
+                        .sender(id % 2 == 1 ? AiChatSender.USER : AiChatSender.GPT)
+                        .content("メッセージ " + id)
+                        .build())
+                .toList();
+    }
+
+    private List<Long> idsOf(GptChunkedReportGenerator.Chunk chunk) {
+        return chunk.messages().stream().map(AiChatHistory::getId).toList();
+    }
+
+    private AiChatReportCreateRequest report(Float score, List<AiChatFeedbackCreateRequest> feedbacks) {
+        return new AiChatReportCreateRequest("구간 요약", score, score, score, score, score, feedbacks);
+    }
+
+    private AiChatFeedbackCreateRequest feedback(Long chatId, String content) {
+        return new AiChatFeedbackCreateRequest(chatId, content);
+    }
+}
@@ -1,3 +1,4 @@
+import { ReportJob } from "@/interface/AiChatReportInterface";
 import { SendMessagePayload } from "@/interface/ChatInterface";
 import { customAxios } from "@/util/auth/customAxios";
 import { useMutation } from "@tanstack/react-query";
@@ -55,14 +56,39 @@ export const useChatStart = () => {
 };
 
 //레포트 작성
+// 작성 요청은 작업만 등록하고 바로 응답하므로, 작업이 끝날 때까지 상태를 조회해 완성된 레포트 ID를 받음
+
+const REPORT_JOB_POLL_INTERVAL = 2000;
+const REPORT_JOB_TIMEOUT = 180000;
+
+const waitForReportJob = async (roomId: string | undefined) => {
+  const deadline = Date.now() + REPORT_JOB_TIMEOUT;
+  while (Date.now() < deadline) {
+    await new Promise((resolve) => setTimeout(resolve, REPORT_JOB_POLL_INTERVAL));
+    const { data } = await customAxios.get(`report/job/${roomId}`);
+    const job = data.dataBody as ReportJob;
+    if (job.status === "COMPLETED") {
+      return job;
+    }
+    if (job.status === "FAILED") {
+      throw new Error("리포트 작성 실패");
+    }
+  }
+  throw new Error("리포트 작성 시간 초과");
+};
 
 export const useReportCreate = () => {
   return useMutation({
-    mutationFn: (roomId: string | undefined) => {
-      return customAxios.post(`report/create/${roomId}`);
+    mutationFn: async (roomId: string | undefined) => {
+      const { data } = await customAxios.post(`report/create/${roomId}`);
+      const job = data.dataBody as ReportJob;
+      if (job.status === "COMPLETED") {
+        return job;
+      }
+      return waitForReportJob(roomId);
     },
-    onSuccess: (res) => {
-      console.log("리포트 작성 성공 및 데이터", res);
+    onSuccess: (job) => {
+      console.log("리포트 작성 성공 및 데이터", job);
     },
     onError: (err) => {
       console.log("리포트 작성 실패 및 데이터", err);
@@ -55,17 +55,8 @@ const ChatFooter: React.FC<ChatFooterProps> = ({
           isInfo: true,
         });
         reportCreate(roomId, {
-          onSuccess: ({
-            data: {
-              dataBody: { reportId },
-            },
-          }: {
-            data: {
-              dataBody: {
-                reportId: number;
-              };
-            };
-          }) => {
+          // 레포트 생성 작업이 완료된 뒤에 호출됨
+          onSuccess: ({ reportId }) => {
             setIsModalOn(false);
             navigate(`/aichatreport`, {
               state: { redirect: "/aichatlist", reportId: reportId },
@@ -32,3 +32,13 @@ export interface Report {
   ContextScore: number;
   createdAt: string;
 }
+
+// 레포트 생성 작업 상태 (reportId는 완료 전에는 null)
+export type ReportJobStatus = "QUEUED" | "RUNNING" | "COMPLETED" | "FAILED";
+
+export interface ReportJob {
+  jobId: string;
+  roomId: number;
+  status: ReportJobStatus;
+  reportId: number | null;
+}